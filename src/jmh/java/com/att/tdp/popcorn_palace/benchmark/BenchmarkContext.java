@@ -0,0 +1,29 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.PopcornPalaceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application without a web server for benchmarks that go through the services
+ * and repositories. Each benchmark gets its own in-memory H2 database, created from
+ * schema.sql and seeded from data.sql like a normal start, with SQL and info logging off
+ * so that log output is not what gets measured.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String database) {
+        return new SpringApplicationBuilder(PopcornPalaceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.BookingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BookingService#createBooking} end to end against embedded H2: the showtime lookup,
+ * seat validation, the in-memory seat claim and the committed insert. Every call books a
+ * free seat; when a thread has filled its showtime it schedules another one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BookingBenchmark {
+    // IMAX is seeded by data.sql with 20 rows of 25 seats
+    private static final String THEATER = "IMAX";
+    private static final int SEATS = 500;
+    private static final long MOVIE_ID = 1L;
+
+    @State(Scope.Benchmark)
+    public static class Application {
+        private final AtomicLong showtimes = new AtomicLong();
+        ConfigurableApplicationContext context;
+        BookingService bookingService;
+        ShowtimeRepository showtimeRepository;
+
+        @Setup(Level.Trial)
+        public void start() {
+            context = BenchmarkContext.start("booking-benchmark");
+            bookingService = context.getBean(BookingService.class);
+            showtimeRepository = context.getBean(ShowtimeRepository.class);
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            context.close();
+        }
+
+        Long scheduleShowtime() {
+            // Showtimes an hour apart never overlap, whichever thread schedules them
+            LocalDateTime start = LocalDateTime.of(2030, 1, 1, 0, 0).plusHours(showtimes.getAndIncrement());
+            Showtime showtime = new Showtime(null, 12.5, MOVIE_ID, THEATER, start, start.plusMinutes(50));
+            return showtimeRepository.save(showtime).getId();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Seats {
+        private Long showtimeId;
+        private int lastSeat = SEATS;
+        private final String userId = "benchmark-" + Thread.currentThread().threadId();
+
+        BookingDTO next(Application application) {
+            if (lastSeat == SEATS) {
+                showtimeId = application.scheduleShowtime();
+                lastSeat = 0;
+            }
+            BookingDTO bookingDTO = new BookingDTO();
+            bookingDTO.setShowtimeId(showtimeId);
+            bookingDTO.setSeatNumber(++lastSeat);
+            bookingDTO.setUserId(userId);
+            return bookingDTO;
+        }
+    }
+
+    @Benchmark
+    public Booking createBooking(Application application, Seats seats) {
+        return application.bookingService.createBooking(seats.next(application));
+    }
+}
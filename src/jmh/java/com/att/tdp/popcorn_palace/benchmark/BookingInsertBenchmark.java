@@ -0,0 +1,86 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched inserts into the bookings table through {@link BookingRepository}, so every row
+ * takes its primary key from the time-ordered {@code @UuidGenerator} the entity declares.
+ * Each invocation books all seats of a fresh showtime in one transaction; the table keeps
+ * growing across iterations, so page splits in the primary key index show up as the
+ * throughput drops. Reported per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BookingInsertBenchmark {
+    // IMAX is seeded by data.sql with 20 rows of 25 seats
+    private static final String THEATER = "IMAX";
+    private static final int SEATS = 500;
+    private static final long MOVIE_ID = 1L;
+    private static final String USER_ID = "84438967-f68f-4fa0-b620-0f08217e76af";
+
+    private ConfigurableApplicationContext context;
+    private BookingRepository bookingRepository;
+    private ShowtimeRepository showtimeRepository;
+    private TransactionTemplate transactionTemplate;
+    private long showtimes;
+    private List<Booking> bookings;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start("booking-insert-benchmark");
+        bookingRepository = context.getBean(BookingRepository.class);
+        showtimeRepository = context.getBean(ShowtimeRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBatch() {
+        // Showtimes an hour apart never overlap
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 0, 0).plusHours(showtimes++);
+        Long showtimeId = showtimeRepository.save(
+                new Showtime(null, 12.5, MOVIE_ID, THEATER, start, start.plusMinutes(50))).getId();
+        bookings = new ArrayList<>(SEATS);
+        for (int seat = 1; seat <= SEATS; seat++) {
+            bookings.add(new Booking(null, showtimeId, seat, USER_ID));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEATS)
+    public List<Booking> insertBookings() {
+        return transactionTemplate.execute(status -> bookingRepository.saveAllAndFlush(bookings));
+    }
+}
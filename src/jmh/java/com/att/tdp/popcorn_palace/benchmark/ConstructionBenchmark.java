@@ -0,0 +1,87 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.att.tdp.popcorn_palace.dto.TheaterDTO;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.model.Theater;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building entities from request DTOs, as every create and update does. The DTOs are built
+ * once; each call constructs one entity, which JMH consumes so it is not optimized away.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConstructionBenchmark {
+    private BookingDTO bookingDTO;
+    private MovieDTO movieDTO;
+    private ShowtimeDTO showtimeDTO;
+    private TheaterDTO theaterDTO;
+
+    @Setup
+    public void createDtos() {
+        bookingDTO = new BookingDTO();
+        bookingDTO.setShowtimeId(1L);
+        bookingDTO.setSeatNumber(42);
+        bookingDTO.setUserId("84438967-f68f-4fa0-b620-0f08217e76af");
+
+        movieDTO = new MovieDTO();
+        movieDTO.setTitle("Inception");
+        movieDTO.setGenre("Sci-Fi");
+        movieDTO.setDuration(148);
+        movieDTO.setRating(8.8);
+        movieDTO.setReleaseYear(2010);
+
+        showtimeDTO = new ShowtimeDTO();
+        showtimeDTO.setMovieId(1L);
+        showtimeDTO.setPrice(12.5);
+        showtimeDTO.setTheater("IMAX");
+        showtimeDTO.setStartTime(LocalDateTime.of(2030, 1, 1, 20, 0));
+        showtimeDTO.setEndTime(LocalDateTime.of(2030, 1, 1, 22, 30));
+
+        theaterDTO = new TheaterDTO();
+        theaterDTO.setName("IMAX");
+        theaterDTO.setRows(20);
+        theaterDTO.setSeatsPerRow(25);
+    }
+
+    @Benchmark
+    public Booking booking() {
+        return new Booking(bookingDTO);
+    }
+
+    @Benchmark
+    public Movie movie() {
+        return new Movie(movieDTO);
+    }
+
+    @Benchmark
+    public Showtime showtime() {
+        return new Showtime(showtimeDTO);
+    }
+
+    @Benchmark
+    public Theater theater() {
+        return new Theater(theaterDTO);
+    }
+}
@@ -0,0 +1,90 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ShowtimeRepository#findOverlappingShowtimes}, the conflict check run for every new
+ * or moved showtime, over a schedule of {@code showtimes} back-to-back screenings spread
+ * across the three seeded theaters. Each call asks about a random two-hour window inside
+ * the schedule; the windows come from a fixed seed so every run asks the same questions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OverlapBenchmark {
+    private static final String[] THEATERS = {"Theater 1", "Theater 2", "IMAX"};
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final int SLOT_MINUTES = 150;
+    private static final int WINDOWS = 1024;
+
+    @Param({"1000", "100000"})
+    public int showtimes;
+
+    private ConfigurableApplicationContext context;
+    private ShowtimeRepository showtimeRepository;
+    private final String[] theaters = new String[WINDOWS];
+    private final LocalDateTime[] starts = new LocalDateTime[WINDOWS];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start("overlap-benchmark-" + showtimes);
+        showtimeRepository = context.getBean(ShowtimeRepository.class);
+        seed(context.getBean(JdbcTemplate.class));
+
+        SplittableRandom random = new SplittableRandom(42);
+        int slotsPerTheater = showtimes / THEATERS.length;
+        for (int i = 0; i < WINDOWS; i++) {
+            theaters[i] = THEATERS[random.nextInt(THEATERS.length)];
+            starts[i] = FIRST_START.plusMinutes((long) random.nextInt(slotsPerTheater) * SLOT_MINUTES + random.nextInt(SLOT_MINUTES));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Showtime> findOverlappingShowtimes() {
+        int window = next++ & (WINDOWS - 1);
+        return showtimeRepository.findOverlappingShowtimes(theaters[window], starts[window], starts[window].plusHours(2));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>(showtimes);
+        for (int i = 0; i < showtimes; i++) {
+            LocalDateTime start = FIRST_START.plusMinutes((long) (i / THEATERS.length) * SLOT_MINUTES);
+            rows.add(new Object[]{1L, THEATERS[i % THEATERS.length], Timestamp.valueOf(start),
+                    Timestamp.valueOf(start.plusMinutes(SLOT_MINUTES - 10)), 12.5});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO showtimes (movie_id, theater, start_time, end_time, price) VALUES (?, ?, ?, ?, ?)", rows);
+    }
+}
@@ -0,0 +1,84 @@
+package com.att.tdp.popcorn_palace.benchmark;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing {@link Movie} and {@link Showtime} response bodies to JSON, one entity and a
+ * list of {@code size} entities. The mapper is configured like the application's, with
+ * Java time support and ISO dates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SerializationBenchmark {
+
+    @Param({"100"})
+    public int size;
+
+    private ObjectWriter writer;
+    private Movie movie;
+    private Showtime showtime;
+    private List<Movie> movies;
+    private List<Showtime> showtimes;
+
+    @Setup
+    public void createBodies() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        movies = new ArrayList<>(size);
+        showtimes = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+        for (int i = 0; i < size; i++) {
+            movies.add(new Movie((long) i, "Movie " + i, "Sci-Fi", 90 + i % 60, 5.0 + i % 50 / 10.0, 1980 + i % 45));
+            showtimes.add(new Showtime((long) i, 12.5, (long) i, "IMAX", start.plusHours(3L * i), start.plusHours(3L * i + 2)));
+        }
+        movie = movies.get(0);
+        showtime = showtimes.get(0);
+    }
+
+    @Benchmark
+    public byte[] movie() throws JsonProcessingException {
+        return writer.writeValueAsBytes(movie);
+    }
+
+    @Benchmark
+    public byte[] showtime() throws JsonProcessingException {
+        return writer.writeValueAsBytes(showtime);
+    }
+
+    @Benchmark
+    public byte[] movieList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(movies);
+    }
+
+    @Benchmark
+    public byte[] showtimeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(showtimes);
+    }
+}
@@ -0,0 +1,44 @@
+package com.att.tdp.popcorn_palace.config;
+
+import com.att.tdp.popcorn_palace.limiter.AdaptiveConcurrencyLimiter;
+import com.att.tdp.popcorn_palace.limiter.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers a concurrency limit filter per endpoint group. A disabled group gets no limiter
+ * at all, so it publishes no {@code http.concurrency.*} meters either.
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "popcorn-palace.concurrency-limit.bookings.enabled", havingValue = "true",
+            matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> bookingsConcurrencyLimitFilter(
+            ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        return registration("bookings", properties.getBookings(), meterRegistry, "/bookings/*");
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "popcorn-palace.concurrency-limit.showtimes.enabled", havingValue = "true")
+    public FilterRegistrationBean<ConcurrencyLimitFilter> showtimesConcurrencyLimitFilter(
+            ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        return registration("showtimes", properties.getShowtimes(), meterRegistry, "/showtimes/*");
+    }
+
+    private FilterRegistrationBean<ConcurrencyLimitFilter> registration(
+            String name, ConcurrencyLimitProperties.Limit limit, MeterRegistry meterRegistry, String urlPattern) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                name, limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit());
+        limiter.bindTo(meterRegistry);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter, limit.getRetryAfter()));
+        registration.setName(name + "ConcurrencyLimitFilter");
+        registration.addUrlPatterns(urlPattern);
+        return registration;
+    }
+}
@@ -0,0 +1,42 @@
+package com.att.tdp.popcorn_palace.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limits per endpoint group. Bookings are limited by default,
+ * showtimes only when enabled.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "popcorn-palace.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private Limit bookings = new Limit(true);
+    private Limit showtimes = new Limit(false);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private boolean enabled;
+
+        /** Limit used until enough latency samples have been observed. */
+        private int initialLimit = 20;
+
+        private int minLimit = 4;
+
+        private int maxLimit = 200;
+
+        /** Value of the Retry-After header on rejected requests. */
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        public Limit() {
+        }
+
+        Limit(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+}
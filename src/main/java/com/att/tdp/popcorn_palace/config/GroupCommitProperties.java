@@ -0,0 +1,36 @@
+package com.att.tdp.popcorn_palace.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the optional group-commit mode for single-seat bookings.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "popcorn-palace.bookings.group-commit")
+public class GroupCommitProperties {
+    /** Whether bookings are queued and committed in groups instead of one transaction each. */
+    private boolean enabled = false;
+
+    /** Maximum number of bookings inserted and committed together. */
+    private int maxBatchSize = 50;
+
+    /** How long the writer waits for more bookings before committing a partial batch. */
+    private Duration linger = Duration.ofMillis(5);
+
+    /** Bookings waiting to be written; callers are rejected once the queue is full. */
+    private int queueCapacity = 10_000;
+
+    /** How long a caller waits for its batch to commit. */
+    private Duration commitTimeout = Duration.ofSeconds(5);
+
+    /** How much longer a caller waits once its booking is part of a batch that is being committed. */
+    private Duration inFlightTimeout = Duration.ofSeconds(10);
+
+    /** Value of the Retry-After header when a booking is rejected because the queue is full or its commit stalls. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,25 @@
+package com.att.tdp.popcorn_palace.config;
+
+import com.att.tdp.popcorn_palace.idempotency.IdempotencyFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        IdempotencyFilter filter = new IdempotencyFilter(properties.getMaxEntries(), properties.getTtl());
+        filter.bindTo(meterRegistry);
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/bookings", "/bookings/batch", "/showtimes", "/showtimes/bulk");
+        // Replays are cheap, so they are answered before the concurrency limit is consulted
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        registration.setEnabled(properties.isEnabled());
+        return registration;
+    }
+}
@@ -0,0 +1,23 @@
+package com.att.tdp.popcorn_palace.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the in-memory store of responses to requests made with an Idempotency-Key.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "popcorn-palace.idempotency")
+public class IdempotencyProperties {
+    private boolean enabled = true;
+
+    /** Maximum number of remembered responses; the least valuable ones are evicted first. */
+    private long maxEntries = 100_000;
+
+    /** How long a response is replayed for retries of the same key. */
+    private Duration ttl = Duration.ofHours(1);
+}
@@ -0,0 +1,19 @@
+package com.att.tdp.popcorn_palace.config;
+
+import com.att.tdp.popcorn_palace.index.ShowtimeCache;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ShowtimeCacheConfig {
+
+    @Bean
+    public ShowtimeCache showtimeCache(ShowtimeRepository showtimeRepository, ShowtimeCacheProperties properties,
+                                       MeterRegistry meterRegistry) {
+        ShowtimeCache cache = new ShowtimeCache(showtimeRepository, properties.getMaxEntries(), properties.getTtl());
+        cache.bindTo(meterRegistry);
+        return cache;
+    }
+}
@@ -0,0 +1,21 @@
+package com.att.tdp.popcorn_palace.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the in-memory cache of showtime lookups used by the booking path.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "popcorn-palace.showtime-cache")
+public class ShowtimeCacheProperties {
+    /** Maximum number of cached showtimes; the least valuable ones are evicted first. */
+    private long maxEntries = 10_000;
+
+    /** How long a showtime is served from memory before it is read from the table again. */
+    private Duration ttl = Duration.ofMinutes(10);
+}
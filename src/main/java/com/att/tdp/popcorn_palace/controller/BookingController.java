@@ -1,5 +1,6 @@
 package com.att.tdp.popcorn_palace.controller;
 
+import com.att.tdp.popcorn_palace.dto.BatchBookingDTO;
 import com.att.tdp.popcorn_palace.dto.BookingDTO;
 import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.service.BookingService;
@@ -7,6 +8,8 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/bookings")
 public class BookingController {
@@ -21,4 +24,10 @@ public class BookingController {
         Booking booking = bookingService.createBooking(bookingDTO);
         return ResponseEntity.ok(booking);
     }
-} 
\ No newline at end of file
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<Booking>> createBookings(@Valid @RequestBody BatchBookingDTO batchBookingDTO) {
+        List<Booking> bookings = bookingService.createBookings(batchBookingDTO);
+        return ResponseEntity.ok(bookings);
+    }
+}
\ No newline at end of file
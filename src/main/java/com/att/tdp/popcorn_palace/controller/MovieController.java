@@ -1,21 +1,43 @@
 package com.att.tdp.popcorn_palace.controller;
 
 import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.MovieListingDTO;
+import com.att.tdp.popcorn_palace.dto.MovieSearchDTO;
+import com.att.tdp.popcorn_palace.index.CatalogSnapshot;
+import com.att.tdp.popcorn_palace.ingest.ImportFormat;
+import com.att.tdp.popcorn_palace.ingest.StreamingImporter;
+import com.att.tdp.popcorn_palace.model.DeletionProgress;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.MovieFacets;
+import com.att.tdp.popcorn_palace.model.MoviePage;
 import com.att.tdp.popcorn_palace.service.MovieService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/movies")
 public class MovieController {
     private final MovieService movieService;
+    private final StreamingImporter streamingImporter;
+    private final ObjectMapper objectMapper;
 
-    public MovieController(MovieService movieService) {
+    public MovieController(MovieService movieService, StreamingImporter streamingImporter, ObjectMapper objectMapper) {
         this.movieService = movieService;
+        this.streamingImporter = streamingImporter;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -23,10 +45,58 @@ public class MovieController {
         return ResponseEntity.ok(movieService.createMovie(movieDTO));
     }
 
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    public void importMovies(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        streamingImporter.importRows(request.getInputStream(), format, MovieDTO.class,
+                movieService::importMovies, response.getOutputStream());
+    }
+
     @GetMapping("/all")
-    public ResponseEntity<List<Movie>> getAllMovies() {
-        List<Movie> movies = movieService.getAllMovies();
-        return ResponseEntity.ok(movies);
+    public ResponseEntity<byte[]> getAllMovies(WebRequest request) {
+        CatalogSnapshot catalog = movieService.getCatalog();
+        if (request.checkNotModified(catalog.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(catalog.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.getJson());
+    }
+
+    @GetMapping
+    public ResponseEntity<MoviePage> getMoviePage(@Valid MovieListingDTO listing) {
+        return ResponseEntity.ok(movieService.getMoviePage(listing));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<MovieFacets> getFacets() {
+        return ResponseEntity.ok(movieService.getFacets());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<Movie>> searchMovies(@Valid MovieSearchDTO search) {
+        return ResponseEntity.ok(movieService.searchMovies(search));
+    }
+
+    /**
+     * Streams the whole catalog as NDJSON, one movie per line, written as rows are read.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamMovies(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        movieService.streamMovies(movie -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(movie));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
     }
 
     @PostMapping("/update/{title}")
@@ -39,4 +109,28 @@ public class MovieController {
         movieService.deleteMovie(title);
         return ResponseEntity.ok("Movie deleted successfully.");
     }
+
+    /**
+     * Same delete, reporting as it goes: streams NDJSON with a {@code progress} line after
+     * every committed chunk and a final {@code summary} with the number of showtimes,
+     * bookings and movies deleted.
+     */
+    @DeleteMapping(value = "/{title}", params = "progress=true")
+    public void deleteMovieWithProgress(@PathVariable String title, HttpServletResponse response) throws IOException {
+        DeletionProgress summary = movieService.deleteMovie(title, progress -> writeLine(response, progress));
+        writeLine(response, summary);
+    }
+
+    private void writeLine(HttpServletResponse response, DeletionProgress progress) {
+        try {
+            // Set on first write, so an unknown title is still answered with a JSON error
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            OutputStream out = response.getOutputStream();
+            out.write(objectMapper.writeValueAsBytes(progress));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 } 
\ No newline at end of file
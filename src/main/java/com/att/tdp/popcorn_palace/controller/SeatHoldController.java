@@ -0,0 +1,41 @@
+package com.att.tdp.popcorn_palace.controller;
+
+import com.att.tdp.popcorn_palace.dto.SeatHoldDTO;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.SeatHold;
+import com.att.tdp.popcorn_palace.service.SeatHoldService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/bookings/holds")
+public class SeatHoldController {
+    private final SeatHoldService seatHoldService;
+
+    public SeatHoldController(SeatHoldService seatHoldService) {
+        this.seatHoldService = seatHoldService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SeatHold> createHold(@Valid @RequestBody SeatHoldDTO seatHoldDTO) {
+        SeatHold hold = seatHoldService.createHold(seatHoldDTO);
+        return ResponseEntity.ok(hold);
+    }
+
+    @PostMapping("/{holdId}/confirm")
+    public ResponseEntity<Booking> confirmHold(@PathVariable UUID holdId,
+                                               @RequestParam(required = false) String userId) {
+        Booking booking = seatHoldService.confirmHold(holdId, userId);
+        return ResponseEntity.ok(booking);
+    }
+
+    @DeleteMapping("/{holdId}")
+    public ResponseEntity<String> releaseHold(@PathVariable UUID holdId,
+                                              @RequestParam(required = false) String userId) {
+        seatHoldService.releaseHold(holdId, userId);
+        return ResponseEntity.ok("Seat hold released successfully.");
+    }
+}
@@ -1,19 +1,42 @@
 package com.att.tdp.popcorn_palace.controller;
 
+import com.att.tdp.popcorn_palace.dto.BulkShowtimeDTO;
 import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.att.tdp.popcorn_palace.dto.ShowtimeSearchDTO;
+import com.att.tdp.popcorn_palace.index.ScheduleSnapshot;
+import com.att.tdp.popcorn_palace.ingest.ImportFormat;
+import com.att.tdp.popcorn_palace.ingest.StreamingImporter;
+import com.att.tdp.popcorn_palace.model.BulkShowtimeResult;
+import com.att.tdp.popcorn_palace.model.SeatMap;
 import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.model.ShowtimeConflict;
+import com.att.tdp.popcorn_palace.model.ShowtimePage;
 import com.att.tdp.popcorn_palace.service.ShowtimeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/showtimes")
 public class ShowtimeController {
     private final ShowtimeService showtimeService;
+    private final StreamingImporter streamingImporter;
 
-    public ShowtimeController(ShowtimeService showtimeService) {
+    public ShowtimeController(ShowtimeService showtimeService, StreamingImporter streamingImporter) {
         this.showtimeService = showtimeService;
+        this.streamingImporter = streamingImporter;
     }
 
     @PostMapping
@@ -22,12 +45,60 @@ public class ShowtimeController {
         return ResponseEntity.ok(showtime);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkShowtimeResult> createShowtimes(@Valid @RequestBody BulkShowtimeDTO bulkShowtimeDTO) {
+        BulkShowtimeResult result = showtimeService.createShowtimes(bulkShowtimeDTO);
+        HttpStatus status = result.hasConflicts() ? HttpStatus.CONFLICT : HttpStatus.OK;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    public void importShowtimes(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        streamingImporter.importRows(request.getInputStream(), format, ShowtimeDTO.class,
+                rows -> rejectedRows(showtimeService.importShowtimes(rows)), response.getOutputStream());
+    }
+
+    @GetMapping
+    public ResponseEntity<ShowtimePage> searchShowtimes(@Valid ShowtimeSearchDTO search) {
+        return ResponseEntity.ok(showtimeService.searchShowtimes(search));
+    }
+
+    @GetMapping("/schedule")
+    public ResponseEntity<byte[]> getDailySchedule(
+            @RequestParam String theater,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
+        ScheduleSnapshot snapshot = showtimeService.getDailySchedule(theater, date != null ? date : LocalDate.now());
+        if (request.checkNotModified(snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getJson());
+    }
+
     @GetMapping("/{showtimeId}")
     public ResponseEntity<Showtime> getShowtimeById(@PathVariable Long showtimeId) {
         Showtime showtime = showtimeService.getShowtimeById(showtimeId);
         return ResponseEntity.ok(showtime);
     }
 
+    @GetMapping("/{showtimeId}/seats")
+    public ResponseEntity<SeatMap> getSeatMap(@PathVariable Long showtimeId, WebRequest request) {
+        SeatMap seatMap = showtimeService.getSeatMap(showtimeId);
+        if (request.checkNotModified(seatMap.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(seatMap.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(seatMap.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(seatMap);
+    }
+
     @PostMapping("/update/{showtimeId}")
     public ResponseEntity<Showtime> updateShowtime(
             @PathVariable Long showtimeId,
@@ -41,4 +112,15 @@ public class ShowtimeController {
         showtimeService.deleteShowtime(showtimeId);
         return ResponseEntity.ok("Showtime deleted successfully.");
     }
-} 
\ No newline at end of file
+
+    /**
+     * Row numbers of a streamed import are counted across the whole feed, so conflicts
+     * between rows of the same batch are reported without the batch-relative row.
+     */
+    private static Map<Integer, String> rejectedRows(BulkShowtimeResult result) {
+        return result.getConflicts().stream()
+                .collect(Collectors.toMap(ShowtimeConflict::getRow, conflict -> conflict.getConflictingRow() == null
+                        ? conflict.getReason()
+                        : "Overlaps another showtime of the import"));
+    }
+}
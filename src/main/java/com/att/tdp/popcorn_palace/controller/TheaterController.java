@@ -0,0 +1,28 @@
+package com.att.tdp.popcorn_palace.controller;
+
+import com.att.tdp.popcorn_palace.dto.TheaterDTO;
+import com.att.tdp.popcorn_palace.model.Theater;
+import com.att.tdp.popcorn_palace.service.TheaterService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/theaters")
+public class TheaterController {
+    private final TheaterService theaterService;
+
+    public TheaterController(TheaterService theaterService) {
+        this.theaterService = theaterService;
+    }
+
+    @PostMapping
+    public ResponseEntity<Theater> createTheater(@Valid @RequestBody TheaterDTO theaterDTO) {
+        return ResponseEntity.ok(theaterService.createTheater(theaterDTO));
+    }
+
+    @GetMapping("/{name}")
+    public ResponseEntity<Theater> getTheaterByName(@PathVariable String name) {
+        return ResponseEntity.ok(theaterService.getTheaterByName(name));
+    }
+}
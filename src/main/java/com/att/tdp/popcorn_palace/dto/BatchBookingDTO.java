@@ -0,0 +1,39 @@
+package com.att.tdp.popcorn_palace.dto;
+
+import com.att.tdp.popcorn_palace.model.Theater;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Data
+public class BatchBookingDTO {
+    public static final int MAX_SEATS = 50;
+
+    @NotNull(message = "Showtime ID is required")
+    @Min(value = 1, message = "Showtime ID must be positive")
+    @JsonProperty("showtimeId")
+    private Long showtimeId;
+
+    @NotEmpty(message = "Seat numbers are required")
+    @Size(max = MAX_SEATS, message = "At most " + MAX_SEATS + " seats can be booked at once")
+    @JsonProperty("seatNumbers")
+    private List<@NotNull(message = "Seat number is required")
+            @Min(value = 1, message = "Seat number must be positive")
+            @Max(value = Theater.MAX_CAPACITY, message = "Seat number cannot exceed " + Theater.MAX_CAPACITY)
+            Integer> seatNumbers;
+
+    @NotBlank(message = "User ID is required")
+    @JsonProperty("userId")
+    private String userId;
+}
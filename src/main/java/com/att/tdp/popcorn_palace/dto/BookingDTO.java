@@ -1,6 +1,8 @@
 package com.att.tdp.popcorn_palace.dto;
 
+import com.att.tdp.popcorn_palace.model.Theater;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.NotBlank;
@@ -19,6 +21,7 @@ public class BookingDTO {
 
     @NotNull(message = "Seat number is required")
     @Min(value = 1, message = "Seat number must be positive")
+    @Max(value = Theater.MAX_CAPACITY, message = "Seat number cannot exceed " + Theater.MAX_CAPACITY)
     @JsonProperty("seatNumber")
     private Integer seatNumber;
 
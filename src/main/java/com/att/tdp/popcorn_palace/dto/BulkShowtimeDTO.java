@@ -0,0 +1,24 @@
+package com.att.tdp.popcorn_palace.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Data
+public class BulkShowtimeDTO {
+    public static final int MAX_SHOWTIMES = 5000;
+
+    @NotEmpty(message = "Showtimes are required")
+    @Size(max = MAX_SHOWTIMES, message = "At most " + MAX_SHOWTIMES + " showtimes can be imported at once")
+    @JsonProperty("showtimes")
+    private List<@NotNull(message = "Showtime is required") @Valid ShowtimeDTO> showtimes;
+}
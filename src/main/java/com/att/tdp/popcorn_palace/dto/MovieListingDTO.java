@@ -0,0 +1,24 @@
+package com.att.tdp.popcorn_palace.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Query parameters of {@code GET /movies}, which pages through the catalog by title.
+ */
+@Getter
+@Setter
+@Data
+public class MovieListingDTO {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = MAX_LIMIT, message = "Limit cannot exceed " + MAX_LIMIT)
+    private int limit = DEFAULT_LIMIT;
+}
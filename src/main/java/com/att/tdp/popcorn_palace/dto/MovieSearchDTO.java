@@ -0,0 +1,27 @@
+package com.att.tdp.popcorn_palace.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Query parameters of {@code GET /movies/search}. {@code q} is matched against title
+ * prefixes and against the words of titles and genres; its last word may be incomplete.
+ */
+@Getter
+@Setter
+@Data
+public class MovieSearchDTO {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    @NotBlank(message = "Query is required")
+    private String q;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = MAX_LIMIT, message = "Limit cannot exceed " + MAX_LIMIT)
+    private int limit = DEFAULT_LIMIT;
+}
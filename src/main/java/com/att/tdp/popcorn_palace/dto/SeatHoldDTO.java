@@ -0,0 +1,31 @@
+package com.att.tdp.popcorn_palace.dto;
+
+import com.att.tdp.popcorn_palace.model.Theater;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Data
+public class SeatHoldDTO {
+    @NotNull(message = "Showtime ID is required")
+    @Min(value = 1, message = "Showtime ID must be positive")
+    @JsonProperty("showtimeId")
+    private Long showtimeId;
+
+    @NotNull(message = "Seat number is required")
+    @Min(value = 1, message = "Seat number must be positive")
+    @Max(value = Theater.MAX_CAPACITY, message = "Seat number cannot exceed " + Theater.MAX_CAPACITY)
+    @JsonProperty("seatNumber")
+    private Integer seatNumber;
+
+    @NotBlank(message = "User ID is required")
+    @JsonProperty("userId")
+    private String userId;
+}
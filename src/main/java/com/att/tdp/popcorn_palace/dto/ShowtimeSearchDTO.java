@@ -0,0 +1,38 @@
+package com.att.tdp.popcorn_palace.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query parameters of {@code GET /showtimes}. Every filter is optional; {@code from} is
+ * inclusive and {@code to} exclusive, both on the start time.
+ */
+@Getter
+@Setter
+@Data
+public class ShowtimeSearchDTO {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private String theater;
+
+    private Long movieId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = MAX_LIMIT, message = "Limit cannot exceed " + MAX_LIMIT)
+    private int limit = DEFAULT_LIMIT;
+}
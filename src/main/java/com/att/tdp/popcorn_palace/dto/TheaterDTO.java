@@ -0,0 +1,32 @@
+package com.att.tdp.popcorn_palace.dto;
+
+import com.att.tdp.popcorn_palace.model.Theater;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Data
+public class TheaterDTO {
+    @NotBlank(message = "Name is required")
+    @JsonProperty("name")
+    private String name;
+
+    @NotNull(message = "Rows are required")
+    @Min(value = 1, message = "Rows must be at least 1")
+    @Max(value = Theater.MAX_ROWS, message = "Rows cannot exceed " + Theater.MAX_ROWS)
+    @JsonProperty("rows")
+    private Integer rows;
+
+    @NotNull(message = "Seats per row are required")
+    @Min(value = 1, message = "Seats per row must be at least 1")
+    @Max(value = Theater.MAX_SEATS_PER_ROW, message = "Seats per row cannot exceed " + Theater.MAX_SEATS_PER_ROW)
+    @JsonProperty("seatsPerRow")
+    private Integer seatsPerRow;
+}
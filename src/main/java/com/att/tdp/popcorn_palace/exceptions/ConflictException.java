@@ -0,0 +1,12 @@
+package com.att.tdp.popcorn_palace.exceptions;
+
+/**
+ * Thrown when a request cannot be completed because of a concurrent change to the same
+ * resource. Answered with {@code 409 Conflict}; repeating the request may succeed.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.att.tdp.popcorn_palace.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request is turned away because the service is temporarily overloaded.
+ * Answered with {@code 503 Service Unavailable} and a {@code Retry-After} header.
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
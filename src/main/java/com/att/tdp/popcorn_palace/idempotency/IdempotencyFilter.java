@@ -0,0 +1,215 @@
+package com.att.tdp.popcorn_palace.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+
+/**
+ * Makes POST requests that carry an {@code Idempotency-Key} header safe to retry. The first
+ * request with a key runs normally and its response is remembered; later requests with the
+ * same key and body get that response replayed without reaching the controller. A retry that
+ * arrives while the first request is still running gets 409, and reusing a key for a
+ * different body gets 422.
+ *
+ * <p>Keys are scoped to the caller: the authenticated principal if there is one, otherwise
+ * the {@code X-Client-Id} header, otherwise the remote address. Two callers that happen to
+ * pick the same key never see each other's responses.
+ *
+ * <p>Server errors are not remembered, so a request that failed with 5xx can be retried
+ * under the same key. Remembered responses are bounded in number and expire after a while.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String CLIENT_HEADER = "X-Client-Id";
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, IdempotentResponse> responses;
+
+    public IdempotencyFilter(long maxEntries, Duration ttl) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, responses, "idempotency");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        byte[] fingerprint = fingerprint(body);
+        String cacheKey = callerOf(request) + " " + request.getRequestURI() + " " + idempotencyKey;
+
+        IdempotentResponse inFlight = IdempotentResponse.inFlight(fingerprint);
+        // getIfPresent first so lookups are counted in the hit and miss statistics
+        IdempotentResponse existing = responses.getIfPresent(cacheKey);
+        if (existing == null) {
+            existing = responses.asMap().putIfAbsent(cacheKey, inFlight);
+        }
+        if (existing != null) {
+            replay(existing, fingerprint, idempotencyKey, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            responses.asMap().remove(cacheKey, inFlight);
+            throw e;
+        }
+
+        int status = responseWrapper.getStatus();
+        if (status >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            responses.asMap().remove(cacheKey, inFlight);
+        } else {
+            responses.asMap().replace(cacheKey, inFlight,
+                    inFlight.completed(status, responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void replay(IdempotentResponse existing, byte[] fingerprint, String idempotencyKey,
+                        HttpServletResponse response) throws IOException {
+        if (!existing.matches(fingerprint)) {
+            logger.warn("Idempotency key {} was reused with a different request body", idempotencyKey);
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " was already used with a different request");
+            return;
+        }
+        if (existing.isInFlight()) {
+            writeError(response, HttpStatus.CONFLICT,
+                    "A request with this " + HEADER + " is still being processed");
+            return;
+        }
+        logger.info("Replaying response for idempotency key {}", idempotencyKey);
+        response.setStatus(existing.status());
+        if (existing.contentType() != null) {
+            response.setContentType(existing.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(existing.body().length);
+        response.getOutputStream().write(existing.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+
+    private static String callerOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "principal:" + principal.getName();
+        }
+        String clientId = request.getHeader(CLIENT_HEADER);
+        if (clientId != null && !clientId.isBlank()) {
+            return "client:" + clientId;
+        }
+        return "address:" + request.getRemoteAddr();
+    }
+
+    private static byte[] fingerprint(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Serves a request body that has already been read, so the key check and the
+     * controller can both see it.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new IllegalStateException("Asynchronous reads of an idempotent request body are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
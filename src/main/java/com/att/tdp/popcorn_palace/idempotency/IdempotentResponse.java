@@ -0,0 +1,49 @@
+package com.att.tdp.popcorn_palace.idempotency;
+
+import java.util.Arrays;
+
+/**
+ * The outcome of a request made with an Idempotency-Key. Until the first request finishes
+ * the entry is in flight and has no response yet.
+ */
+final class IdempotentResponse {
+    private final byte[] requestFingerprint;
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+
+    private IdempotentResponse(byte[] requestFingerprint, int status, String contentType, byte[] body) {
+        this.requestFingerprint = requestFingerprint;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    static IdempotentResponse inFlight(byte[] requestFingerprint) {
+        return new IdempotentResponse(requestFingerprint, 0, null, null);
+    }
+
+    IdempotentResponse completed(int status, String contentType, byte[] body) {
+        return new IdempotentResponse(requestFingerprint, status, contentType, body);
+    }
+
+    boolean isInFlight() {
+        return body == null;
+    }
+
+    boolean matches(byte[] otherFingerprint) {
+        return Arrays.equals(requestFingerprint, otherFingerprint);
+    }
+
+    int status() {
+        return status;
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    byte[] body() {
+        return body;
+    }
+}
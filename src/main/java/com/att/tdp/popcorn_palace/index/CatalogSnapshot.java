@@ -0,0 +1,43 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+
+import java.util.List;
+
+/**
+ * One version of the whole movie catalog together with its JSON form, serialized once per
+ * version so serving {@code /movies/all} costs no work per request. {@code movies} are
+ * detached copies ordered by ID.
+ */
+public final class CatalogSnapshot {
+    private final long version;
+    private final List<Movie> movies;
+    private final byte[] json;
+    private final String etag;
+
+    CatalogSnapshot(long version, List<Movie> movies, byte[] json, String etag) {
+        this.version = version;
+        this.movies = movies;
+        this.json = json;
+        this.etag = etag;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Movie> getMovies() {
+        return movies;
+    }
+
+    /**
+     * The serialized catalog. Shared by every reader, so it must not be modified.
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
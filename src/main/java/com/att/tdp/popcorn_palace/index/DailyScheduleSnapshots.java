@@ -0,0 +1,126 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Copy-on-write "what's playing" schedules, one immutable {@link ScheduleSnapshot} per
+ * theater and day. Readers only look up the current snapshot: they never lock, and after
+ * the first load of a day never touch the database.
+ * <p>
+ * {@code ShowtimeService} applies every committed create, update and delete by building a
+ * new snapshot and swapping it in atomically. A change to a day that is not loaded is
+ * skipped, since the next load reads it from the table. Loads and changes of the same day
+ * are serialized by the cache, and changes are idempotent, so a change committed while its
+ * day is being loaded is neither lost nor applied twice.
+ */
+@Component
+public class DailyScheduleSnapshots {
+    private static final Comparator<Showtime> SCHEDULE_ORDER =
+            Comparator.comparing(Showtime::getStartTime).thenComparing(Showtime::getId);
+
+    private final ShowtimeRepository showtimeRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, ScheduleSnapshot> snapshots;
+
+    public DailyScheduleSnapshots(ShowtimeRepository showtimeRepository, ObjectMapper objectMapper,
+                                  @Value("${popcorn-palace.schedule-snapshots.max-days:10000}") long maxDays) {
+        this.showtimeRepository = showtimeRepository;
+        this.objectMapper = objectMapper;
+        this.snapshots = Caffeine.newBuilder().maximumSize(maxDays).build();
+    }
+
+    public ScheduleSnapshot snapshot(String theater, LocalDate date) {
+        return snapshots.get(new Key(theater, date), this::load);
+    }
+
+    public boolean isLoaded(String theater, LocalDate date) {
+        return snapshots.getIfPresent(new Key(theater, date)) != null;
+    }
+
+    public void add(Showtime showtime) {
+        Showtime copy = copyOf(showtime);
+        snapshots.asMap().computeIfPresent(keyOf(showtime), (key, snapshot) -> {
+            List<Showtime> showtimes = withoutShowtime(snapshot, copy.getId());
+            showtimes.add(copy);
+            return build(key, showtimes);
+        });
+    }
+
+    public void remove(String theater, LocalDate date, Long showtimeId) {
+        snapshots.asMap().computeIfPresent(new Key(theater, date),
+                (key, snapshot) -> build(key, withoutShowtime(snapshot, showtimeId)));
+    }
+
+    private ScheduleSnapshot load(Key key) {
+        LocalDate date = key.date();
+        List<Showtime> showtimes = showtimeRepository.search(key.theater(), null,
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay(), null, null, Integer.MAX_VALUE);
+        return build(key, showtimes.stream().map(DailyScheduleSnapshots::copyOf)
+                .collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    private ScheduleSnapshot build(Key key, List<Showtime> showtimes) {
+        showtimes.sort(SCHEDULE_ORDER);
+        List<Showtime> frozen = List.copyOf(showtimes);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new Body(key.theater(), key.date(), frozen));
+            return new ScheduleSnapshot(key.theater(), key.date(), frozen, json, etagOf(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the schedule of " + key.theater(), e);
+        }
+    }
+
+    /**
+     * Derived from the content, like the movie catalog's, so every instance serving the same
+     * schedule hands out the same ETag.
+     */
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static List<Showtime> withoutShowtime(ScheduleSnapshot snapshot, Long showtimeId) {
+        List<Showtime> showtimes = new ArrayList<>(snapshot.getShowtimes().size() + 1);
+        for (Showtime showtime : snapshot.getShowtimes()) {
+            if (!showtime.getId().equals(showtimeId)) {
+                showtimes.add(showtime);
+            }
+        }
+        return showtimes;
+    }
+
+    private static Key keyOf(Showtime showtime) {
+        return new Key(showtime.getTheater(), showtime.getStartTime().toLocalDate());
+    }
+
+    private static Showtime copyOf(Showtime showtime) {
+        return new Showtime(showtime.getId(), showtime.getPrice(), showtime.getMovieId(),
+                showtime.getTheater(), showtime.getStartTime(), showtime.getEndTime());
+    }
+
+    private record Key(String theater, LocalDate date) {
+    }
+
+    private record Body(String theater, LocalDate date, List<Showtime> showtimes) {
+    }
+}
@@ -0,0 +1,312 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * The whole movie catalog in memory, keyed by ID and by title, so that existence checks
+ * and title lookups need no SQL. The catalog is loaded at startup and kept up to date by
+ * {@code MovieService} after each committed create, update, import and delete.
+ *
+ * <p>The catalog is small and changes rarely, so every change publishes a new immutable
+ * {@link Catalog} and readers never lock. A lookup that misses is confirmed against the
+ * movies table, since the movie may have been created by another instance; a periodic
+ * reconciliation rebuilds the catalog when it has drifted from the table. Cached movies are
+ * detached and shared between callers, who must not modify them.
+ *
+ * <p>Every change also bumps the catalog version. The serialized catalog and the
+ * {@link MovieSearchIndex} are each built at most once per version, on the first
+ * {@link #snapshot()} or {@link #search} after the change.
+ */
+@Component
+public class MovieCatalogIndex {
+    private static final Logger logger = LoggerFactory.getLogger(MovieCatalogIndex.class);
+    private static final Comparator<Movie> CATALOG_ORDER = Comparator.comparing(Movie::getId);
+    private final MovieRepository movieRepository;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Catalog> catalog = new AtomicReference<>();
+    private final AtomicReference<CatalogSnapshot> serialized = new AtomicReference<>();
+    private final AtomicReference<MovieSearchIndex> searchIndex = new AtomicReference<>();
+
+    public MovieCatalogIndex(MovieRepository movieRepository, ObjectMapper objectMapper) {
+        this.movieRepository = movieRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Movie> movies = movieRepository.findAll();
+        Catalog loaded = catalog.updateAndGet(current -> Catalog.of(movies, nextVersion(current)));
+        logger.info("Loaded {} movies into the catalog index", loaded.byId().size());
+    }
+
+    public long version() {
+        return catalog().version();
+    }
+
+    /**
+     * Returns the whole catalog with its JSON form, serializing it only if it changed since
+     * the last call.
+     */
+    public CatalogSnapshot snapshot() {
+        Catalog current = catalog();
+        CatalogSnapshot cached = serialized.get();
+        if (cached != null && cached.getVersion() == current.version()) {
+            return cached;
+        }
+        CatalogSnapshot built = build(current);
+        serialized.accumulateAndGet(built,
+                (previous, next) -> previous == null || next.getVersion() > previous.getVersion() ? next : previous);
+        return built;
+    }
+
+    /**
+     * Ranks the movies matching {@code query} by title prefix, title words and genre words,
+     * from memory only.
+     */
+    public List<Movie> search(String query, int limit) {
+        Catalog current = catalog();
+        MovieSearchIndex index = searchIndex.get();
+        if (index == null || index.version() != current.version()) {
+            MovieSearchIndex built = new MovieSearchIndex(current.version(), current.byId().values());
+            searchIndex.accumulateAndGet(built,
+                    (previous, next) -> previous == null || next.version() > previous.version() ? next : previous);
+            index = built;
+        }
+        return index.search(query, limit);
+    }
+
+    public Optional<Movie> findById(Long id) {
+        Movie movie = catalog().byId().get(id);
+        return movie != null ? Optional.of(movie) : movieRepository.findById(id);
+    }
+
+    public Optional<Movie> findByTitle(String title) {
+        Movie movie = catalog().byTitle().get(title);
+        return movie != null ? Optional.of(movie) : movieRepository.findByTitle(title);
+    }
+
+    /**
+     * Answers from memory only. A title taken by another instance and not yet reconciled
+     * is still rejected by the unique constraint on the movies table.
+     */
+    public boolean containsTitle(String title) {
+        return catalog().byTitle().containsKey(title);
+    }
+
+    public Set<String> findExistingTitles(Collection<String> titles) {
+        Map<String, Movie> byTitle = catalog().byTitle();
+        return titles.stream().filter(byTitle::containsKey).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns which of the IDs belong to a movie. IDs missing from memory are confirmed
+     * with one query.
+     */
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        Map<Long, Movie> byId = catalog().byId();
+        Set<Long> existing = new HashSet<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long id : ids) {
+            (byId.containsKey(id) ? existing : missing).add(id);
+        }
+        if (!missing.isEmpty()) {
+            existing.addAll(movieRepository.findExistingIds(missing));
+        }
+        return existing;
+    }
+
+    /**
+     * Adds the movies, replacing any cached movie with the same ID or title.
+     */
+    public void putAll(Collection<Movie> movies) {
+        List<Movie> copies = movies.stream().map(MovieCatalogIndex::copyOf).toList();
+        update(current -> withAll(current, copies));
+    }
+
+    public void put(Movie movie) {
+        putAll(List.of(movie));
+    }
+
+    /**
+     * Replaces the cached movie titled {@code title} with {@code movie}, keeping its ID, for
+     * updates that do not load the movie. Returns the movie it replaced. Does nothing when
+     * the title is not cached; the next reconciliation picks the movie up.
+     */
+    public Optional<Movie> replace(String title, Movie movie) {
+        Catalog before = update(current -> {
+            Movie previous = current.byTitle().get(title);
+            if (previous == null) {
+                return current;
+            }
+            Movie copy = copyOf(movie);
+            copy.setId(previous.getId());
+            return withAll(current, List.of(copy));
+        });
+        return Optional.ofNullable(before.byTitle().get(title));
+    }
+
+    public void remove(Long id) {
+        update(current -> {
+            if (!current.byId().containsKey(id)) {
+                return current;
+            }
+            Map<Long, Movie> byId = new HashMap<>(current.byId());
+            Map<String, Movie> byTitle = new HashMap<>(current.byTitle());
+            byTitle.remove(byId.remove(id).getTitle());
+            return new Catalog(byId, byTitle, current.version() + 1);
+        });
+    }
+
+    /**
+     * Compares the catalog with the movies table and rebuilds it if they differ. A change
+     * applied while the table is read wins over the rebuild, which is retried on the next
+     * run. Returns true when a drift was corrected.
+     */
+    public boolean reconcile() {
+        Catalog current = catalog();
+        List<Movie> persisted = movieRepository.findAll();
+        if (current.matches(persisted)) {
+            return false;
+        }
+        if (catalog.compareAndSet(current, Catalog.of(persisted, current.version() + 1))) {
+            logger.warn("Movie catalog drifted from the movies table and was rebuilt with {} movies", persisted.size());
+            return true;
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${popcorn-palace.movies.reconcile-interval:PT5M}",
+            initialDelayString = "${popcorn-palace.movies.reconcile-interval:PT5M}")
+    public void reconcilePeriodically() {
+        reconcile();
+    }
+
+    private Catalog catalog() {
+        Catalog current = catalog.get();
+        if (current == null) {
+            synchronized (this) {
+                if (catalog.get() == null) {
+                    load();
+                }
+            }
+            current = catalog.get();
+        }
+        return current;
+    }
+
+    /**
+     * Applies the change and returns the catalog it was applied to.
+     */
+    private Catalog update(UnaryOperator<Catalog> change) {
+        catalog();
+        return catalog.getAndUpdate(change);
+    }
+
+    private static Catalog withAll(Catalog current, List<Movie> copies) {
+        Map<Long, Movie> byId = new HashMap<>(current.byId());
+        Map<String, Movie> byTitle = new HashMap<>(current.byTitle());
+        for (Movie movie : copies) {
+            Movie previous = byId.put(movie.getId(), movie);
+            if (previous != null) {
+                byTitle.remove(previous.getTitle());
+            }
+            Movie sameTitle = byTitle.put(movie.getTitle(), movie);
+            if (sameTitle != null && !sameTitle.getId().equals(movie.getId())) {
+                byId.remove(sameTitle.getId());
+            }
+        }
+        return new Catalog(byId, byTitle, current.version() + 1);
+    }
+
+    private CatalogSnapshot build(Catalog current) {
+        List<Movie> movies = current.byId().values().stream().sorted(CATALOG_ORDER).toList();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(movies);
+            return new CatalogSnapshot(current.version(), movies, json, etagOf(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the movie catalog", e);
+        }
+    }
+
+    /**
+     * Derived from the content rather than the version, so every instance serving the same
+     * catalog hands out the same ETag, also across restarts.
+     */
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static long nextVersion(Catalog current) {
+        return current == null ? 1 : current.version() + 1;
+    }
+
+    private static Movie copyOf(Movie movie) {
+        return new Movie(movie.getId(), movie.getTitle(), movie.getGenre(), movie.getDuration(),
+                movie.getRating(), movie.getReleaseYear());
+    }
+
+    /**
+     * One immutable version of the catalog.
+     */
+    private record Catalog(Map<Long, Movie> byId, Map<String, Movie> byTitle, long version) {
+
+        static Catalog of(Collection<Movie> movies, long version) {
+            Map<Long, Movie> byId = new HashMap<>();
+            Map<String, Movie> byTitle = new HashMap<>();
+            for (Movie movie : movies) {
+                Movie copy = copyOf(movie);
+                byId.put(copy.getId(), copy);
+                byTitle.put(copy.getTitle(), copy);
+            }
+            return new Catalog(byId, byTitle, version);
+        }
+
+        boolean matches(Collection<Movie> movies) {
+            if (movies.size() != byId.size()) {
+                return false;
+            }
+            for (Movie movie : movies) {
+                Movie cached = byId.get(movie.getId());
+                if (cached == null || !sameFields(cached, movie)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean sameFields(Movie a, Movie b) {
+            return a.getTitle().equals(b.getTitle()) && a.getGenre().equals(b.getGenre())
+                    && a.getDuration() == b.getDuration() && a.getRating().equals(b.getRating())
+                    && a.getReleaseYear() == b.getReleaseYear();
+        }
+    }
+}
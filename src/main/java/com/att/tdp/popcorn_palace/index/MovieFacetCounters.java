@@ -0,0 +1,148 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.MovieFacets;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Movie counts per genre and per release year, kept in memory and adjusted by
+ * {@code MovieService} after each committed create, update, import and delete, so reading
+ * them costs one pass over the facets instead of a scan of the movies table.
+ *
+ * <p>Counts are concurrent counters updated with {@link ConcurrentHashMap#merge}; a facet is
+ * dropped when its count reaches zero. They are counted from the movies table at startup
+ * and periodically reconciled with it, which corrects changes made by other instances.
+ */
+@Component
+public class MovieFacetCounters {
+    private static final Logger logger = LoggerFactory.getLogger(MovieFacetCounters.class);
+    private final MovieRepository movieRepository;
+    private final ConcurrentHashMap<String, Long> genres = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, Long> releaseYears = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+    private volatile boolean loaded;
+
+    public MovieFacetCounters(MovieRepository movieRepository) {
+        this.movieRepository = movieRepository;
+    }
+
+    /**
+     * Counts the movies table. Unlike {@link #reconcile()} it applies the counts even when
+     * movies change meanwhile, so the counters are never left empty.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        correctFromTable(true);
+        loaded = true;
+        logger.info("Counted movies in {} genres and {} release years", genres.size(), releaseYears.size());
+    }
+
+    /**
+     * Returns the current counts. A facet another instance emptied may briefly count below
+     * zero until reconciled; it is left out.
+     */
+    public MovieFacets counts() {
+        if (!loaded) {
+            load();
+        }
+        Map<String, Long> genreCounts = new TreeMap<>(genres);
+        Map<Integer, Long> yearCounts = new TreeMap<>(releaseYears);
+        genreCounts.values().removeIf(count -> count < 0);
+        yearCounts.values().removeIf(count -> count < 0);
+        return new MovieFacets(genreCounts, yearCounts);
+    }
+
+    public void added(Movie movie) {
+        adjust(movie, 1);
+    }
+
+    public void removed(Movie movie) {
+        adjust(movie, -1);
+    }
+
+    public void replaced(Movie previous, Movie movie) {
+        adjust(previous, -1);
+        adjust(movie, 1);
+    }
+
+    /**
+     * Compares the counts with the movies table and corrects the facets that differ. A
+     * change applied while the table is read skips the correction until the next run.
+     * Returns true when a drift was corrected.
+     */
+    public boolean reconcile() {
+        boolean drifted = correctFromTable(false);
+        if (drifted) {
+            logger.warn("Movie facet counts drifted from the movies table and were corrected");
+        }
+        return drifted;
+    }
+
+    @Scheduled(fixedDelayString = "${popcorn-palace.movies.reconcile-interval:PT5M}",
+            initialDelayString = "${popcorn-palace.movies.reconcile-interval:PT5M}")
+    public void reconcilePeriodically() {
+        reconcile();
+    }
+
+    private boolean correctFromTable(boolean evenIfChanged) {
+        long before = changes.get();
+        Map<String, Long> persistedGenres = toCounts(movieRepository.countByGenre(), String.class);
+        Map<Integer, Long> persistedYears = toCounts(movieRepository.countByReleaseYear(), Integer.class);
+        if (!evenIfChanged && changes.get() != before) {
+            return false;
+        }
+        return correct(genres, persistedGenres) | correct(releaseYears, persistedYears);
+    }
+
+    private void adjust(Movie movie, long delta) {
+        changes.incrementAndGet();
+        genres.merge(movie.getGenre(), delta, MovieFacetCounters::sum);
+        releaseYears.merge(movie.getReleaseYear(), delta, MovieFacetCounters::sum);
+    }
+
+    /**
+     * Applies the difference per facet rather than swapping the maps, so a concurrent
+     * adjustment to another facet is not lost.
+     */
+    private static <K> boolean correct(ConcurrentHashMap<K, Long> counts, Map<K, Long> persisted) {
+        Set<K> facets = new HashSet<>(counts.keySet());
+        facets.addAll(persisted.keySet());
+        boolean drifted = false;
+        for (K facet : facets) {
+            long delta = persisted.getOrDefault(facet, 0L) - counts.getOrDefault(facet, 0L);
+            if (delta != 0) {
+                counts.merge(facet, delta, MovieFacetCounters::sum);
+                drifted = true;
+            }
+        }
+        return drifted;
+    }
+
+    private static <K> Map<K, Long> toCounts(List<Object[]> rows, Class<K> keyType) {
+        Map<K, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put(keyType.cast(row[0]), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private static Long sum(Long count, Long delta) {
+        long total = count + delta;
+        return total == 0 ? null : total;
+    }
+}
@@ -0,0 +1,204 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Search structures over one version of the movie catalog: the normalized titles in a
+ * sorted array for prefix lookups, and inverted indexes from title words and genre words
+ * to movies. Built once per catalog version by {@link MovieCatalogIndex} and never
+ * modified, so queries take no locks.
+ *
+ * <p>Every word of the query must match a title word or a genre word; the last word may be
+ * a prefix, so results narrow as the user types. Movies are ranked by how they matched:
+ * the whole title first, then title words, then genre, with the rating and the title
+ * breaking ties.
+ */
+final class MovieSearchIndex {
+    static final int EXACT_TITLE = 100;
+    static final int TITLE_PREFIX = 50;
+    static final int TITLE_WORD = 10;
+    static final int TITLE_WORD_PREFIX = 5;
+    static final int GENRE_WORD = 4;
+    static final int GENRE_WORD_PREFIX = 2;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparing((Hit hit) -> hit.movie().getRating(), Comparator.reverseOrder())
+            .thenComparing(hit -> hit.movie().getTitle());
+
+    private final long version;
+    private final Movie[] movies;
+    private final String[] titles;
+    private final int[] titleOrder;
+    private final WordIndex titleWords;
+    private final WordIndex genreWords;
+
+    MovieSearchIndex(long version, Collection<Movie> catalog) {
+        this.version = version;
+        this.movies = catalog.toArray(Movie[]::new);
+        String[] normalized = new String[movies.length];
+        Map<String, List<Integer>> byTitleWord = new TreeMap<>();
+        Map<String, List<Integer>> byGenreWord = new TreeMap<>();
+        for (int i = 0; i < movies.length; i++) {
+            String[] words = words(movies[i].getTitle());
+            normalized[i] = String.join(" ", words);
+            for (String word : words) {
+                addPosting(byTitleWord, word, i);
+            }
+            for (String word : words(movies[i].getGenre())) {
+                addPosting(byGenreWord, word, i);
+            }
+        }
+        Integer[] order = new Integer[movies.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparing(i -> normalized[i]));
+        this.titleOrder = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+        this.titles = Arrays.stream(titleOrder).mapToObj(i -> normalized[i]).toArray(String[]::new);
+        this.titleWords = new WordIndex(byTitleWord);
+        this.genreWords = new WordIndex(byGenreWord);
+    }
+
+    long version() {
+        return version;
+    }
+
+    List<Movie> search(String query, int limit) {
+        String[] words = words(query);
+        if (words.length == 0) {
+            return List.of();
+        }
+        Map<Integer, Integer> scores = null;
+        for (int w = 0; w < words.length; w++) {
+            Map<Integer, Integer> matches = match(words[w], w == words.length - 1);
+            if (scores == null) {
+                scores = matches;
+            } else {
+                Map<Integer, Integer> both = new HashMap<>();
+                for (Map.Entry<Integer, Integer> entry : scores.entrySet()) {
+                    Integer score = matches.get(entry.getKey());
+                    if (score != null) {
+                        both.put(entry.getKey(), entry.getValue() + score);
+                    }
+                }
+                scores = both;
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        String phrase = String.join(" ", words);
+        for (int i = lowerBound(titles, phrase); i < titles.length && titles[i].startsWith(phrase); i++) {
+            int boost = titles[i].length() == phrase.length() ? EXACT_TITLE : TITLE_PREFIX;
+            scores.merge(titleOrder[i], boost, Integer::sum);
+        }
+        List<Hit> hits = new ArrayList<>(scores.size());
+        scores.forEach((position, score) -> hits.add(new Hit(movies[position], score)));
+        hits.sort(RANKING);
+        return hits.stream().limit(limit).map(Hit::movie).toList();
+    }
+
+    /**
+     * Scores every movie the word matches, keeping the best way each one matched.
+     */
+    private Map<Integer, Integer> match(String word, boolean allowPrefix) {
+        Map<Integer, Integer> scores = new HashMap<>();
+        if (allowPrefix) {
+            titleWords.forPrefix(word, (token, position) ->
+                    scores.merge(position, token.length() == word.length() ? TITLE_WORD : TITLE_WORD_PREFIX, Math::max));
+            genreWords.forPrefix(word, (token, position) ->
+                    scores.merge(position, token.length() == word.length() ? GENRE_WORD : GENRE_WORD_PREFIX, Math::max));
+        } else {
+            titleWords.forWord(word, position -> scores.merge(position, TITLE_WORD, Math::max));
+            genreWords.forWord(word, position -> scores.merge(position, GENRE_WORD, Math::max));
+        }
+        return scores;
+    }
+
+    /**
+     * Lower-cases, strips accents and splits on anything that is not a letter or a digit,
+     * so "Amélie" is found by "amelie" and "Spider-Man" by "spider man".
+     */
+    static String[] words(String text) {
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(SEPARATORS.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static void addPosting(Map<String, List<Integer>> postings, String word, int position) {
+        List<Integer> positions = postings.computeIfAbsent(word, key -> new ArrayList<>());
+        if (positions.isEmpty() || positions.get(positions.size() - 1) != position) {
+            positions.add(position);
+        }
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int index = Arrays.binarySearch(sorted, key);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && sorted[index - 1].equals(key)) {
+            index--;
+        }
+        return index;
+    }
+
+    private record Hit(Movie movie, int score) {
+    }
+
+    @FunctionalInterface
+    private interface PostingConsumer {
+        void accept(String word, int position);
+    }
+
+    @FunctionalInterface
+    private interface PositionConsumer {
+        void accept(int position);
+    }
+
+    /**
+     * Distinct words in sorted order with the movies containing each, so a prefix maps to
+     * one contiguous range of words.
+     */
+    private static final class WordIndex {
+        private final String[] words;
+        private final int[][] postings;
+
+        WordIndex(Map<String, List<Integer>> sorted) {
+            this.words = sorted.keySet().toArray(String[]::new);
+            this.postings = sorted.values().stream()
+                    .map(positions -> positions.stream().mapToInt(Integer::intValue).toArray())
+                    .toArray(int[][]::new);
+        }
+
+        void forWord(String word, PositionConsumer action) {
+            int index = Arrays.binarySearch(words, word);
+            if (index >= 0) {
+                for (int position : postings[index]) {
+                    action.accept(position);
+                }
+            }
+        }
+
+        void forPrefix(String prefix, PostingConsumer action) {
+            for (int i = lowerBound(words, prefix); i < words.length && words[i].startsWith(prefix); i++) {
+                for (int position : postings[i]) {
+                    action.accept(words[i], position);
+                }
+            }
+        }
+    }
+}
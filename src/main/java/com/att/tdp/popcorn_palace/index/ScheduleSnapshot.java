@@ -0,0 +1,50 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Immutable schedule of one theater on one day, together with its JSON form. The JSON is
+ * serialized once when the snapshot is built, so serving it costs no work per request.
+ * {@code showtimes} are detached copies ordered by start time and id.
+ */
+public final class ScheduleSnapshot {
+    private final String theater;
+    private final LocalDate date;
+    private final List<Showtime> showtimes;
+    private final byte[] json;
+    private final String etag;
+
+    ScheduleSnapshot(String theater, LocalDate date, List<Showtime> showtimes, byte[] json, String etag) {
+        this.theater = theater;
+        this.date = date;
+        this.showtimes = showtimes;
+        this.json = json;
+        this.etag = etag;
+    }
+
+    public String getTheater() {
+        return theater;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public List<Showtime> getShowtimes() {
+        return showtimes;
+    }
+
+    /**
+     * The serialized snapshot. Shared by every reader, so it must not be modified.
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
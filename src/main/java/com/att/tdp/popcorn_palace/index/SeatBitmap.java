@@ -0,0 +1,122 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.SeatMap;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Occupancy of a single showtime, one bit per seat. Seats that have been claimed but whose
+ * booking row is not committed yet are tracked separately as pending, so a rebuild from the
+ * bookings table never drops an in-flight claim.
+ *
+ * <p>Not thread-safe on its own: {@link SeatOccupancyIndex} guards every bitmap with the lock
+ * stripe of its showtime.
+ */
+class SeatBitmap {
+    private final BitSet occupied;
+    private final BitSet pending;
+    private final int capacity;
+    private final long generation;
+    private long version;
+    private SeatMap seatMap;
+    private boolean holdsRestored;
+
+    /**
+     * @param capacity number of seats in the theater, used to size the bitmap up front;
+     *                 0 when the layout is unknown and the bitmap should grow on demand
+     */
+    SeatBitmap(Collection<Integer> persistedSeats, int capacity, long generation) {
+        this.occupied = new BitSet(capacity + 1);
+        this.pending = new BitSet(capacity + 1);
+        this.capacity = capacity;
+        this.generation = generation;
+        persistedSeats.forEach(occupied::set);
+    }
+
+    boolean tryClaim(int seatNumber) {
+        if (occupied.get(seatNumber)) {
+            return false;
+        }
+        occupied.set(seatNumber);
+        pending.set(seatNumber);
+        version++;
+        return true;
+    }
+
+    void markPersisted(int seatNumber) {
+        pending.clear(seatNumber);
+    }
+
+    void release(int seatNumber) {
+        if (pending.get(seatNumber)) {
+            pending.clear(seatNumber);
+            occupied.clear(seatNumber);
+            version++;
+        }
+    }
+
+    /**
+     * Returns true the first time it is called, when the seat holds recorded outside the
+     * bitmap still have to be claimed in it.
+     */
+    boolean markHoldsRestored() {
+        if (holdsRestored) {
+            return false;
+        }
+        holdsRestored = true;
+        return true;
+    }
+
+    boolean isOccupied(int seatNumber) {
+        return occupied.get(seatNumber);
+    }
+
+    int occupiedCount() {
+        return occupied.cardinality();
+    }
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * Encodes the bitmap for clients. The encoding is cached until the next change, so
+     * repeated polls of an unchanged showtime cost neither a copy nor an allocation.
+     */
+    SeatMap seatMap(Long showtimeId) {
+        String etag = "\"" + showtimeId + "-" + generation + "-" + version + "\"";
+        if (seatMap == null || !seatMap.getEtag().equals(etag)) {
+            byte[] bytes = occupied.toByteArray();
+            if (capacity > 0) {
+                // Fixed length for a given theater, so clients can index it without bounds checks
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length, capacity / 8 + 1));
+            }
+            String seats = Base64.getEncoder().encodeToString(bytes);
+            seatMap = new SeatMap(showtimeId, capacity > 0 ? capacity : null, occupied.cardinality(), seats, etag);
+        }
+        return seatMap;
+    }
+
+    /**
+     * Replaces the persisted part of the bitmap, unless the bitmap changed since
+     * {@code expectedVersion} was read. Returns true when the bitmap had drifted.
+     */
+    boolean rebuild(Collection<Integer> persistedSeats, long expectedVersion) {
+        if (version != expectedVersion) {
+            return false;
+        }
+        BitSet expected = new BitSet();
+        persistedSeats.forEach(expected::set);
+        expected.or(pending);
+        if (expected.equals(occupied)) {
+            return false;
+        }
+        occupied.clear();
+        occupied.or(expected);
+        version++;
+        return true;
+    }
+}
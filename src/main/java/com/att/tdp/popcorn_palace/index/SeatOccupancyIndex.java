@@ -0,0 +1,322 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.SeatMap;
+import com.att.tdp.popcorn_palace.model.Theater;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.repository.TheaterRepository;
+import com.att.tdp.popcorn_palace.util.StripedLocks;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory seat occupancy per showtime. A showtime's bitmap is loaded from the bookings
+ * table the first time it is needed and kept in sync by the booking path afterwards, so
+ * "already booked" is answered without a database round trip.
+ *
+ * <p>Bitmaps are guarded by lock stripes keyed by showtime ID: claims for the same showtime
+ * are serialized, claims for different showtimes almost never contend. The unique index on
+ * (showtime_id, seat_number) remains the final guard across application instances.
+ *
+ * <p>A bitmap not used for {@code popcorn-palace.seats.idle-expiry} is dropped, and the
+ * periodic reconciliation drops the bitmaps of showtimes that have ended or been deleted,
+ * so memory and reconciliation work follow the showtimes in use, not every showtime ever
+ * loaded.
+ *
+ * <p>Seat holds last minutes rather than milliseconds, so they are also recorded outside the
+ * bitmaps and claimed again whenever a bitmap is reloaded; evicting a showtime never frees a
+ * held seat.
+ */
+@Component
+public class SeatOccupancyIndex {
+    private static final Logger logger = LoggerFactory.getLogger(SeatOccupancyIndex.class);
+    private static final int STRIPES_PER_PROCESSOR = 4;
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    private final BookingRepository bookingRepository;
+    private final TheaterRepository theaterRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final ConcurrentMap<Long, SeatBitmap> bitmaps;
+    // Held seats per showtime; each set is guarded by the lock stripe of its showtime
+    private final ConcurrentMap<Long, Set<Integer>> heldSeats = new ConcurrentHashMap<>();
+    private final StripedLocks locks = StripedLocks.forProcessors(STRIPES_PER_PROCESSOR);
+    // Distinguishes a reloaded bitmap from its evicted predecessor in seat map ETags
+    private final AtomicLong generations = new AtomicLong();
+
+    public SeatOccupancyIndex(BookingRepository bookingRepository, TheaterRepository theaterRepository,
+                              ShowtimeRepository showtimeRepository,
+                              @Value("${popcorn-palace.seats.idle-expiry:PT1H}") Duration idleExpiry) {
+        this.bookingRepository = bookingRepository;
+        this.theaterRepository = theaterRepository;
+        this.showtimeRepository = showtimeRepository;
+        this.bitmaps = Caffeine.newBuilder().expireAfterAccess(idleExpiry).<Long, SeatBitmap>build().asMap();
+    }
+
+    /**
+     * Atomically claims a seat. The claim stays pending until {@link #confirm} or
+     * {@link #release} is called for it.
+     */
+    public boolean tryClaim(Long showtimeId, int seatNumber) {
+        return withBitmap(showtimeId, bitmap -> bitmap.tryClaim(seatNumber));
+    }
+
+    /**
+     * Claims a seat for a hold. Unlike a plain claim, the hold survives the bitmap being
+     * evicted or expiring, until {@link #confirmHold} or {@link #releaseHold} is called.
+     */
+    public boolean tryHold(Long showtimeId, int seatNumber) {
+        return withBitmap(showtimeId, bitmap -> {
+            if (!bitmap.tryClaim(seatNumber)) {
+                return false;
+            }
+            heldSeats.computeIfAbsent(showtimeId, id -> new HashSet<>()).add(seatNumber);
+            return true;
+        });
+    }
+
+    public void confirmHold(Long showtimeId, int seatNumber) {
+        withLock(showtimeId, () -> {
+            removeHeldSeat(showtimeId, seatNumber);
+            SeatBitmap bitmap = bitmaps.get(showtimeId);
+            if (bitmap != null) {
+                bitmap.markPersisted(seatNumber);
+            }
+        });
+    }
+
+    public void releaseHold(Long showtimeId, int seatNumber) {
+        withLock(showtimeId, () -> {
+            removeHeldSeat(showtimeId, seatNumber);
+            SeatBitmap bitmap = bitmaps.get(showtimeId);
+            if (bitmap != null) {
+                bitmap.release(seatNumber);
+            }
+        });
+    }
+
+    /**
+     * Claims all seats or none of them. Returns the seats that were already occupied, which
+     * is empty when the claim succeeded.
+     */
+    public List<Integer> tryClaimAll(Long showtimeId, Collection<Integer> seatNumbers) {
+        return withBitmap(showtimeId, bitmap -> {
+            List<Integer> occupied = seatNumbers.stream().filter(bitmap::isOccupied).toList();
+            if (occupied.isEmpty()) {
+                seatNumbers.forEach(bitmap::tryClaim);
+            }
+            return occupied;
+        });
+    }
+
+    public void confirmAll(Long showtimeId, Collection<Integer> seatNumbers) {
+        updateLoadedBitmap(showtimeId, bitmap -> seatNumbers.forEach(bitmap::markPersisted));
+    }
+
+    public void releaseAll(Long showtimeId, Collection<Integer> seatNumbers) {
+        updateLoadedBitmap(showtimeId, bitmap -> seatNumbers.forEach(bitmap::release));
+    }
+
+    public void confirm(Long showtimeId, int seatNumber) {
+        updateLoadedBitmap(showtimeId, bitmap -> bitmap.markPersisted(seatNumber));
+    }
+
+    public void release(Long showtimeId, int seatNumber) {
+        updateLoadedBitmap(showtimeId, bitmap -> bitmap.release(seatNumber));
+    }
+
+    public boolean isOccupied(Long showtimeId, int seatNumber) {
+        return withBitmap(showtimeId, bitmap -> bitmap.isOccupied(seatNumber));
+    }
+
+    public SeatMap seatMap(Long showtimeId) {
+        return withBitmap(showtimeId, bitmap -> bitmap.seatMap(showtimeId));
+    }
+
+    public boolean isLoaded(Long showtimeId) {
+        return bitmaps.containsKey(showtimeId);
+    }
+
+    /**
+     * Drops the bitmap of a showtime so it is reloaded from the bookings table on next use.
+     */
+    public void evict(Long showtimeId) {
+        withLock(showtimeId, () -> bitmaps.remove(showtimeId));
+    }
+
+    /**
+     * Drops everything held for a deleted showtime, including its holds, which
+     * {@link #evict} keeps so they survive a reload.
+     */
+    public void forget(Long showtimeId) {
+        withLock(showtimeId, () -> {
+            bitmaps.remove(showtimeId);
+            heldSeats.remove(showtimeId);
+        });
+    }
+
+    /**
+     * Compares the bitmap of a loaded showtime with the bookings table and rebuilds it if
+     * they differ. Returns true when a drift was corrected.
+     */
+    public boolean reconcile(Long showtimeId) {
+        Loaded loaded = loaded(showtimeId);
+        if (loaded == null) {
+            return false;
+        }
+        return rebuild(showtimeId, loaded, bookingRepository.findSeatNumbersByShowtimeId(showtimeId));
+    }
+
+    /**
+     * Reconciles every loaded showtime, {@value #RECONCILE_BATCH_SIZE} at a time with one
+     * query for the showtimes still upcoming and one for their bookings. Bitmaps of
+     * showtimes that have ended or no longer exist are dropped instead.
+     */
+    @Scheduled(fixedDelayString = "${popcorn-palace.seats.reconcile-interval:PT5M}",
+            initialDelayString = "${popcorn-palace.seats.reconcile-interval:PT5M}")
+    public void reconcileAll() {
+        List<Long> showtimeIds = List.copyOf(bitmaps.keySet());
+        logger.debug("Reconciling seat occupancy for {} showtimes", showtimeIds.size());
+        for (int from = 0; from < showtimeIds.size(); from += RECONCILE_BATCH_SIZE) {
+            reconcileBatch(showtimeIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, showtimeIds.size())));
+        }
+    }
+
+    private void reconcileBatch(List<Long> showtimeIds) {
+        Map<Long, Loaded> snapshots = new HashMap<>();
+        for (Long showtimeId : showtimeIds) {
+            Loaded loaded = loaded(showtimeId);
+            if (loaded != null) {
+                snapshots.put(showtimeId, loaded);
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        Set<Long> upcoming = showtimeRepository.findUpcomingIds(snapshots.keySet(), LocalDateTime.now());
+        snapshots.keySet().stream().filter(id -> !upcoming.contains(id)).forEach(this::evict);
+        if (upcoming.isEmpty()) {
+            return;
+        }
+        Map<Long, List<Integer>> persistedSeats = new HashMap<>();
+        for (Object[] row : bookingRepository.findSeatNumbersByShowtimeIds(upcoming)) {
+            persistedSeats.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Integer) row[1]);
+        }
+        for (Long showtimeId : upcoming) {
+            rebuild(showtimeId, snapshots.get(showtimeId), persistedSeats.getOrDefault(showtimeId, List.of()));
+        }
+    }
+
+    private Loaded loaded(Long showtimeId) {
+        return readLoadedBitmap(showtimeId, bitmap -> new Loaded(bitmap, bitmap.version()));
+    }
+
+    private boolean rebuild(Long showtimeId, Loaded loaded, List<Integer> persistedSeats) {
+        Boolean drifted = readLoadedBitmap(showtimeId,
+                bitmap -> bitmap == loaded.bitmap() && bitmap.rebuild(persistedSeats, loaded.version()));
+        if (Boolean.TRUE.equals(drifted)) {
+            logger.warn("Seat occupancy for showtime ID: {} drifted from the bookings table and was rebuilt", showtimeId);
+            return true;
+        }
+        return false;
+    }
+
+    private <T> T withBitmap(Long showtimeId, Function<SeatBitmap, T> action) {
+        ReentrantLock lock = locks.lockFor(showtimeId);
+        while (true) {
+            SeatBitmap bitmap = bitmapFor(showtimeId);
+            lock.lock();
+            try {
+                // The bitmap may have been evicted between loading it and taking the lock
+                if (bitmaps.get(showtimeId) == bitmap) {
+                    restoreHolds(showtimeId, bitmap);
+                    return action.apply(bitmap);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private <T> T readLoadedBitmap(Long showtimeId, Function<SeatBitmap, T> action) {
+        ReentrantLock lock = locks.lockFor(showtimeId);
+        lock.lock();
+        try {
+            SeatBitmap bitmap = bitmaps.get(showtimeId);
+            if (bitmap == null) {
+                return null;
+            }
+            restoreHolds(showtimeId, bitmap);
+            return action.apply(bitmap);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void withLock(Long showtimeId, Runnable action) {
+        ReentrantLock lock = locks.lockFor(showtimeId);
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Claims the held seats again in a freshly loaded bitmap. Runs under the lock stripe
+     * rather than while loading, so a hold released during the load is not resurrected.
+     */
+    private void restoreHolds(Long showtimeId, SeatBitmap bitmap) {
+        if (bitmap.markHoldsRestored()) {
+            heldSeats.getOrDefault(showtimeId, Set.of()).forEach(bitmap::tryClaim);
+        }
+    }
+
+    private void removeHeldSeat(Long showtimeId, int seatNumber) {
+        Set<Integer> seats = heldSeats.get(showtimeId);
+        if (seats != null && seats.remove(seatNumber) && seats.isEmpty()) {
+            heldSeats.remove(showtimeId);
+        }
+    }
+
+    private void updateLoadedBitmap(Long showtimeId, Consumer<SeatBitmap> action) {
+        readLoadedBitmap(showtimeId, bitmap -> {
+            action.accept(bitmap);
+            return null;
+        });
+    }
+
+    /**
+     * A loaded bitmap and its version when it was read, for rebuilding it only if nothing
+     * changed while the bookings table was queried.
+     */
+    private record Loaded(SeatBitmap bitmap, long version) {
+    }
+
+    private SeatBitmap bitmapFor(Long showtimeId) {
+        return bitmaps.computeIfAbsent(showtimeId, id -> {
+            logger.debug("Loading seat occupancy for showtime ID: {}", id);
+            int capacity = theaterRepository.findByShowtimeId(id).map(Theater::getCapacity).orElse(0);
+            return new SeatBitmap(bookingRepository.findSeatNumbersByShowtimeId(id), capacity, generations.incrementAndGet());
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read-through cache of showtime lookups by ID, shared by the booking path and
+ * {@code ShowtimeService}. During a sell-out the same few showtimes are looked up for every
+ * booking; they are read from the table once and then served from memory.
+ *
+ * <p>Entries are bounded in number and expire after a while, so a change made outside this
+ * instance is picked up eventually. Changes made here invalidate the entry once committed.
+ * Missing showtimes are not cached. Cached showtimes are detached and shared between
+ * callers, who must not modify them.
+ */
+public class ShowtimeCache {
+    private final ShowtimeRepository showtimeRepository;
+    private final Cache<Long, Showtime> showtimes;
+
+    public ShowtimeCache(ShowtimeRepository showtimeRepository, long maxEntries, Duration ttl) {
+        this.showtimeRepository = showtimeRepository;
+        this.showtimes = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, showtimes, "showtimes");
+    }
+
+    public Optional<Showtime> findById(Long id) {
+        return Optional.ofNullable(showtimes.get(id, this::load));
+    }
+
+    /**
+     * Drops the cached showtime. A lookup of the same ID that is still loading completes
+     * first and is dropped as well, so a load that read the old row cannot outlive this call.
+     */
+    public void invalidate(Long id) {
+        showtimes.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        showtimes.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return showtimes.stats();
+    }
+
+    private Showtime load(Long id) {
+        return showtimeRepository.findById(id)
+                .map(showtime -> new Showtime(showtime.getId(), showtime.getPrice(), showtime.getMovieId(),
+                        showtime.getTheater(), showtime.getStartTime(), showtime.getEndTime()))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,118 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory schedule of every theater, used to detect overlapping showtimes without
+ * scanning the showtimes table. A theater's timeline is loaded with one query the first
+ * time it is needed and then kept up to date by {@code ShowtimeService} after each
+ * committed create, update and delete.
+ *
+ * <p>Only showtimes that have not ended are kept: a timeline is loaded from its horizon (the
+ * time it was loaded) onwards and ended showtimes are pruned periodically, so memory follows
+ * the upcoming schedule rather than the whole history. A request reaching back before the
+ * horizon is answered from the showtimes table.
+ */
+@Component
+public class ShowtimeScheduleIndex {
+    private static final Logger logger = LoggerFactory.getLogger(ShowtimeScheduleIndex.class);
+    private final ShowtimeRepository showtimeRepository;
+    private final ConcurrentMap<String, TheaterTimeline> timelines = new ConcurrentHashMap<>();
+    // Bumped by every change, so a timeline loaded while a change landed is not published
+    private final AtomicLong changes = new AtomicLong();
+
+    public ShowtimeScheduleIndex(ShowtimeRepository showtimeRepository) {
+        this.showtimeRepository = showtimeRepository;
+    }
+
+    /**
+     * Returns the IDs of the showtimes in the theater that overlap {@code [start, end]}.
+     */
+    public List<Long> findOverlapping(String theater, LocalDateTime start, LocalDateTime end) {
+        TheaterTimeline timeline = timelineFor(theater);
+        synchronized (timeline) {
+            if (!start.isBefore(timeline.horizon())) {
+                return timeline.findOverlapping(start, end);
+            }
+        }
+        return showtimeRepository.findOverlappingShowtimes(theater, start, end).stream()
+                .map(Showtime::getId)
+                .toList();
+    }
+
+    public void add(Showtime showtime) {
+        changes.incrementAndGet();
+        timelines.computeIfPresent(showtime.getTheater(), (theater, timeline) -> {
+            synchronized (timeline) {
+                timeline.add(showtime.getId(), showtime.getStartTime(), showtime.getEndTime());
+            }
+            return timeline;
+        });
+    }
+
+    public void remove(String theater, Long showtimeId) {
+        changes.incrementAndGet();
+        timelines.computeIfPresent(theater, (name, timeline) -> {
+            synchronized (timeline) {
+                timeline.remove(showtimeId);
+            }
+            return timeline;
+        });
+    }
+
+    /**
+     * Drops a theater's timeline so it is reloaded from the showtimes table on next use.
+     */
+    public void evict(String theater) {
+        timelines.remove(theater);
+    }
+
+    /**
+     * Drops the showtimes that have ended from every loaded timeline.
+     */
+    @Scheduled(fixedDelayString = "${popcorn-palace.showtimes.schedule-prune-interval:PT15M}",
+            initialDelayString = "${popcorn-palace.showtimes.schedule-prune-interval:PT15M}")
+    public void pruneEnded() {
+        LocalDateTime now = LocalDateTime.now();
+        int pruned = 0;
+        for (TheaterTimeline timeline : timelines.values()) {
+            synchronized (timeline) {
+                pruned += timeline.pruneEndedBefore(now);
+            }
+        }
+        logger.debug("Pruned {} ended showtimes from the theater schedules", pruned);
+    }
+
+    /**
+     * Loads outside the map so a slow query does not block other theaters, then publishes
+     * the timeline unless a showtime changed meanwhile; the change could be missing from it.
+     */
+    private TheaterTimeline timelineFor(String theater) {
+        TheaterTimeline timeline = timelines.get(theater);
+        if (timeline != null) {
+            return timeline;
+        }
+        long stamp = changes.get();
+        LocalDateTime horizon = LocalDateTime.now();
+        List<Showtime> showtimes = showtimeRepository.findByTheaterAndEndTimeGreaterThanEqual(theater, horizon);
+        logger.debug("Loaded {} upcoming showtimes into the schedule of theater: {}", showtimes.size(), theater);
+        TheaterTimeline loaded = new TheaterTimeline(horizon);
+        showtimes.forEach(showtime -> loaded.add(showtime.getId(), showtime.getStartTime(), showtime.getEndTime()));
+        if (changes.get() != stamp) {
+            return loaded;
+        }
+        TheaterTimeline published = timelines.putIfAbsent(theater, loaded);
+        return published != null ? published : loaded;
+    }
+}
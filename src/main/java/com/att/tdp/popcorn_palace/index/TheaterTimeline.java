@@ -0,0 +1,106 @@
+package com.att.tdp.popcorn_palace.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * The showtimes of one theater ordered by start time. Two showtimes overlap when each
+ * starts no later than the other ends (touching endpoints count as overlap), matching
+ * {@code ShowtimeRepository.findOverlappingShowtimes}.
+ *
+ * <p>A showtime that overlaps {@code [start, end]} must start within
+ * {@code [start - longest duration, end]}, so a query only walks that slice of the tree:
+ * O(log n) plus the few showtimes in the window.
+ *
+ * <p>Showtimes that ended before the horizon are not kept; {@link #add} ignores them and
+ * {@link #pruneEndedBefore} drops them as time passes.
+ *
+ * <p>Not thread-safe on its own: {@link ShowtimeScheduleIndex} synchronizes on the timeline.
+ */
+class TheaterTimeline {
+    private static final Comparator<Slot> ORDER = Comparator.comparing(Slot::start).thenComparingLong(Slot::id);
+
+    private final NavigableMap<Slot, LocalDateTime> endsBySlot = new TreeMap<>(ORDER);
+    private final Map<Long, Slot> slotsById = new HashMap<>();
+    private Duration longestDuration = Duration.ZERO;
+    private LocalDateTime horizon;
+
+    TheaterTimeline(LocalDateTime horizon) {
+        this.horizon = horizon;
+    }
+
+    LocalDateTime horizon() {
+        return horizon;
+    }
+
+    void add(long id, LocalDateTime start, LocalDateTime end) {
+        remove(id);
+        if (end.isBefore(horizon)) {
+            return;
+        }
+        Slot slot = new Slot(start, id);
+        endsBySlot.put(slot, end);
+        slotsById.put(id, slot);
+        Duration duration = Duration.between(start, end);
+        if (duration.compareTo(longestDuration) > 0) {
+            longestDuration = duration;
+        }
+    }
+
+    void remove(long id) {
+        Slot slot = slotsById.remove(id);
+        if (slot != null) {
+            endsBySlot.remove(slot);
+        }
+    }
+
+    List<Long> findOverlapping(LocalDateTime start, LocalDateTime end) {
+        Slot from = new Slot(start.minus(longestDuration), Long.MIN_VALUE);
+        Slot to = new Slot(end, Long.MAX_VALUE);
+        List<Long> overlapping = new ArrayList<>();
+        for (Map.Entry<Slot, LocalDateTime> entry : endsBySlot.subMap(from, true, to, true).entrySet()) {
+            if (!entry.getValue().isBefore(start)) {
+                overlapping.add(entry.getKey().id());
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Moves the horizon to {@code cutoff} and drops the showtimes that ended before it.
+     * Returns the number of showtimes dropped.
+     */
+    int pruneEndedBefore(LocalDateTime cutoff) {
+        if (cutoff.isAfter(horizon)) {
+            horizon = cutoff;
+        }
+        int pruned = 0;
+        // An ended showtime also started before the cutoff
+        Iterator<Map.Entry<Slot, LocalDateTime>> entries =
+                endsBySlot.headMap(new Slot(horizon, Long.MIN_VALUE)).entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Slot, LocalDateTime> entry = entries.next();
+            if (entry.getValue().isBefore(horizon)) {
+                entries.remove();
+                slotsById.remove(entry.getKey().id());
+                pruned++;
+            }
+        }
+        return pruned;
+    }
+
+    int size() {
+        return slotsById.size();
+    }
+
+    private record Slot(LocalDateTime start, long id) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.att.tdp.popcorn_palace.ingest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * One line of the NDJSON stream sent back while an import runs: a rejected row, the running
+ * totals after each written batch, or the final summary. Rows are numbered from 1, not
+ * counting the CSV header.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportEvent {
+    public static final String ERROR = "error";
+    public static final String PROGRESS = "progress";
+    public static final String SUMMARY = "summary";
+
+    @JsonProperty("type")
+    private final String type;
+
+    @JsonProperty("row")
+    private final Long row;
+
+    @JsonProperty("errors")
+    private final Map<String, String> errors;
+
+    @JsonProperty("processed")
+    private final Long processed;
+
+    @JsonProperty("imported")
+    private final Long imported;
+
+    @JsonProperty("rejected")
+    private final Long rejected;
+
+    @JsonProperty("completed")
+    private final Boolean completed;
+
+    public static ImportEvent error(long row, Map<String, String> errors) {
+        return new ImportEvent(ERROR, row, errors, null, null, null, null);
+    }
+
+    public static ImportEvent progress(long processed, long imported, long rejected) {
+        return new ImportEvent(PROGRESS, null, null, processed, imported, rejected, null);
+    }
+
+    public static ImportEvent summary(long processed, long imported, long rejected, boolean completed) {
+        return new ImportEvent(SUMMARY, null, null, processed, imported, rejected, completed);
+    }
+}
@@ -0,0 +1,25 @@
+package com.att.tdp.popcorn_palace.ingest;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Body formats accepted by the streaming import endpoints. NDJSON carries one JSON object per
+ * line; CSV starts with a header row naming the DTO properties of each column.
+ */
+public enum ImportFormat {
+    NDJSON,
+    CSV;
+
+    public static final String CSV_VALUE = "text/csv";
+
+    public static ImportFormat fromContentType(String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return NDJSON;
+        }
+        if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+            return CSV;
+        }
+        throw new IllegalArgumentException("Unsupported import format: " + contentType);
+    }
+}
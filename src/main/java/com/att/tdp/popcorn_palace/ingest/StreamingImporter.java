@@ -0,0 +1,207 @@
+package com.att.tdp.popcorn_palace.ingest;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Imports a feed of rows while it is still being uploaded. Rows are parsed one at a time and
+ * validated with the constraints of their DTO; valid rows are handed to the writer in batches
+ * of at most {@code batchSize}, each in its own transaction, so memory use does not depend on
+ * the size of the feed. Rejected rows and the running totals are streamed back as NDJSON.
+ * <p>
+ * A row whose values do not fit its DTO is rejected with the line it was read from, and the
+ * import moves on to the next row. Input that is not well-formed JSON or CSV ends the import,
+ * as does a batch that fails to be written; batches written before that stay imported.
+ */
+@Component
+public class StreamingImporter {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingImporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final Validator validator;
+    private final int batchSize;
+
+    public StreamingImporter(ObjectMapper objectMapper, Validator validator,
+                             @Value("${popcorn-palace.import.batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Import batch size must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .build();
+    }
+
+    /**
+     * Reads {@code rowType} rows from {@code in} and writes the progress events to {@code out}.
+     * The writer receives a batch of valid rows and returns the reason each rejected row was
+     * skipped, keyed by its position in the batch.
+     *
+     * @return the summary, which is also the last event written
+     */
+    public <T> ImportEvent importRows(InputStream in, ImportFormat format, Class<T> rowType,
+                                      Function<List<T>, Map<Integer, String>> writer,
+                                      OutputStream out) throws IOException {
+        Run<T> run = new Run<>(writer, out);
+        try (MappingIterator<T> rows = openRows(in, format, rowType)) {
+            while (run.isActive() && rows.hasNextValue()) {
+                T row;
+                try {
+                    row = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    // The iterator skips the rest of the broken row on the next hasNextValue()
+                    run.skip(malformed(e));
+                    continue;
+                }
+                run.accept(row);
+            }
+        } catch (JsonProcessingException e) {
+            run.abort(malformed(e));
+        }
+        return run.finish();
+    }
+
+    private static String malformed(JsonProcessingException e) {
+        JsonLocation location = e.getLocation();
+        String line = location == null || location.getLineNr() < 0 ? "" : " at line " + location.getLineNr();
+        return "Malformed row" + line + ": " + e.getOriginalMessage();
+    }
+
+    private <T> MappingIterator<T> openRows(InputStream in, ImportFormat format, Class<T> rowType) throws IOException {
+        return switch (format) {
+            case NDJSON -> objectMapper.readerFor(rowType).readValues(in);
+            case CSV -> csvMapper.readerFor(rowType)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(in);
+        };
+    }
+
+    private final class Run<T> {
+        private final Function<List<T>, Map<Integer, String>> writer;
+        private final OutputStream out;
+        private final List<T> batch = new ArrayList<>(batchSize);
+        private final List<Long> batchRows = new ArrayList<>(batchSize);
+        private long processed;
+        private long imported;
+        private long rejected;
+        private boolean active = true;
+
+        Run(Function<List<T>, Map<Integer, String>> writer, OutputStream out) {
+            this.writer = writer;
+            this.out = out;
+        }
+
+        boolean isActive() {
+            return active;
+        }
+
+        void accept(T row) throws IOException {
+            long rowNumber = ++processed;
+            Map<String, String> errors = validate(row);
+            if (!errors.isEmpty()) {
+                reject(rowNumber, errors);
+                return;
+            }
+            batch.add(row);
+            batchRows.add(rowNumber);
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void skip(String reason) throws IOException {
+            reject(++processed, Map.of("row", reason));
+        }
+
+        void abort(String reason) throws IOException {
+            long rowNumber = ++processed;
+            flush();
+            reject(rowNumber, Map.of("row", reason));
+            active = false;
+        }
+
+        ImportEvent finish() throws IOException {
+            flush();
+            ImportEvent summary = ImportEvent.summary(processed, imported, rejected, active);
+            logger.info("Import finished: {}", summary);
+            send(summary);
+            return summary;
+        }
+
+        private void flush() throws IOException {
+            if (batch.isEmpty() || !active) {
+                return;
+            }
+            List<T> rows = List.copyOf(batch);
+            List<Long> rowNumbers = List.copyOf(batchRows);
+            batch.clear();
+            batchRows.clear();
+
+            Map<Integer, String> skipped;
+            try {
+                skipped = writer.apply(rows);
+            } catch (RuntimeException e) {
+                logger.error("Import batch starting at row {} failed", rowNumbers.get(0), e);
+                rejected += rows.size();
+                active = false;
+                send(ImportEvent.error(rowNumbers.get(0),
+                        Map.of("batch", "Batch of " + rows.size() + " rows failed: " + e.getMessage())));
+                return;
+            }
+            for (Map.Entry<Integer, String> entry : skipped.entrySet()) {
+                reject(rowNumbers.get(entry.getKey()), Map.of("row", entry.getValue()));
+            }
+            imported += rows.size() - skipped.size();
+            send(ImportEvent.progress(processed, imported, rejected));
+        }
+
+        private void reject(long rowNumber, Map<String, String> errors) throws IOException {
+            rejected++;
+            send(ImportEvent.error(rowNumber, errors));
+        }
+
+        private Map<String, String> validate(T row) {
+            Map<String, String> errors = new TreeMap<>();
+            for (ConstraintViolation<T> violation : validator.validate(row)) {
+                errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            return errors;
+        }
+
+        private void send(ImportEvent event) throws IOException {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.att.tdp.popcorn_palace.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit that adapts to observed latency with a gradient algorithm. The
+ * long-term average latency is the baseline; when recent requests are slower than the
+ * baseline, queueing is building up somewhere downstream (typically the connection pool)
+ * and the limit shrinks in proportion. When latency is at the baseline the limit grows by
+ * roughly its square root per sample, so the limit probes upward until latency reacts.
+ *
+ * <p>Requests beyond the limit are rejected instead of queued, which keeps latency flat for
+ * the requests that are admitted.
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double DROP_BACKOFF = 0.9;
+    private static final int LONG_WINDOW = 600;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+    private double longRttNanos;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits a request if the limit allows it. Returns null when the request must be rejected.
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(System.nanoTime());
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("http.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("limiter", name)
+                .register(registry);
+        Gauge.builder("http.concurrency.in_flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted")
+                .tag("limiter", name)
+                .register(registry);
+        FunctionCounter.builder("http.concurrency.rejected", rejected, LongAdder::doubleValue)
+                .description("Requests rejected because the concurrency limit was reached")
+                .tag("limiter", name)
+                .register(registry);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart, boolean dropped) {
+        double current = limit;
+        if (dropped) {
+            limit = Math.max(minLimit, current * DROP_BACKOFF);
+            return;
+        }
+
+        samples++;
+        // Plain average until the window is full, exponential moving average afterwards
+        longRttNanos += (rttNanos - longRttNanos) / Math.min(samples, LONG_WINDOW);
+
+        // An application that is not using its limit tells us nothing about whether to grow
+        if (inFlightAtStart < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(current);
+        double target = current * gradient + queueSize;
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public final class Permit {
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlight.get();
+        }
+
+        /**
+         * Releases the permit and records the request latency. A dropped request (one that
+         * failed because the server was overloaded) shrinks the limit right away.
+         */
+        public void release(boolean dropped) {
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inFlightAtStart, dropped);
+        }
+    }
+}
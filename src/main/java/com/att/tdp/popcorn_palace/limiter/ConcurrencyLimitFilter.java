@@ -0,0 +1,56 @@
+package com.att.tdp.popcorn_palace.limiter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Admission control in front of a group of endpoints. Requests above the adaptive limit are
+ * answered immediately with 503 and a Retry-After header instead of waiting for a thread or
+ * a database connection.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+    private static final String REJECTION_BODY = "{\"error\":\"Server is busy, please retry later\"}";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, Duration retryAfter) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            logger.debug("Rejecting {} {}: concurrency limit {} reached", request.getMethod(), request.getRequestURI(),
+                    limiter.getLimit());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(REJECTION_BODY);
+            return;
+        }
+
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            permit.release(dropped);
+        }
+    }
+}
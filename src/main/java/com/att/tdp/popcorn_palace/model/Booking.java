@@ -1,23 +1,29 @@
 package com.att.tdp.popcorn_palace.model;
 
 import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.util.TimeOrderedUuidGenerator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", uniqueConstraints = @UniqueConstraint(
+        name = Booking.SEAT_CONSTRAINT, columnNames = {"showtime_id", "seat_number"}))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
 public class Booking {
+    /** Unique index that makes a seat bookable once per showtime. */
+    public static final String SEAT_CONSTRAINT = "ux_bookings_showtime_seat";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     @Column(name = "booking_id")
     @JsonProperty("bookingId")
     private UUID id;
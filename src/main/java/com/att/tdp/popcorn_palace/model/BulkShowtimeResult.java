@@ -0,0 +1,33 @@
+package com.att.tdp.popcorn_palace.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk showtime import: the created showtimes and every rejected row. A
+ * {@code POST /showtimes/bulk} request is all or nothing, so it has either no conflicts or
+ * no created showtimes; a batch of a streamed import can have both.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class BulkShowtimeResult {
+    @JsonProperty("showtimes")
+    private final List<Showtime> showtimes;
+
+    @JsonProperty("conflicts")
+    private final List<ShowtimeConflict> conflicts;
+
+    @JsonProperty("created")
+    public int getCreated() {
+        return showtimes.size();
+    }
+
+    public boolean hasConflicts() {
+        return !conflicts.isEmpty();
+    }
+}
@@ -0,0 +1,48 @@
+package com.att.tdp.popcorn_palace.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Running totals of a cascading delete: one line of the NDJSON stream sent back after every
+ * committed chunk, and the final summary once the movie itself is gone.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeletionProgress {
+    public static final String PROGRESS = "progress";
+    public static final String SUMMARY = "summary";
+
+    @JsonProperty("type")
+    private final String type;
+
+    @JsonProperty("showtimes")
+    private final long showtimes;
+
+    @JsonProperty("bookings")
+    private final long bookings;
+
+    @JsonProperty("movies")
+    private final Long movies;
+
+    public static DeletionProgress progress(long showtimes, long bookings) {
+        return new DeletionProgress(PROGRESS, showtimes, bookings, null);
+    }
+
+    public static DeletionProgress summary(long showtimes, long bookings, long movies) {
+        return new DeletionProgress(SUMMARY, showtimes, bookings, movies);
+    }
+
+    /**
+     * Adds the rows of one more chunk to these totals.
+     */
+    public DeletionProgress plus(DeletionProgress chunk) {
+        return progress(showtimes + chunk.getShowtimes(), bookings + chunk.getBookings());
+    }
+}
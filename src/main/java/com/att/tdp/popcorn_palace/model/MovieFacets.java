@@ -0,0 +1,22 @@
+package com.att.tdp.popcorn_palace.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * How many movies the catalog has per genre and per release year, both sorted by key.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class MovieFacets {
+    @JsonProperty("genres")
+    private final Map<String, Long> genres;
+
+    @JsonProperty("releaseYears")
+    private final Map<Integer, Long> releaseYears;
+}
@@ -0,0 +1,23 @@
+package com.att.tdp.popcorn_palace.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * One page of the movie catalog, ordered by title. Pass {@code nextCursor} as the
+ * {@code cursor} parameter to get the next page; it is null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class MoviePage {
+    @JsonProperty("movies")
+    private final List<Movie> movies;
+
+    @JsonProperty("nextCursor")
+    private final String nextCursor;
+}
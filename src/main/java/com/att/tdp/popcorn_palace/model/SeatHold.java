@@ -0,0 +1,34 @@
+package com.att.tdp.popcorn_palace.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A short-lived reservation of a seat during checkout. Holds live only in memory and
+ * become a {@link Booking} row once confirmed.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class SeatHold {
+    @JsonProperty("holdId")
+    private final UUID id;
+
+    @JsonProperty("showtimeId")
+    private final Long showtimeId;
+
+    @JsonProperty("seatNumber")
+    private final Integer seatNumber;
+
+    @JsonIgnore
+    private final String userId;
+
+    @JsonProperty("expiresAt")
+    private final Instant expiresAt;
+}
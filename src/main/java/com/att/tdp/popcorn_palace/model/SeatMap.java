@@ -0,0 +1,45 @@
+package com.att.tdp.popcorn_palace.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Occupancy of all seats of a showtime in a compact form. {@code seats} is a base64 bitmap
+ * where seat {@code n} is bit {@code n % 8} of byte {@code n / 8}; a set bit means the seat
+ * is taken, either booked or held. When the theater layout is known the bitmap covers every
+ * seat of the theater; otherwise seats past its end are free.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class SeatMap {
+    public static final String ENCODING = "bitmap-base64";
+
+    @JsonProperty("showtimeId")
+    private final Long showtimeId;
+
+    @JsonProperty("capacity")
+    private final Integer capacity;
+
+    @JsonProperty("occupiedCount")
+    private final int occupiedCount;
+
+    @JsonProperty("seats")
+    private final String seats;
+
+    @JsonIgnore
+    private final String etag;
+
+    @JsonProperty("soldOut")
+    public boolean isSoldOut() {
+        return capacity != null && occupiedCount >= capacity;
+    }
+
+    @JsonProperty("encoding")
+    public String getEncoding() {
+        return ENCODING;
+    }
+}
@@ -0,0 +1,44 @@
+package com.att.tdp.popcorn_palace.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Reason a row of a bulk showtime import was rejected. {@code row} is the zero-based position
+ * of the row in the request; an overlap names either the other row of the request or the
+ * already scheduled showtime it collides with.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ShowtimeConflict {
+    @JsonProperty("row")
+    private final int row;
+
+    @JsonProperty("reason")
+    private final String reason;
+
+    @JsonProperty("conflictingRow")
+    private final Integer conflictingRow;
+
+    @JsonProperty("conflictingShowtimeId")
+    private final Long conflictingShowtimeId;
+
+    public static ShowtimeConflict invalid(int row, String reason) {
+        return new ShowtimeConflict(row, reason, null, null);
+    }
+
+    public static ShowtimeConflict overlappingRow(int row, int conflictingRow) {
+        return new ShowtimeConflict(row, "Overlaps row " + conflictingRow + " of the import",
+                conflictingRow, null);
+    }
+
+    public static ShowtimeConflict overlappingShowtime(int row, Long conflictingShowtimeId) {
+        return new ShowtimeConflict(row, "Overlaps showtime " + conflictingShowtimeId,
+                null, conflictingShowtimeId);
+    }
+}
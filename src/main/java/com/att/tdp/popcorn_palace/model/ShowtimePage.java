@@ -0,0 +1,23 @@
+package com.att.tdp.popcorn_palace.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * One page of a showtime listing, ordered by start time and id. Pass {@code nextCursor} as
+ * the {@code cursor} parameter to get the next page; it is null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ShowtimePage {
+    @JsonProperty("showtimes")
+    private final List<Showtime> showtimes;
+
+    @JsonProperty("nextCursor")
+    private final String nextCursor;
+}
@@ -0,0 +1,56 @@
+package com.att.tdp.popcorn_palace.model;
+
+import com.att.tdp.popcorn_palace.dto.TheaterDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A hall with a rectangular seat layout. Seats are numbered row by row starting at 1, so
+ * seat {@code n} is in row {@code (n - 1) / seatsPerRow + 1}.
+ */
+@Entity
+@Table(name = "theaters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class Theater {
+    public static final int MAX_ROWS = 100;
+    public static final int MAX_SEATS_PER_ROW = 100;
+    public static final int MAX_CAPACITY = MAX_ROWS * MAX_SEATS_PER_ROW;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @JsonIgnore
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    @JsonProperty("name")
+    private String name;
+
+    @Column(name = "row_count", nullable = false)
+    @JsonProperty("rows")
+    private int rowCount;
+
+    @Column(name = "seats_per_row", nullable = false)
+    @JsonProperty("seatsPerRow")
+    private int seatsPerRow;
+
+    public Theater(TheaterDTO theaterDTO) {
+        this.name = theaterDTO.getName();
+        this.rowCount = theaterDTO.getRows();
+        this.seatsPerRow = theaterDTO.getSeatsPerRow();
+    }
+
+    @JsonProperty("capacity")
+    public int getCapacity() {
+        return rowCount * seatsPerRow;
+    }
+
+    public boolean hasSeat(int seatNumber) {
+        return seatNumber >= 1 && seatNumber <= getCapacity();
+    }
+}
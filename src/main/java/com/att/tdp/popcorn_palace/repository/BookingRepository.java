@@ -2,10 +2,23 @@ package com.att.tdp.popcorn_palace.repository;
 
 import com.att.tdp.popcorn_palace.model.Booking;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
     boolean existsByShowtimeIdAndSeatNumber(Long showtimeId, Integer seatNumber);
-} 
\ No newline at end of file
+
+    @Query("SELECT b.seatNumber FROM Booking b WHERE b.showtimeId = :showtimeId")
+    List<Integer> findSeatNumbersByShowtimeId(@Param("showtimeId") Long showtimeId);
+
+    /**
+     * Returns one {@code [showtimeId, seatNumber]} row per booking of the showtimes.
+     */
+    @Query("SELECT b.showtimeId, b.seatNumber FROM Booking b WHERE b.showtimeId IN :showtimeIds")
+    List<Object[]> findSeatNumbersByShowtimeIds(@Param("showtimeIds") Collection<Long> showtimeIds);
+}
@@ -0,0 +1,50 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based deletes of movies, showtimes and their bookings. Each call is one statement,
+ * children first, so the foreign keys in the schema are never violated and no entity is
+ * loaded just to be removed. Runs on the connection of the surrounding transaction, if any.
+ */
+@Repository
+public class CascadeDeleteRepository {
+    private static final String SELECT_SHOWTIMES_OF_MOVIE_SQL =
+            "SELECT id, price, movie_id, theater, start_time, end_time FROM showtimes"
+                    + " WHERE movie_id = :movieId ORDER BY id FETCH FIRST :limit ROWS ONLY";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CascadeDeleteRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns up to {@code limit} showtimes of the movie, lowest IDs first.
+     */
+    public List<Showtime> findShowtimesOfMovie(Long movieId, int limit) {
+        return jdbcTemplate.query(SELECT_SHOWTIMES_OF_MOVIE_SQL, Map.of("movieId", movieId, "limit", limit),
+                (rs, rowNum) -> new Showtime(rs.getLong("id"), rs.getDouble("price"), rs.getLong("movie_id"),
+                        rs.getString("theater"), rs.getObject("start_time", LocalDateTime.class),
+                        rs.getObject("end_time", LocalDateTime.class)));
+    }
+
+    public int deleteBookingsOfShowtimes(Collection<Long> showtimeIds) {
+        return jdbcTemplate.update("DELETE FROM bookings WHERE showtime_id IN (:ids)", Map.of("ids", showtimeIds));
+    }
+
+    public int deleteShowtimes(Collection<Long> showtimeIds) {
+        return jdbcTemplate.update("DELETE FROM showtimes WHERE id IN (:ids)", Map.of("ids", showtimeIds));
+    }
+
+    public int deleteMovie(Long movieId) {
+        return jdbcTemplate.update("DELETE FROM movies WHERE id = :id", Map.of("id", movieId));
+    }
+}
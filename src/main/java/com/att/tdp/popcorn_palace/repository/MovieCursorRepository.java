@@ -0,0 +1,52 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.function.Consumer;
+
+/**
+ * Reads the whole movie catalog through a forward-only JDBC cursor. Rows are fetched from
+ * the database {@code fetchSize} at a time and handed over one by one, without going
+ * through the persistence context, so memory use does not grow with the catalog. Runs on
+ * the connection of the surrounding transaction, which some drivers need to stream.
+ */
+@Repository
+public class MovieCursorRepository {
+    private static final String SELECT_ALL_SQL =
+            "SELECT id, title, genre, duration, rating, release_year FROM movies ORDER BY title";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public MovieCursorRepository(JdbcTemplate jdbcTemplate,
+                                 @Value("${popcorn-palace.movies.stream-fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Passes every movie, ordered by title, to {@code action}. The same instance is reused
+     * for every row, so {@code action} must not keep it.
+     */
+    public void forEach(Consumer<Movie> action) {
+        Movie movie = new Movie();
+        // The fetch size is set on the statement, not on the shared template
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_ALL_SQL);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, rs -> {
+            movie.setId(rs.getLong("id"));
+            movie.setTitle(rs.getString("title"));
+            movie.setGenre(rs.getString("genre"));
+            movie.setDuration(rs.getInt("duration"));
+            movie.setRating(rs.getDouble("rating"));
+            movie.setReleaseYear(rs.getInt("release_year"));
+            action.accept(movie);
+        });
+    }
+}
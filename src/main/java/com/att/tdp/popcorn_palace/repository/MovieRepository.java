@@ -1,14 +1,62 @@
 package com.att.tdp.popcorn_palace.repository;
 
 import com.att.tdp.popcorn_palace.model.Movie;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
     boolean existsByTitle(String title);
     Optional<Movie> findByTitle(String title);
     void deleteByTitle(String title);
+
+    @Query("SELECT m.id FROM Movie m WHERE m.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT m.title FROM Movie m WHERE m.title IN :titles")
+    Set<String> findExistingTitles(@Param("titles") Collection<String> titles);
+
+    /**
+     * Returns one {@code [genre, count]} row per genre.
+     */
+    @Query("SELECT m.genre, COUNT(m) FROM Movie m GROUP BY m.genre")
+    List<Object[]> countByGenre();
+
+    /**
+     * Returns one {@code [releaseYear, count]} row per release year.
+     */
+    @Query("SELECT m.releaseYear, COUNT(m) FROM Movie m GROUP BY m.releaseYear")
+    List<Object[]> countByReleaseYear();
+
+    /**
+     * Overwrites the movie titled {@code title} in one statement, without loading it first.
+     * Returns the number of rows changed, 0 when no movie has that title.
+     */
+    @Modifying
+    @Query("UPDATE Movie m SET m.title = :newTitle, m.genre = :genre, m.duration = :duration, "
+            + "m.rating = :rating, m.releaseYear = :releaseYear WHERE m.title = :title")
+    int updateByTitle(@Param("title") String title, @Param("newTitle") String newTitle, @Param("genre") String genre,
+                      @Param("duration") int duration, @Param("rating") Double rating,
+                      @Param("releaseYear") int releaseYear);
+
+    /**
+     * Returns the first movies in title order: the first page of the listing.
+     */
+    List<Movie> findAllByOrderByTitle(Limit limit);
+
+    /**
+     * Returns the movies whose title sorts after {@code title}, in title order. A separate
+     * query from the first page, rather than an {@code :title IS NULL OR ...} branch, so it
+     * seeks straight into the unique index on the title.
+     */
+    List<Movie> findByTitleGreaterThanOrderByTitle(String title, Limit limit);
 } 
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts showtimes with plain JDBC batches. Showtime ids are identity columns, which keeps
+ * Hibernate from batching their inserts; going through JDBC sends a whole chunk of rows in
+ * one round trip. Runs on the connection of the surrounding transaction.
+ */
+@Repository
+public class ShowtimeBatchRepository {
+    static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL =
+            "INSERT INTO showtimes (movie_id, theater, start_time, end_time, price) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ShowtimeBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the showtimes and sets their generated ids.
+     */
+    public List<Showtime> insertAll(List<Showtime> showtimes) {
+        for (int from = 0; from < showtimes.size(); from += BATCH_SIZE) {
+            insertChunk(showtimes.subList(from, Math.min(from + BATCH_SIZE, showtimes.size())));
+        }
+        return showtimes;
+    }
+
+    private void insertChunk(List<Showtime> chunk) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Showtime showtime = chunk.get(i);
+                        ps.setLong(1, showtime.getMovieId());
+                        ps.setString(2, showtime.getTheater());
+                        ps.setObject(3, showtime.getStartTime());
+                        ps.setObject(4, showtime.getEndTime());
+                        ps.setDouble(5, showtime.getPrice());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException("Expected " + chunk.size() + " generated ids but got " + keys.size());
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            chunk.get(i).setId(id.longValue());
+        }
+    }
+}
@@ -6,11 +6,17 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 
 @Repository
-public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
+public interface ShowtimeRepository extends JpaRepository<Showtime, Long>, ShowtimeRepositoryCustom {
+    List<Showtime> findByTheater(String theater);
+
+    List<Showtime> findByTheaterAndEndTimeGreaterThanEqual(String theater, LocalDateTime endTime);
+
     @Query("SELECT s FROM Showtime s WHERE s.theater = :theater AND " +
            "((s.startTime <= :endTime AND s.endTime >= :startTime) OR " +
            "(s.startTime >= :startTime AND s.startTime < :endTime))")
@@ -19,4 +25,10 @@ public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime
     );
+
+    /**
+     * Returns which of the showtimes exist and have not ended by {@code now}.
+     */
+    @Query("SELECT s.id FROM Showtime s WHERE s.id IN :ids AND s.endTime > :now")
+    Set<Long> findUpcomingIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ShowtimeRepositoryCustom {
+    /**
+     * Lists showtimes ordered by start time and id, starting right after the given key.
+     * Null filters and a null key are left out of the query.
+     */
+    List<Showtime> search(String theater, Long movieId, LocalDateTime from, LocalDateTime to,
+                          LocalDateTime afterStartTime, Long afterId, int limit);
+}
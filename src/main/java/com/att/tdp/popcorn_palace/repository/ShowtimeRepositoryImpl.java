@@ -0,0 +1,55 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the listing query from the filters actually given, rather than one query with
+ * {@code :param IS NULL OR ...} branches, so each combination can seek straight into the
+ * matching {@code (…, start_time, id)} index.
+ */
+class ShowtimeRepositoryImpl implements ShowtimeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Showtime> search(String theater, Long movieId, LocalDateTime from, LocalDateTime to,
+                                 LocalDateTime afterStartTime, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT s FROM Showtime s WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+        if (theater != null) {
+            jpql.append(" AND s.theater = :theater");
+            parameters.put("theater", theater);
+        }
+        if (movieId != null) {
+            jpql.append(" AND s.movieId = :movieId");
+            parameters.put("movieId", movieId);
+        }
+        if (from != null) {
+            jpql.append(" AND s.startTime >= :from");
+            parameters.put("from", from);
+        }
+        if (to != null) {
+            jpql.append(" AND s.startTime < :to");
+            parameters.put("to", to);
+        }
+        if (afterStartTime != null) {
+            jpql.append(" AND (s.startTime > :afterStartTime OR (s.startTime = :afterStartTime AND s.id > :afterId))");
+            parameters.put("afterStartTime", afterStartTime);
+            parameters.put("afterId", afterId);
+        }
+        jpql.append(" ORDER BY s.startTime, s.id");
+
+        TypedQuery<Showtime> query = entityManager.createQuery(jpql.toString(), Showtime.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,18 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Theater;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TheaterRepository extends JpaRepository<Theater, Long> {
+    boolean existsByName(String name);
+    Optional<Theater> findByName(String name);
+
+    @Query("SELECT t FROM Theater t, Showtime s WHERE s.id = :showtimeId AND t.name = s.theater")
+    Optional<Theater> findByShowtimeId(@Param("showtimeId") Long showtimeId);
+}
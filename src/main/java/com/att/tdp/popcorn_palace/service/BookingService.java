@@ -1,45 +1,142 @@
 package com.att.tdp.popcorn_palace.service;
 
+import com.att.tdp.popcorn_palace.dto.BatchBookingDTO;
 import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.index.SeatOccupancyIndex;
+import com.att.tdp.popcorn_palace.index.ShowtimeCache;
 import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.model.Showtime;
 import com.att.tdp.popcorn_palace.repository.BookingRepository;
-import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.util.ConstraintViolations;
+import com.att.tdp.popcorn_palace.util.TransactionCallbacks;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashSet;
+import java.util.List;
+
 @Service
 public class BookingService {
     private static final Logger logger = LoggerFactory.getLogger(BookingService.class);
     private final BookingRepository bookingRepository;
-    private final ShowtimeRepository showtimeRepository;
+    private final ShowtimeCache showtimeCache;
+    private final SeatOccupancyIndex seatOccupancyIndex;
+    private final BookingWriter bookingWriter;
+    private final TheaterService theaterService;
 
-    public BookingService(BookingRepository bookingRepository, ShowtimeRepository showtimeRepository) {
+    public BookingService(BookingRepository bookingRepository, ShowtimeCache showtimeCache,
+                          SeatOccupancyIndex seatOccupancyIndex, BookingWriter bookingWriter,
+                          TheaterService theaterService) {
         this.bookingRepository = bookingRepository;
-        this.showtimeRepository = showtimeRepository;
+        this.showtimeCache = showtimeCache;
+        this.seatOccupancyIndex = seatOccupancyIndex;
+        this.bookingWriter = bookingWriter;
+        this.theaterService = theaterService;
     }
 
-    @Transactional
+    /**
+     * Books a single seat. Not transactional itself: the showtime lookup and seat claim need
+     * no transaction, and the {@link BookingWriter} commits the insert, possibly grouped with
+     * other bookings.
+     */
     public Booking createBooking(BookingDTO bookingDTO) {
         logger.info("Attempting to create booking for showtime ID: {}, seat: {}, user: {}",
                 bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber(), bookingDTO.getUserId());
 
-        Showtime showtime = showtimeRepository.findById(bookingDTO.getShowtimeId()).orElse(null);
+        Showtime showtime = showtimeCache.findById(bookingDTO.getShowtimeId()).orElse(null);
         if (showtime == null) {
             throw new EntityNotFoundException("Showtime not found with ID: " + bookingDTO.getShowtimeId());
         }
+        theaterService.validateSeats(showtime.getTheater(), List.of(bookingDTO.getSeatNumber()));
 
-        // Check if seat is already booked
-        if (bookingRepository.existsByShowtimeIdAndSeatNumber(bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber())) {
-            throw new IllegalArgumentException("Seat " + bookingDTO.getSeatNumber() + " is already booked for this showtime");
+        // Claim the seat in memory; the claim is confirmed or released once the insert completes
+        Long showtimeId = bookingDTO.getShowtimeId();
+        int seatNumber = bookingDTO.getSeatNumber();
+        if (!seatOccupancyIndex.tryClaim(showtimeId, seatNumber)) {
+            throw new IllegalArgumentException("Seat " + seatNumber + " is already booked for this showtime");
         }
 
-        Booking booking = new Booking(bookingDTO);
-        Booking savedBooking = bookingRepository.save(booking);
+        Booking savedBooking;
+        try {
+            savedBooking = bookingWriter.write(new Booking(bookingDTO));
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.violates(e, Booking.SEAT_CONSTRAINT)) {
+                seatOccupancyIndex.release(showtimeId, seatNumber);
+                throw showtimeGone(showtimeId, e);
+            }
+            // Another instance booked the seat; reload this showtime's occupancy on next use
+            logger.warn("Seat {} for showtime ID: {} was booked outside this instance", seatNumber, showtimeId);
+            seatOccupancyIndex.evict(showtimeId);
+            throw new IllegalArgumentException("Seat " + seatNumber + " is already booked for this showtime");
+        } catch (RuntimeException e) {
+            seatOccupancyIndex.release(showtimeId, seatNumber);
+            throw e;
+        }
+        seatOccupancyIndex.confirm(showtimeId, seatNumber);
         logger.info("Booking created successfully: {}", savedBooking);
         return savedBooking;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Books several seats of one showtime for one user, all or nothing. The showtime is
+     * validated once and every row is inserted in a single JDBC batch.
+     */
+    @Transactional
+    public List<Booking> createBookings(BatchBookingDTO batchBookingDTO) {
+        Long showtimeId = batchBookingDTO.getShowtimeId();
+        List<Integer> seatNumbers = batchBookingDTO.getSeatNumbers();
+        logger.info("Attempting to create {} bookings for showtime ID: {}, seats: {}, user: {}",
+                seatNumbers.size(), showtimeId, seatNumbers, batchBookingDTO.getUserId());
+
+        Showtime showtime = showtimeCache.findById(showtimeId)
+                .orElseThrow(() -> new EntityNotFoundException("Showtime not found with ID: " + showtimeId));
+        if (new HashSet<>(seatNumbers).size() != seatNumbers.size()) {
+            throw new IllegalArgumentException("Seat numbers must not repeat within a booking request");
+        }
+        theaterService.validateSeats(showtime.getTheater(), seatNumbers);
+
+        List<Integer> alreadyBooked = seatOccupancyIndex.tryClaimAll(showtimeId, seatNumbers);
+        if (!alreadyBooked.isEmpty()) {
+            throw new IllegalArgumentException("Seats " + alreadyBooked + " are already booked for this showtime");
+        }
+
+        List<Booking> bookings = seatNumbers.stream()
+                .map(seatNumber -> new Booking(null, showtimeId, seatNumber, batchBookingDTO.getUserId()))
+                .toList();
+        List<Booking> savedBookings;
+        try {
+            savedBookings = bookingRepository.saveAllAndFlush(bookings);
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.violates(e, Booking.SEAT_CONSTRAINT)) {
+                seatOccupancyIndex.releaseAll(showtimeId, seatNumbers);
+                throw showtimeGone(showtimeId, e);
+            }
+            logger.warn("Seats {} for showtime ID: {} were booked outside this instance", seatNumbers, showtimeId);
+            seatOccupancyIndex.evict(showtimeId);
+            throw new IllegalArgumentException("Some of the seats " + seatNumbers + " are already booked for this showtime");
+        } catch (RuntimeException e) {
+            seatOccupancyIndex.releaseAll(showtimeId, seatNumbers);
+            throw e;
+        }
+        TransactionCallbacks.onCompletion(
+                () -> seatOccupancyIndex.confirmAll(showtimeId, seatNumbers),
+                () -> seatOccupancyIndex.releaseAll(showtimeId, seatNumbers));
+        logger.info("{} bookings created successfully for showtime ID: {}", savedBookings.size(), showtimeId);
+        return savedBookings;
+    }
+
+    /**
+     * The insert broke a constraint other than the unique seat index, which means the
+     * showtime was deleted after it was looked up. Its cached copy is dropped.
+     */
+    private EntityNotFoundException showtimeGone(Long showtimeId, DataIntegrityViolationException e) {
+        logger.warn("Booking for showtime ID: {} violated a constraint other than the seat index: {}",
+                showtimeId, e.getMostSpecificCause().getMessage());
+        showtimeCache.invalidate(showtimeId);
+        return new EntityNotFoundException("Showtime not found with ID: " + showtimeId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+
+/**
+ * Persists a validated booking. The booking is committed by the time {@link #write} returns.
+ */
+public interface BookingWriter {
+    Booking write(Booking booking);
+}
@@ -0,0 +1,259 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.config.GroupCommitProperties;
+import com.att.tdp.popcorn_palace.exceptions.ServiceUnavailableException;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind pipeline that commits bookings in groups. Callers enqueue a booking and
+ * block until the batch containing it has committed; a single writer thread drains the
+ * queue into multi-row JDBC batches, so many bookings share one transaction and one log
+ * flush. A failed batch is retried row by row so one conflicting seat does not fail the
+ * bookings it was grouped with.
+ *
+ * <p>A caller that gives up waiting abandons its booking, and the writer skips abandoned
+ * bookings, so a booking reported as failed is never committed afterwards. Once the writer
+ * has taken a booking into a batch the caller waits for that batch's outcome instead, up to
+ * the in-flight timeout. Past that the booking is reported as unavailable, since it may
+ * still commit.
+ */
+@Component
+@ConditionalOnProperty(name = "popcorn-palace.bookings.group-commit.enabled", havingValue = "true")
+public class GroupCommitBookingWriter implements BookingWriter {
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitBookingWriter.class);
+
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final GroupCommitProperties properties;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Thread writer;
+    private final DistributionSummary batchFillRatio;
+    private final Timer commitLatency;
+    private final Counter fallbackBatches;
+    private final Counter abandonedWrites;
+    private volatile boolean running = true;
+
+    public GroupCommitBookingWriter(BookingRepository bookingRepository, PlatformTransactionManager transactionManager,
+                                    GroupCommitProperties properties, MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.writer = new Thread(this::run, "booking-group-commit");
+        this.writer.setDaemon(true);
+        this.batchFillRatio = DistributionSummary.builder("bookings.group_commit.batch_fill_ratio")
+                .description("Size of each committed batch relative to the maximum batch size")
+                .register(meterRegistry);
+        this.commitLatency = Timer.builder("bookings.group_commit.commit_latency")
+                .description("Time to insert and commit one batch of bookings")
+                .register(meterRegistry);
+        this.fallbackBatches = Counter.builder("bookings.group_commit.fallback_batches")
+                .description("Batches that failed and were retried one booking at a time")
+                .register(meterRegistry);
+        this.abandonedWrites = Counter.builder("bookings.group_commit.abandoned")
+                .description("Bookings skipped because the caller stopped waiting before they were written")
+                .register(meterRegistry);
+        Gauge.builder("bookings.group_commit.queue_size", queue, BlockingQueue::size)
+                .description("Bookings waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        logger.info("Group commit enabled with batches of up to {} bookings and a linger of {}",
+                properties.getMaxBatchSize(), properties.getLinger());
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(properties.getCommitTimeout().toMillis());
+    }
+
+    @Override
+    public Booking write(Booking booking) {
+        PendingWrite pendingWrite = new PendingWrite(booking);
+        try {
+            if (!running || !queue.offer(pendingWrite)) {
+                throw new ServiceUnavailableException("Booking queue is full, please retry", properties.getRetryAfter());
+            }
+            return pendingWrite.result.get(properties.getCommitTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            if (pendingWrite.abandon()) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the booking to commit", e);
+            }
+            try {
+                return awaitTaken(pendingWrite);
+            } finally {
+                Thread.currentThread().interrupt();
+            }
+        } catch (TimeoutException e) {
+            if (pendingWrite.abandon()) {
+                throw new IllegalStateException("Timed out waiting for the booking to commit", e);
+            }
+            return awaitTaken(pendingWrite);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * Waits for a booking the writer already took into a batch. A stalled commit must not
+     * hold the caller forever, so the wait is bounded; the outcome is then unknown and the
+     * caller is asked to retry, which the unique seat index answers either way.
+     */
+    private Booking awaitTaken(PendingWrite pendingWrite) {
+        try {
+            return pendingWrite.result.get(properties.getInFlightTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Booking is still being committed, please retry", properties.getRetryAfter());
+        } catch (TimeoutException e) {
+            logger.warn("Booking of seat {} for showtime ID: {} still uncommitted after {}",
+                    pendingWrite.booking.getSeatNumber(), pendingWrite.booking.getShowtimeId(), properties.getInFlightTimeout());
+            throw new ServiceUnavailableException("Booking is still being committed, please retry", properties.getRetryAfter());
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Unexpected failure in the booking group commit writer", e);
+                batch.forEach(pendingWrite -> pendingWrite.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fillBatch(List<PendingWrite> batch) throws InterruptedException {
+        long lingerDeadline = System.nanoTime() + properties.getLinger().toNanos();
+        while (batch.size() < properties.getMaxBatchSize()) {
+            // Take whatever is already queued before waiting for more
+            if (queue.drainTo(batch, properties.getMaxBatchSize() - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = lingerDeadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        int queued = batch.size();
+        batch.removeIf(pendingWrite -> !pendingWrite.take());
+        if (batch.size() < queued) {
+            abandonedWrites.increment(queued - batch.size());
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchFillRatio.record((double) batch.size() / properties.getMaxBatchSize());
+        List<Booking> bookings = batch.stream().map(pendingWrite -> pendingWrite.booking).toList();
+        long start = System.nanoTime();
+        try {
+            List<Booking> saved = transactionTemplate.execute(status -> bookingRepository.saveAllAndFlush(bookings));
+            commitLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(saved.get(i));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Group commit of {} bookings failed, retrying one by one: {}", batch.size(), e.getMessage());
+            fallbackBatches.increment();
+            batch.forEach(this::commitSingle);
+        }
+    }
+
+    private void commitSingle(PendingWrite pendingWrite) {
+        try {
+            // Retry with a fresh entity; the failed batch may have left an ID on the original
+            Booking booking = pendingWrite.booking;
+            Booking copy = new Booking(null, booking.getShowtimeId(), booking.getSeatNumber(), booking.getUserId());
+            pendingWrite.result.complete(transactionTemplate.execute(status -> bookingRepository.saveAndFlush(copy)));
+        } catch (RuntimeException e) {
+            pendingWrite.result.completeExceptionally(e);
+        }
+    }
+
+    private static final class PendingWrite {
+        private static final int QUEUED = 0;
+        private static final int TAKEN = 1;
+        private static final int ABANDONED = 2;
+
+        private final Booking booking;
+        private final CompletableFuture<Booking> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private PendingWrite(Booking booking) {
+            this.booking = booking;
+        }
+
+        /**
+         * Called by the writer before the booking joins a batch; false if the caller already
+         * abandoned it.
+         */
+        private boolean take() {
+            return state.compareAndSet(QUEUED, TAKEN);
+        }
+
+        /**
+         * Called by a caller that stops waiting; false if the writer already took the booking.
+         */
+        private boolean abandon() {
+            return state.compareAndSet(QUEUED, ABANDONED);
+        }
+    }
+}
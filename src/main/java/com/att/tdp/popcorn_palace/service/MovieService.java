@@ -1,73 +1,256 @@
 package com.att.tdp.popcorn_palace.service;
 
 import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.MovieListingDTO;
+import com.att.tdp.popcorn_palace.dto.MovieSearchDTO;
+import com.att.tdp.popcorn_palace.exceptions.ConflictException;
+import com.att.tdp.popcorn_palace.index.CatalogSnapshot;
+import com.att.tdp.popcorn_palace.index.MovieCatalogIndex;
+import com.att.tdp.popcorn_palace.index.MovieFacetCounters;
+import com.att.tdp.popcorn_palace.model.DeletionProgress;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.MovieFacets;
+import com.att.tdp.popcorn_palace.model.MoviePage;
+import com.att.tdp.popcorn_palace.repository.CascadeDeleteRepository;
+import com.att.tdp.popcorn_palace.repository.MovieCursorRepository;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.util.KeysetCursor;
+import com.att.tdp.popcorn_palace.util.TransactionCallbacks;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 public class MovieService {
     private static final Logger logger = LoggerFactory.getLogger(MovieService.class);
+    private static final int DELETE_ATTEMPTS = 3;
     private final MovieRepository movieRepository;
+    private final MovieCatalogIndex movieCatalogIndex;
+    private final MovieFacetCounters movieFacetCounters;
+    private final ShowtimeService showtimeService;
+    private final CascadeDeleteRepository cascadeDeleteRepository;
+    private final MovieCursorRepository movieCursorRepository;
+    private final int deleteChunkSize;
 
-    public MovieService(MovieRepository movieRepository) {
+    public MovieService(MovieRepository movieRepository, MovieCatalogIndex movieCatalogIndex,
+                        MovieFacetCounters movieFacetCounters, ShowtimeService showtimeService, CascadeDeleteRepository cascadeDeleteRepository,
+                        MovieCursorRepository movieCursorRepository,
+                        @Value("${popcorn-palace.deletes.chunk-size:500}") int deleteChunkSize) {
         this.movieRepository = movieRepository;
+        this.movieCatalogIndex = movieCatalogIndex;
+        this.movieFacetCounters = movieFacetCounters;
+        this.showtimeService = showtimeService;
+        this.cascadeDeleteRepository = cascadeDeleteRepository;
+        this.movieCursorRepository = movieCursorRepository;
+        this.deleteChunkSize = deleteChunkSize;
     }
 
     @Transactional
     public Movie createMovie(MovieDTO movieDTO) {
-        if (movieRepository.existsByTitle(movieDTO.getTitle())) {
+        if (movieCatalogIndex.containsTitle(movieDTO.getTitle())) {
             logger.warn("Movie with title '{}' already exists", movieDTO.getTitle());
             throw new IllegalArgumentException("A movie with this title already exists");
         }
 
         Movie movie = new Movie(movieDTO);
         logger.info("Creating movie: {}", movie.getTitle());
-        return movieRepository.save(movie);
+        Movie savedMovie;
+        try {
+            savedMovie = movieRepository.save(movie);
+        } catch (DataIntegrityViolationException e) {
+            // Created by another instance since the catalog was last reconciled
+            logger.warn("Movie with title '{}' already exists outside the catalog index", movieDTO.getTitle());
+            throw new IllegalArgumentException("A movie with this title already exists");
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            movieCatalogIndex.put(savedMovie);
+            movieFacetCounters.added(savedMovie);
+        });
+        return savedMovie;
     }
 
+    /**
+     * Imports one batch of a streamed catalog feed. Titles already in the catalog, or
+     * repeated earlier in the batch, are skipped; the rest are saved together. Returns the
+     * reason each skipped row was rejected, keyed by its position in the batch.
+     */
+    @Transactional
+    public Map<Integer, String> importMovies(List<MovieDTO> movieDTOs) {
+        Set<String> titles = movieDTOs.stream().map(MovieDTO::getTitle).collect(Collectors.toSet());
+        Set<String> takenTitles = new HashSet<>(movieCatalogIndex.findExistingTitles(titles));
+        Map<Integer, String> rejected = new TreeMap<>();
+        List<Movie> movies = new ArrayList<>(movieDTOs.size());
+        for (int row = 0; row < movieDTOs.size(); row++) {
+            MovieDTO movieDTO = movieDTOs.get(row);
+            if (!takenTitles.add(movieDTO.getTitle())) {
+                rejected.put(row, "A movie with this title already exists");
+            } else {
+                movies.add(new Movie(movieDTO));
+            }
+        }
+        logger.info("Importing {} movies, skipping {} existing titles", movies.size(), rejected.size());
+        List<Movie> savedMovies = movieRepository.saveAll(movies);
+        TransactionCallbacks.afterCommit(() -> {
+            movieCatalogIndex.putAll(savedMovies);
+            savedMovies.forEach(movieFacetCounters::added);
+        });
+        return rejected;
+    }
+
+    /**
+     * The whole catalog, served from the {@link MovieCatalogIndex} together with its JSON
+     * form. Not transactional: once serialized, a version of the catalog is served without
+     * SQL or serialization.
+     */
+    public CatalogSnapshot getCatalog() {
+        CatalogSnapshot snapshot = movieCatalogIndex.snapshot();
+        logger.debug("Serving version {} of the catalog with {} movies", snapshot.getVersion(), snapshot.getMovies().size());
+        return snapshot;
+    }
+
+    /**
+     * Movie counts per genre and release year, from in-memory counters.
+     */
+    public MovieFacets getFacets() {
+        return movieFacetCounters.counts();
+    }
+
+    /**
+     * Searches titles and genres in memory; the database is not queried.
+     */
+    public List<Movie> searchMovies(MovieSearchDTO search) {
+        return movieCatalogIndex.search(search.getQ(), search.getLimit());
+    }
+
+    /**
+     * Lists the catalog page by page with keyset pagination on the title. One extra row is
+     * fetched to tell whether another page follows.
+     */
     @Transactional(readOnly = true)
-    public List<Movie> getAllMovies() {
-        logger.info("Fetching all movies from database");
-        List<Movie> movies = movieRepository.findAll();
-        logger.info("Found {} movies", movies.size());
-        return movies;
+    public MoviePage getMoviePage(MovieListingDTO listing) {
+        String afterTitle = listing.getCursor() == null ? null : KeysetCursor.decode(listing.getCursor(), 1)[0];
+        int limit = listing.getLimit();
+        List<Movie> movies = afterTitle == null
+                ? movieRepository.findAllByOrderByTitle(Limit.of(limit + 1))
+                : movieRepository.findByTitleGreaterThanOrderByTitle(afterTitle, Limit.of(limit + 1));
+        if (movies.size() <= limit) {
+            return new MoviePage(movies, null);
+        }
+        List<Movie> page = movies.subList(0, limit);
+        return new MoviePage(page, KeysetCursor.encode(page.get(limit - 1).getTitle()));
     }
 
+    /**
+     * Hands every movie, in title order, to {@code action} as it is read from a database
+     * cursor. The movie passed in is reused for the next row.
+     */
     @Transactional(readOnly = true)
+    public void streamMovies(Consumer<Movie> action) {
+        movieCursorRepository.forEach(action);
+    }
+
+    /**
+     * Served from the {@link MovieCatalogIndex}. Not transactional, so a lookup of a known
+     * title takes no connection from the pool.
+     */
     public Movie getMovieByTitle(String title) {
         logger.debug("Fetching movie with title: {}", title);
-        return movieRepository.findByTitle(title)
+        return movieCatalogIndex.findByTitle(title)
                 .orElseThrow(() -> {
                     logger.warn("Movie not found with title: {}", title);
                     return new EntityNotFoundException("Movie not found with title: " + title);
                 });
     }
 
+    /**
+     * Overwrites the movie in a single UPDATE, checking the row count instead of loading
+     * the movie first. The returned movie is the one described by {@code movieDTO}.
+     */
     @Transactional
     public Movie updateMovie(String title, MovieDTO movieDTO) {
         logger.info("Updating movie with title: {}", title);
-        Movie existingMovie = getMovieByTitle(title);
         Movie updatedMovie = new Movie(movieDTO);
-        updatedMovie.setId(existingMovie.getId());
-        logger.info("Movie updated: {}", updatedMovie);
-        return movieRepository.save(updatedMovie);
+        int updated;
+        try {
+            updated = movieRepository.updateByTitle(title, updatedMovie.getTitle(), updatedMovie.getGenre(),
+                    updatedMovie.getDuration(), updatedMovie.getRating(), updatedMovie.getReleaseYear());
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Cannot rename movie '{}' to '{}', the title is taken", title, movieDTO.getTitle());
+            throw new IllegalArgumentException("A movie with this title already exists");
+        }
+        if (updated == 0) {
+            logger.warn("Movie not found with title: {}", title);
+            throw new EntityNotFoundException("Movie not found with title: " + title);
+        }
+        logger.info("Movie updated: {}", updatedMovie.getTitle());
+        TransactionCallbacks.afterCommit(() -> movieCatalogIndex.replace(title, updatedMovie)
+                .ifPresent(previous -> movieFacetCounters.replaced(previous, updatedMovie)));
+        return updatedMovie;
     }
 
-    @Transactional
     public void deleteMovie(String title) {
+        deleteMovie(title, progress -> { });
+    }
+
+    /**
+     * Deletes a movie with all its showtimes and their bookings. Not transactional on
+     * purpose: showtimes are deleted in chunks of {@code popcorn-palace.deletes.chunk-size},
+     * each committed on its own so no transaction holds locks for long, and
+     * {@code listener} is told the running totals after every chunk. The movie row goes
+     * last; if a showtime was scheduled for it meanwhile, the remaining showtimes are
+     * drained again.
+     */
+    public DeletionProgress deleteMovie(String title, Consumer<DeletionProgress> listener) {
         logger.info("Deleting movie with title: {}", title);
-        if (!movieRepository.existsByTitle(title)) {
+        Movie movie = movieCatalogIndex.findByTitle(title).orElseThrow(() -> {
             logger.warn("Attempted to delete non-existing movie with title: {}", title);
-            throw new EntityNotFoundException("Movie not found with title: " + title);
+            return new EntityNotFoundException("Movie not found with title: " + title);
+        });
+
+        DeletionProgress totals = DeletionProgress.progress(0, 0);
+        for (int attempt = 1; ; attempt++) {
+            DeletionProgress chunk;
+            do {
+                chunk = showtimeService.deleteShowtimesOfMovie(movie.getId(), deleteChunkSize);
+                if (chunk.getShowtimes() > 0) {
+                    totals = totals.plus(chunk);
+                    logger.info("Deleting movie: {}, removed {} showtimes and {} bookings so far",
+                            title, totals.getShowtimes(), totals.getBookings());
+                    listener.accept(totals);
+                }
+            } while (chunk.getShowtimes() == deleteChunkSize);
+
+            try {
+                int movies = cascadeDeleteRepository.deleteMovie(movie.getId());
+                TransactionCallbacks.afterCommit(() -> {
+                    movieCatalogIndex.remove(movie.getId());
+                    if (movies > 0) {
+                        movieFacetCounters.removed(movie);
+                    }
+                });
+                logger.info("Movie deleted successfully: {}, with {} showtimes and {} bookings",
+                        title, totals.getShowtimes(), totals.getBookings());
+                return DeletionProgress.summary(totals.getShowtimes(), totals.getBookings(), movies);
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == DELETE_ATTEMPTS) {
+                    throw new ConflictException("Movie is still being scheduled, try deleting it again");
+                }
+                logger.warn("Showtimes were scheduled for movie: {} while it was being deleted", title);
+            }
         }
-        movieRepository.deleteByTitle(title);
-        logger.info("Movie deleted successfully: {}", title);
     }
 } 
\ No newline at end of file
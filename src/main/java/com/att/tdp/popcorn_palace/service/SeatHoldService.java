@@ -0,0 +1,240 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.dto.SeatHoldDTO;
+import com.att.tdp.popcorn_palace.index.SeatOccupancyIndex;
+import com.att.tdp.popcorn_palace.index.ShowtimeCache;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.SeatHold;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.util.ConstraintViolations;
+import com.att.tdp.popcorn_palace.util.HashedTimingWheel;
+import com.att.tdp.popcorn_palace.util.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reserves seats for the duration of a checkout. A hold claims the seat in the occupancy
+ * index, so neither bookings nor other holds can take it, and releases it again when it
+ * expires. Expiry is driven by a timing wheel; holds never touch the database until they
+ * are confirmed. Each user may hold at most {@code popcorn-palace.holds.max-per-user} seats
+ * at a time.
+ */
+@Service
+public class SeatHoldService {
+    private static final Logger logger = LoggerFactory.getLogger(SeatHoldService.class);
+    private static final Duration TICK = Duration.ofMillis(100);
+    private static final int TICKS_PER_WHEEL = 1024;
+
+    private final BookingRepository bookingRepository;
+    private final ShowtimeCache showtimeCache;
+    private final SeatOccupancyIndex seatOccupancyIndex;
+    private final TheaterService theaterService;
+    private final Duration holdTtl;
+    private final int maxHoldsPerUser;
+    private final HashedTimingWheel timingWheel = new HashedTimingWheel("seat-hold-expiry", TICK, TICKS_PER_WHEEL);
+    private final ConcurrentMap<UUID, ActiveHold> holds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> holdsPerUser = new ConcurrentHashMap<>();
+
+    public SeatHoldService(BookingRepository bookingRepository, ShowtimeCache showtimeCache,
+                           SeatOccupancyIndex seatOccupancyIndex, TheaterService theaterService,
+                           @Value("${popcorn-palace.holds.ttl:PT2M}") Duration holdTtl,
+                           @Value("${popcorn-palace.holds.max-per-user:10}") int maxHoldsPerUser) {
+        this.bookingRepository = bookingRepository;
+        this.showtimeCache = showtimeCache;
+        this.seatOccupancyIndex = seatOccupancyIndex;
+        this.theaterService = theaterService;
+        this.holdTtl = holdTtl;
+        this.maxHoldsPerUser = maxHoldsPerUser;
+    }
+
+    public SeatHold createHold(SeatHoldDTO seatHoldDTO) {
+        Long showtimeId = seatHoldDTO.getShowtimeId();
+        int seatNumber = seatHoldDTO.getSeatNumber();
+        logger.info("Attempting to hold seat: {} for showtime ID: {}, user: {}", seatNumber, showtimeId, seatHoldDTO.getUserId());
+
+        String userId = seatHoldDTO.getUserId();
+        reserveUserSlot(userId);
+        try {
+            Showtime showtime = showtimeCache.findById(showtimeId)
+                    .orElseThrow(() -> new EntityNotFoundException("Showtime not found with ID: " + showtimeId));
+            theaterService.validateSeats(showtime.getTheater(), List.of(seatNumber));
+            if (!seatOccupancyIndex.tryHold(showtimeId, seatNumber)) {
+                throw new IllegalArgumentException("Seat " + seatNumber + " is already booked for this showtime");
+            }
+        } catch (RuntimeException e) {
+            releaseUserSlot(userId);
+            throw e;
+        }
+
+        SeatHold hold = new SeatHold(UUID.randomUUID(), showtimeId, seatNumber, userId,
+                Instant.now().plus(holdTtl));
+        ActiveHold activeHold = new ActiveHold(hold);
+        holds.put(hold.getId(), activeHold);
+        activeHold.timeout = timingWheel.schedule(() -> expire(activeHold), holdTtl);
+        logger.info("Seat hold created: {}", hold);
+        return hold;
+    }
+
+    /**
+     * Turns a hold into a booking. Fails if the hold was released, has expired or belongs to
+     * another user. The hold is only dropped once the booking commits; if the insert fails for
+     * any reason other than the seat being taken, the hold stays in place and can be confirmed
+     * again.
+     */
+    @Transactional
+    public Booking confirmHold(UUID holdId, String userId) {
+        ActiveHold activeHold = claimHold(holdId, userId);
+        SeatHold hold = activeHold.hold;
+        Long showtimeId = hold.getShowtimeId();
+        int seatNumber = hold.getSeatNumber();
+
+        Booking savedBooking;
+        try {
+            savedBooking = bookingRepository.saveAndFlush(new Booking(null, showtimeId, seatNumber, hold.getUserId()));
+        } catch (DataIntegrityViolationException e) {
+            finish(activeHold);
+            seatOccupancyIndex.releaseHold(showtimeId, seatNumber);
+            if (!ConstraintViolations.violates(e, Booking.SEAT_CONSTRAINT)) {
+                logger.warn("Held seat {} for showtime ID: {} violated a constraint other than the seat index: {}",
+                        seatNumber, showtimeId, e.getMostSpecificCause().getMessage());
+                showtimeCache.invalidate(showtimeId);
+                throw new EntityNotFoundException("Showtime not found with ID: " + showtimeId);
+            }
+            logger.warn("Held seat {} for showtime ID: {} was booked outside this instance", seatNumber, showtimeId);
+            seatOccupancyIndex.evict(showtimeId);
+            throw new IllegalArgumentException("Seat " + seatNumber + " is already booked for this showtime");
+        } catch (RuntimeException e) {
+            reactivate(activeHold);
+            throw e;
+        }
+        TransactionCallbacks.onCompletion(
+                () -> {
+                    finish(activeHold);
+                    seatOccupancyIndex.confirmHold(showtimeId, seatNumber);
+                },
+                () -> reactivate(activeHold));
+        logger.info("Seat hold {} confirmed as booking: {}", holdId, savedBooking);
+        return savedBooking;
+    }
+
+    public void releaseHold(UUID holdId, String userId) {
+        ActiveHold activeHold = claimHold(holdId, userId);
+        finish(activeHold);
+        SeatHold hold = activeHold.hold;
+        seatOccupancyIndex.releaseHold(hold.getShowtimeId(), hold.getSeatNumber());
+        logger.info("Seat hold released: {}", hold);
+    }
+
+    /**
+     * Drops the holds of a deleted showtime. Holds being confirmed are left to fail on the
+     * missing showtime.
+     */
+    public void releaseHoldsOf(Long showtimeId) {
+        for (ActiveHold activeHold : holds.values()) {
+            if (activeHold.hold.getShowtimeId().equals(showtimeId)
+                    && activeHold.state.compareAndSet(ActiveHold.ACTIVE, ActiveHold.CLAIMED)) {
+                finish(activeHold);
+                logger.info("Seat hold released with its showtime: {}", activeHold.hold);
+            }
+        }
+    }
+
+    public int activeHoldCount() {
+        return holds.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.close();
+    }
+
+    /**
+     * Claims the hold for a confirm or release if it belongs to the user. Another user's hold
+     * is reported as not found, so hold IDs cannot be probed.
+     */
+    private ActiveHold claimHold(UUID holdId, String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID is required");
+        }
+        ActiveHold activeHold = holds.get(holdId);
+        if (activeHold == null || !activeHold.hold.getUserId().equals(userId)
+                || !activeHold.state.compareAndSet(ActiveHold.ACTIVE, ActiveHold.CLAIMED)) {
+            throw new EntityNotFoundException("Seat hold not found with ID: " + holdId);
+        }
+        return activeHold;
+    }
+
+    private void finish(ActiveHold activeHold) {
+        activeHold.state.set(ActiveHold.DONE);
+        holds.remove(activeHold.hold.getId(), activeHold);
+        // The timeout may not be assigned yet if the hold is taken right after it was created
+        HashedTimingWheel.Timeout timeout = activeHold.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        releaseUserSlot(activeHold.hold.getUserId());
+    }
+
+    /**
+     * Hands a claimed hold back after a failed confirm. Expiry skips claimed holds, so a hold
+     * whose time ran out meanwhile is expired here instead.
+     */
+    private void reactivate(ActiveHold activeHold) {
+        if (activeHold.state.compareAndSet(ActiveHold.CLAIMED, ActiveHold.ACTIVE)
+                && !Instant.now().isBefore(activeHold.hold.getExpiresAt())) {
+            expire(activeHold);
+        }
+    }
+
+    private void expire(ActiveHold activeHold) {
+        SeatHold hold = activeHold.hold;
+        // Loses against a concurrent confirm or release, which claims the hold first
+        if (activeHold.state.compareAndSet(ActiveHold.ACTIVE, ActiveHold.DONE)) {
+            holds.remove(hold.getId(), activeHold);
+            releaseUserSlot(hold.getUserId());
+            seatOccupancyIndex.releaseHold(hold.getShowtimeId(), hold.getSeatNumber());
+            logger.debug("Seat hold expired: {}", hold);
+        }
+    }
+
+    private void reserveUserSlot(String userId) {
+        int held = holdsPerUser.merge(userId, 1, Integer::sum);
+        if (held > maxHoldsPerUser) {
+            releaseUserSlot(userId);
+            throw new IllegalArgumentException("User " + userId + " cannot hold more than " + maxHoldsPerUser + " seats");
+        }
+    }
+
+    private void releaseUserSlot(String userId) {
+        holdsPerUser.computeIfPresent(userId, (user, held) -> held > 1 ? held - 1 : null);
+    }
+
+    private static final class ActiveHold {
+        private static final int ACTIVE = 0;
+        private static final int CLAIMED = 1;
+        private static final int DONE = 2;
+
+        private final SeatHold hold;
+        private final AtomicInteger state = new AtomicInteger(ACTIVE);
+        private volatile HashedTimingWheel.Timeout timeout;
+
+        private ActiveHold(SeatHold hold) {
+            this.hold = hold;
+        }
+    }
+}
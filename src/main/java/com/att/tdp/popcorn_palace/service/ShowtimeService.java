@@ -1,84 +1,423 @@
 package com.att.tdp.popcorn_palace.service;
 
+import com.att.tdp.popcorn_palace.dto.BulkShowtimeDTO;
 import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.att.tdp.popcorn_palace.dto.ShowtimeSearchDTO;
+import com.att.tdp.popcorn_palace.index.DailyScheduleSnapshots;
+import com.att.tdp.popcorn_palace.index.MovieCatalogIndex;
+import com.att.tdp.popcorn_palace.index.ScheduleSnapshot;
+import com.att.tdp.popcorn_palace.index.SeatOccupancyIndex;
+import com.att.tdp.popcorn_palace.index.ShowtimeCache;
+import com.att.tdp.popcorn_palace.index.ShowtimeScheduleIndex;
+import com.att.tdp.popcorn_palace.model.BulkShowtimeResult;
+import com.att.tdp.popcorn_palace.model.DeletionProgress;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.SeatMap;
 import com.att.tdp.popcorn_palace.model.Showtime;
-import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.model.ShowtimeConflict;
+import com.att.tdp.popcorn_palace.model.ShowtimePage;
+import com.att.tdp.popcorn_palace.repository.CascadeDeleteRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeBatchRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.util.KeysetCursor;
+import com.att.tdp.popcorn_palace.util.StripedLocks;
+import com.att.tdp.popcorn_palace.util.TransactionCallbacks;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 public class ShowtimeService {
     private static final Logger logger = LoggerFactory.getLogger(ShowtimeService.class);
+    private static final int THEATER_STRIPES_PER_PROCESSOR = 4;
     private final ShowtimeRepository showtimeRepository;
-    private final MovieRepository movieRepository;
+    private final MovieCatalogIndex movieCatalogIndex;
+    private final SeatOccupancyIndex seatOccupancyIndex;
+    private final TheaterService theaterService;
+    private final ShowtimeScheduleIndex showtimeScheduleIndex;
+    private final ShowtimeBatchRepository showtimeBatchRepository;
+    private final DailyScheduleSnapshots dailyScheduleSnapshots;
+    private final ShowtimeCache showtimeCache;
+    private final CascadeDeleteRepository cascadeDeleteRepository;
+    private final SeatHoldService seatHoldService;
+    private final StripedLocks theaterLocks = StripedLocks.forProcessors(THEATER_STRIPES_PER_PROCESSOR);
 
-    public ShowtimeService(ShowtimeRepository showtimeRepository, MovieRepository movieRepository) {
+    public ShowtimeService(ShowtimeRepository showtimeRepository, MovieCatalogIndex movieCatalogIndex,
+                           SeatOccupancyIndex seatOccupancyIndex, TheaterService theaterService,
+                           ShowtimeScheduleIndex showtimeScheduleIndex,
+                           ShowtimeBatchRepository showtimeBatchRepository,
+                           DailyScheduleSnapshots dailyScheduleSnapshots, ShowtimeCache showtimeCache,
+                           CascadeDeleteRepository cascadeDeleteRepository, SeatHoldService seatHoldService) {
         this.showtimeRepository = showtimeRepository;
-        this.movieRepository = movieRepository;
+        this.movieCatalogIndex = movieCatalogIndex;
+        this.seatOccupancyIndex = seatOccupancyIndex;
+        this.theaterService = theaterService;
+        this.showtimeScheduleIndex = showtimeScheduleIndex;
+        this.showtimeBatchRepository = showtimeBatchRepository;
+        this.dailyScheduleSnapshots = dailyScheduleSnapshots;
+        this.showtimeCache = showtimeCache;
+        this.cascadeDeleteRepository = cascadeDeleteRepository;
+        this.seatHoldService = seatHoldService;
     }
 
     @Transactional
     public Showtime createShowtime(ShowtimeDTO showtimeDTO) {
-        Movie movie = movieRepository.findById(showtimeDTO.getMovieId())
-                .orElseThrow(() -> new EntityNotFoundException("Movie not found with ID: " + showtimeDTO.getMovieId()));
+        return withTheatersLocked(List.of(showtimeDTO.getTheater()), () -> {
+            Movie movie = movieCatalogIndex.findById(showtimeDTO.getMovieId())
+                    .orElseThrow(() -> new EntityNotFoundException("Movie not found with ID: " + showtimeDTO.getMovieId()));
 
-        List<Showtime> overlappingShowtimes = showtimeRepository.findOverlappingShowtimes(
-                showtimeDTO.getTheater(),
-                showtimeDTO.getStartTime(),
-                showtimeDTO.getEndTime()
-        );
+            rejectOverlaps(showtimeDTO, null);
 
-        if (!overlappingShowtimes.isEmpty()) {
-            throw new IllegalArgumentException("There are overlapping showtimes in this theater");
+            theaterService.getOrRegisterTheater(showtimeDTO.getTheater());
+            Showtime showtime = new Showtime(showtimeDTO);
+            logger.info("Creating showtime for movie: {} in theater: {} at: {}",
+                movie.getTitle(), showtimeDTO.getTheater(), showtimeDTO.getStartTime());
+
+            Showtime savedShowtime = showtimeRepository.save(showtime);
+            TransactionCallbacks.afterCommit(() -> {
+                showtimeScheduleIndex.add(savedShowtime);
+                dailyScheduleSnapshots.add(savedShowtime);
+            });
+            return savedShowtime;
+        });
+    }
+
+    /**
+     * Imports a whole schedule at once. All movie ids are resolved with a single query and
+     * each theater is checked with one sort-and-sweep pass over the imported rows and the
+     * showtimes already scheduled in the covered time window. If any row is rejected nothing
+     * is created; otherwise all rows are inserted in JDBC batches within this transaction.
+     */
+    @Transactional
+    public BulkShowtimeResult createShowtimes(BulkShowtimeDTO bulkShowtimeDTO) {
+        List<ShowtimeDTO> rows = bulkShowtimeDTO.getShowtimes();
+        return withTheatersLocked(theatersOf(rows), () -> {
+            Map<Integer, ShowtimeConflict> conflicts = findConflicts(rows);
+            if (!conflicts.isEmpty()) {
+                logger.info("Rejecting import of {} showtimes with {} conflicting rows", rows.size(), conflicts.size());
+                return new BulkShowtimeResult(List.of(), List.copyOf(conflicts.values()));
+            }
+            return new BulkShowtimeResult(insertShowtimes(rows), List.of());
+        });
+    }
+
+    /**
+     * Imports one batch of a streamed schedule feed. Runs the same checks as
+     * {@link #createShowtimes}, but only skips the rejected rows and inserts the rest.
+     */
+    @Transactional
+    public BulkShowtimeResult importShowtimes(List<ShowtimeDTO> rows) {
+        return withTheatersLocked(theatersOf(rows), () -> {
+            Map<Integer, ShowtimeConflict> conflicts = findConflicts(rows);
+            List<ShowtimeDTO> accepted = new ArrayList<>(rows.size() - conflicts.size());
+            for (int row = 0; row < rows.size(); row++) {
+                if (!conflicts.containsKey(row)) {
+                    accepted.add(rows.get(row));
+                }
+            }
+            List<Showtime> savedShowtimes = accepted.isEmpty() ? List.of() : insertShowtimes(accepted);
+            return new BulkShowtimeResult(savedShowtimes, List.copyOf(conflicts.values()));
+        });
+    }
+
+    private Map<Integer, ShowtimeConflict> findConflicts(List<ShowtimeDTO> rows) {
+        Map<Integer, ShowtimeConflict> conflicts = new TreeMap<>();
+
+        Set<Long> movieIds = rows.stream().map(ShowtimeDTO::getMovieId).collect(Collectors.toSet());
+        Set<Long> existingMovieIds = movieCatalogIndex.findExistingIds(movieIds);
+        Map<String, List<Slot>> slotsByTheater = new LinkedHashMap<>();
+        for (int row = 0; row < rows.size(); row++) {
+            ShowtimeDTO showtimeDTO = rows.get(row);
+            if (!existingMovieIds.contains(showtimeDTO.getMovieId())) {
+                conflicts.put(row, ShowtimeConflict.invalid(row, "Movie not found with ID: " + showtimeDTO.getMovieId()));
+            }
+            if (!showtimeDTO.getEndTime().isAfter(showtimeDTO.getStartTime())) {
+                conflicts.putIfAbsent(row, ShowtimeConflict.invalid(row, "End time must be after start time"));
+                continue;
+            }
+            slotsByTheater.computeIfAbsent(showtimeDTO.getTheater(), theater -> new ArrayList<>())
+                    .add(Slot.of(row, showtimeDTO));
         }
 
-        Showtime showtime = new Showtime(showtimeDTO);
-        logger.info("Creating showtime for movie: {} in theater: {} at: {}", 
-            movie.getTitle(), showtimeDTO.getTheater(), showtimeDTO.getStartTime());
-            
-        return showtimeRepository.save(showtime);
+        slotsByTheater.forEach((theater, slots) -> {
+            LocalDateTime windowStart = slots.stream().map(Slot::start).min(Comparator.naturalOrder()).orElseThrow();
+            LocalDateTime windowEnd = slots.stream().map(Slot::end).max(Comparator.naturalOrder()).orElseThrow();
+            showtimeRepository.findOverlappingShowtimes(theater, windowStart, windowEnd)
+                    .forEach(existing -> slots.add(Slot.of(existing)));
+            findOverlaps(slots).forEach(conflicts::putIfAbsent);
+        });
+        return conflicts;
     }
 
-    @Transactional(readOnly = true)
+    private List<Showtime> insertShowtimes(List<ShowtimeDTO> rows) {
+        Set<String> theaters = theatersOf(rows);
+        theaters.forEach(theaterService::getOrRegisterTheater);
+        List<Showtime> showtimes = rows.stream().map(Showtime::new).collect(Collectors.toCollection(ArrayList::new));
+        logger.info("Importing {} showtimes into {} theaters", showtimes.size(), theaters.size());
+        List<Showtime> savedShowtimes = showtimeBatchRepository.insertAll(showtimes);
+        TransactionCallbacks.afterCommit(() -> savedShowtimes.forEach(showtime -> {
+            showtimeScheduleIndex.add(showtime);
+            dailyScheduleSnapshots.add(showtime);
+        }));
+        return savedShowtimes;
+    }
+
+    /**
+     * Reads through the shared {@link ShowtimeCache}. Not transactional, so a cached
+     * showtime is served without taking a connection from the pool.
+     */
     public Showtime getShowtimeById(Long id) {
         logger.info("Fetching showtime with ID: {}", id);
-        return showtimeRepository.findById(id)
+        return showtimeCache.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Showtime not found with ID: " + id));
     }
 
+    /**
+     * Lists showtimes page by page with keyset pagination on (start time, id). One extra row
+     * is fetched to tell whether another page follows.
+     */
+    @Transactional(readOnly = true)
+    public ShowtimePage searchShowtimes(ShowtimeSearchDTO search) {
+        LocalDateTime afterStartTime = null;
+        Long afterId = null;
+        if (search.getCursor() != null) {
+            String[] keys = KeysetCursor.decode(search.getCursor(), 2);
+            try {
+                afterStartTime = LocalDateTime.parse(keys[0]);
+                afterId = Long.parseLong(keys[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+
+        int limit = search.getLimit();
+        List<Showtime> showtimes = showtimeRepository.search(search.getTheater(), search.getMovieId(),
+                search.getFrom(), search.getTo(), afterStartTime, afterId, limit + 1);
+        if (showtimes.size() <= limit) {
+            return new ShowtimePage(showtimes, null);
+        }
+        List<Showtime> page = showtimes.subList(0, limit);
+        Showtime last = page.get(limit - 1);
+        return new ShowtimePage(page, KeysetCursor.encode(last.getStartTime(), last.getId()));
+    }
+
+    /**
+     * Not transactional on purpose: once the showtime's occupancy is in memory, polling
+     * the seat map must not touch the connection pool at all.
+     */
+    public SeatMap getSeatMap(Long id) {
+        if (!seatOccupancyIndex.isLoaded(id) && !showtimeRepository.existsById(id)) {
+            throw new EntityNotFoundException("Showtime not found with ID: " + id);
+        }
+        return seatOccupancyIndex.seatMap(id);
+    }
+
+    /**
+     * Serves "what's playing" from the theater's precomputed snapshot of the day. Not
+     * transactional, for the same reason as {@link #getSeatMap}; the theater is only looked
+     * up to reject unknown names before their day is loaded.
+     */
+    public ScheduleSnapshot getDailySchedule(String theater, LocalDate date) {
+        if (!dailyScheduleSnapshots.isLoaded(theater, date)) {
+            theaterService.getTheaterByName(theater);
+        }
+        return dailyScheduleSnapshots.snapshot(theater, date);
+    }
+
     @Transactional
     public Showtime updateShowtime(Long id, ShowtimeDTO showtimeDTO) {
-        Showtime existingShowtime = getShowtimeById(id);
-        Movie movie = movieRepository.findById(showtimeDTO.getMovieId())
-                .orElseThrow(() -> new EntityNotFoundException("Movie not found with ID: " + showtimeDTO.getMovieId()));
-        List<Showtime> overlappingShowtimes = showtimeRepository.findOverlappingShowtimes(
-                showtimeDTO.getTheater(),
-                showtimeDTO.getStartTime(),
-                showtimeDTO.getEndTime()
-        );
-        if (!overlappingShowtimes.isEmpty() && !overlappingShowtimes.get(0).getId().equals(id)) {
-            throw new IllegalArgumentException("There are overlapping showtimes in this theater");
-        }
-        Showtime updatedShowtime = new Showtime(showtimeDTO);
-        updatedShowtime.setId(existingShowtime.getId());
-        logger.info("Updating showtime with ID: {} for movie: {} in theater: {}", 
-            id, movie.getTitle(), showtimeDTO.getTheater());
-        return showtimeRepository.save(updatedShowtime);
+        return withTheatersLocked(List.of(showtimeDTO.getTheater()), () -> {
+            Showtime existingShowtime = getShowtimeById(id);
+            Movie movie = movieCatalogIndex.findById(showtimeDTO.getMovieId())
+                    .orElseThrow(() -> new EntityNotFoundException("Movie not found with ID: " + showtimeDTO.getMovieId()));
+            rejectOverlaps(showtimeDTO, id);
+            // Where the showtime was indexed before, to drop those entries once the update commits
+            String previousTheater = existingShowtime.getTheater();
+            LocalDate previousDate = existingShowtime.getStartTime().toLocalDate();
+            theaterService.getOrRegisterTheater(showtimeDTO.getTheater());
+            Showtime updatedShowtime = new Showtime(showtimeDTO);
+            updatedShowtime.setId(existingShowtime.getId());
+            logger.info("Updating showtime with ID: {} for movie: {} in theater: {}",
+                id, movie.getTitle(), showtimeDTO.getTheater());
+            Showtime savedShowtime = showtimeRepository.save(updatedShowtime);
+            TransactionCallbacks.afterCommit(() -> {
+                showtimeScheduleIndex.remove(previousTheater, id);
+                showtimeScheduleIndex.add(savedShowtime);
+                dailyScheduleSnapshots.remove(previousTheater, previousDate, id);
+                dailyScheduleSnapshots.add(savedShowtime);
+                showtimeCache.invalidate(id);
+                // The theater may have changed, and with it the size of the seat bitmap
+                seatOccupancyIndex.evict(id);
+            });
+            return savedShowtime;
+        });
     }
 
+    /**
+     * Deletes a showtime together with its bookings, which are bounded by the size of the
+     * theater, in two statements. Runs under the theater's lock like any other scheduling
+     * write, so the freed slot is not offered to a new showtime before the schedule index
+     * has dropped it.
+     */
     @Transactional
     public void deleteShowtime(Long id) {
         logger.info("Deleting showtime with ID: {}", id);
-        if (!showtimeRepository.existsById(id)) {
-            throw new EntityNotFoundException("Showtime not found with ID: " + id);
+        Showtime showtime = showtimeRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Showtime not found with ID: " + id));
+        withTheatersLocked(List.of(showtime.getTheater()), () -> {
+            int bookings = cascadeDeleteRepository.deleteBookingsOfShowtimes(List.of(id));
+            cascadeDeleteRepository.deleteShowtimes(List.of(id));
+            logger.info("Deleted showtime with ID: {} and its {} bookings", id, bookings);
+            TransactionCallbacks.afterCommit(() -> evict(showtime));
+            return null;
+        });
+    }
+
+    /**
+     * Deletes one chunk of at most {@code limit} showtimes of a movie, with their bookings,
+     * in one short transaction. Returns the rows deleted; fewer than {@code limit} showtimes
+     * means the movie has none left.
+     */
+    @Transactional
+    public DeletionProgress deleteShowtimesOfMovie(Long movieId, int limit) {
+        List<Showtime> showtimes = cascadeDeleteRepository.findShowtimesOfMovie(movieId, limit);
+        if (showtimes.isEmpty()) {
+            return DeletionProgress.progress(0, 0);
+        }
+        List<Long> ids = showtimes.stream().map(Showtime::getId).toList();
+        Set<String> theaters = showtimes.stream().map(Showtime::getTheater)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return withTheatersLocked(theaters, () -> {
+            int bookings = cascadeDeleteRepository.deleteBookingsOfShowtimes(ids);
+            int deleted = cascadeDeleteRepository.deleteShowtimes(ids);
+            TransactionCallbacks.afterCommit(() -> showtimes.forEach(this::evict));
+            return DeletionProgress.progress(deleted, bookings);
+        });
+    }
+
+    private void evict(Showtime showtime) {
+        Long id = showtime.getId();
+        showtimeScheduleIndex.remove(showtime.getTheater(), id);
+        dailyScheduleSnapshots.remove(showtime.getTheater(), showtime.getStartTime().toLocalDate(), id);
+        showtimeCache.invalidate(id);
+        seatHoldService.releaseHoldsOf(id);
+        seatOccupancyIndex.forget(id);
+    }
+
+    /**
+     * Runs a scheduling write while holding the locks of the theaters it schedules into, so
+     * two writers cannot both pass the overlap check for the same slot. Writes to theaters
+     * on different lock stripes run in parallel. The locks are held until the transaction
+     * completes, and released only after the write's own after-commit callbacks have run,
+     * so the next writer sees both the committed rows and the updated schedule index.
+     */
+    private <T> T withTheatersLocked(Collection<String> theaters, Supplier<T> write) {
+        List<ReentrantLock> locks = theaterLocks.locksFor(theaters);
+        locks.forEach(ReentrantLock::lock);
+        try {
+            return write.get();
+        } finally {
+            // Registered last, so it runs after every callback the write registered
+            Runnable unlock = () -> locks.forEach(ReentrantLock::unlock);
+            TransactionCallbacks.onCompletion(unlock, unlock);
+        }
+    }
+
+    private static Set<String> theatersOf(List<ShowtimeDTO> rows) {
+        return rows.stream().map(ShowtimeDTO::getTheater).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Checks the theater's in-memory schedule for showtimes overlapping the requested slot.
+     * A conflict is confirmed against the showtimes table before the request is rejected; if
+     * the table disagrees, the schedule was stale and is reloaded on next use.
+     */
+    private void rejectOverlaps(ShowtimeDTO showtimeDTO, Long excludedId) {
+        String theater = showtimeDTO.getTheater();
+        boolean overlapsInMemory = showtimeScheduleIndex
+                .findOverlapping(theater, showtimeDTO.getStartTime(), showtimeDTO.getEndTime())
+                .stream()
+                .anyMatch(overlappingId -> !overlappingId.equals(excludedId));
+        if (!overlapsInMemory) {
+            return;
+        }
+
+        boolean overlapsInTable = showtimeRepository
+                .findOverlappingShowtimes(theater, showtimeDTO.getStartTime(), showtimeDTO.getEndTime())
+                .stream()
+                .anyMatch(overlapping -> !overlapping.getId().equals(excludedId));
+        if (!overlapsInTable) {
+            logger.warn("Schedule of theater: {} drifted from the showtimes table and will be reloaded", theater);
+            showtimeScheduleIndex.evict(theater);
+            return;
+        }
+        throw new IllegalArgumentException("There are overlapping showtimes in this theater");
+    }
+
+    /**
+     * Finds every imported slot that overlaps another slot of the same theater, in
+     * O(n log n). After sorting by start time, a slot overlaps an earlier one exactly when it
+     * starts before the latest end seen so far, and overlaps a later one exactly when the
+     * next slot starts before it ends. Overlaps between two existing showtimes are ignored.
+     */
+    private static Map<Integer, ShowtimeConflict> findOverlaps(List<Slot> slots) {
+        slots.sort(Comparator.comparing(Slot::start).thenComparing(Slot::end));
+        Map<Integer, ShowtimeConflict> conflicts = new TreeMap<>();
+        Slot latestEnding = null;
+        for (int i = 0; i < slots.size(); i++) {
+            Slot slot = slots.get(i);
+            if (slot.isImported()) {
+                if (latestEnding != null && !slot.start().isAfter(latestEnding.end())) {
+                    conflicts.put(slot.row(), slot.conflictWith(latestEnding));
+                } else if (i + 1 < slots.size() && !slots.get(i + 1).start().isAfter(slot.end())) {
+                    conflicts.put(slot.row(), slot.conflictWith(slots.get(i + 1)));
+                }
+            }
+            if (latestEnding == null || slot.end().isAfter(latestEnding.end())) {
+                latestEnding = slot;
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * A time slot taken either by a row of an import or by an already scheduled showtime.
+     */
+    private record Slot(LocalDateTime start, LocalDateTime end, Integer row, Long showtimeId) {
+        static Slot of(int row, ShowtimeDTO showtimeDTO) {
+            return new Slot(showtimeDTO.getStartTime(), showtimeDTO.getEndTime(), row, null);
+        }
+
+        static Slot of(Showtime showtime) {
+            return new Slot(showtime.getStartTime(), showtime.getEndTime(), null, showtime.getId());
+        }
+
+        boolean isImported() {
+            return row != null;
+        }
+
+        ShowtimeConflict conflictWith(Slot other) {
+            return other.isImported()
+                    ? ShowtimeConflict.overlappingRow(row, other.row())
+                    : ShowtimeConflict.overlappingShowtime(row, other.showtimeId());
         }
-        showtimeRepository.deleteById(id);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.dto.TheaterDTO;
+import com.att.tdp.popcorn_palace.model.Theater;
+import com.att.tdp.popcorn_palace.repository.TheaterRepository;
+import com.att.tdp.popcorn_palace.util.TransactionCallbacks;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Theaters and their seat layouts. Layouts change rarely and are needed on every booking,
+ * so theaters are cached by name once read.
+ */
+@Service
+public class TheaterService {
+    private static final Logger logger = LoggerFactory.getLogger(TheaterService.class);
+    private final TheaterRepository theaterRepository;
+    private final int defaultRows;
+    private final int defaultSeatsPerRow;
+    private final boolean autoRegister;
+    private final ConcurrentMap<String, Theater> theatersByName = new ConcurrentHashMap<>();
+
+    public TheaterService(TheaterRepository theaterRepository,
+                          @Value("${popcorn-palace.theaters.default-rows:10}") int defaultRows,
+                          @Value("${popcorn-palace.theaters.default-seats-per-row:20}") int defaultSeatsPerRow,
+                          @Value("${popcorn-palace.theaters.auto-register:false}") boolean autoRegister) {
+        this.theaterRepository = theaterRepository;
+        this.defaultRows = defaultRows;
+        this.defaultSeatsPerRow = defaultSeatsPerRow;
+        this.autoRegister = autoRegister;
+    }
+
+    @Transactional
+    public Theater createTheater(TheaterDTO theaterDTO) {
+        if (theaterRepository.existsByName(theaterDTO.getName())) {
+            logger.warn("Theater with name '{}' already exists", theaterDTO.getName());
+            throw new IllegalArgumentException("A theater with this name already exists");
+        }
+        Theater theater = new Theater(theaterDTO);
+        logger.info("Creating theater: {} with {} seats", theater.getName(), theater.getCapacity());
+        return theaterRepository.save(theater);
+    }
+
+    @Transactional(readOnly = true)
+    public Theater getTheaterByName(String name) {
+        Theater cached = theatersByName.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Theater theater = theaterRepository.findByName(name)
+                .orElseThrow(() -> new EntityNotFoundException("Theater not found with name: " + name));
+        theatersByName.putIfAbsent(name, theater);
+        return theater;
+    }
+
+    /**
+     * Returns the theater a showtime is scheduled in. An unknown theater is rejected unless
+     * {@code popcorn-palace.theaters.auto-register} is set, in which case it is registered with
+     * the default layout so clients that predate theater layouts keep working.
+     */
+    @Transactional
+    public Theater getOrRegisterTheater(String name) {
+        Theater cached = theatersByName.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Theater theater = theaterRepository.findByName(name).orElse(null);
+        if (theater == null) {
+            if (!autoRegister) {
+                throw new EntityNotFoundException("Theater not found with name: " + name);
+            }
+            logger.info("Registering theater: {} with the default layout of {}x{} seats", name, defaultRows, defaultSeatsPerRow);
+            theater = theaterRepository.save(new Theater(null, name, defaultRows, defaultSeatsPerRow));
+        }
+        Theater registered = theater;
+        TransactionCallbacks.afterCommit(() -> theatersByName.putIfAbsent(name, registered));
+        return theater;
+    }
+
+    /**
+     * Rejects seat numbers that do not exist in the theater.
+     */
+    public void validateSeats(String theaterName, Collection<Integer> seatNumbers) {
+        Theater theater = getTheaterByName(theaterName);
+        for (Integer seatNumber : seatNumbers) {
+            if (!theater.hasSeat(seatNumber)) {
+                throw new IllegalArgumentException("Seat " + seatNumber + " does not exist in " + theaterName
+                        + ", which has " + theater.getCapacity() + " seats");
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes every booking in its own transaction.
+ */
+@Component
+@ConditionalOnProperty(name = "popcorn-palace.bookings.group-commit.enabled", havingValue = "false", matchIfMissing = true)
+public class TransactionalBookingWriter implements BookingWriter {
+    private final BookingRepository bookingRepository;
+
+    public TransactionalBookingWriter(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    @Override
+    @Transactional
+    public Booking write(Booking booking) {
+        // Flush so a unique index violation surfaces here rather than at commit
+        return bookingRepository.saveAndFlush(booking);
+    }
+}
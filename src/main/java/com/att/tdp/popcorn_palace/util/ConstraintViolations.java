@@ -0,0 +1,21 @@
+package com.att.tdp.popcorn_palace.util;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Tells which constraint a {@link DataIntegrityViolationException} was raised for. Drivers
+ * name the violated constraint or index in the message of the root cause, in their own case.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    public static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null
+                && message.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+}
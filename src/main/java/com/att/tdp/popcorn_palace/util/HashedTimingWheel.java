@@ -0,0 +1,143 @@
+package com.att.tdp.popcorn_palace.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashed timing wheel for large numbers of short-lived timeouts. Scheduling and cancelling
+ * are O(1); a single daemon thread advances the wheel once per tick and only visits the
+ * timeouts hashed into the current bucket. Expiry is accurate to one tick.
+ *
+ * <p>Expiry tasks run on the wheel thread and must be short and non-blocking.
+ */
+public final class HashedTimingWheel implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    private final long tickNanos;
+    private final int mask;
+    private final Queue<WheelTimeout>[] buckets;
+    private final Queue<WheelTimeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, Duration tickDuration, int ticksPerWheel) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        int wheelSize = Integer.highestOneBit(Math.max(1, ticksPerWheel - 1)) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = wheelSize - 1;
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public Timeout schedule(Runnable task, Duration delay) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel has been stopped");
+        }
+        long deadline = System.nanoTime() - startNanos + Math.max(0, delay.toNanos());
+        WheelTimeout timeout = new WheelTimeout(task, deadline);
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferNewTimeouts(tick);
+            expireBucket(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferNewTimeouts(long currentTick) {
+        WheelTimeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long expiryTick = Math.max(timeout.deadline / tickNanos, currentTick);
+            timeout.remainingRounds = (expiryTick - currentTick) / buckets.length;
+            buckets[(int) (expiryTick & mask)].add(timeout);
+        }
+    }
+
+    private void expireBucket(Queue<WheelTimeout> bucket) {
+        for (int remaining = bucket.size(); remaining > 0; remaining--) {
+            WheelTimeout timeout = bucket.poll();
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                bucket.add(timeout);
+                continue;
+            }
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                logger.error("Timeout task failed", e);
+            }
+        }
+    }
+
+    public interface Timeout {
+        /**
+         * Prevents the task from running. Returns false if it was already cancelled.
+         */
+        boolean cancel();
+    }
+
+    private static final class WheelTimeout implements Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private WheelTimeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (cancelled) {
+                return false;
+            }
+            cancelled = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.att.tdp.popcorn_palace.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque page cursors for keyset pagination. A cursor carries the sort key of the last row
+ * of a page; the next page starts right after it, so it costs the same however deep the
+ * client pages, unlike an OFFSET that has to skip every earlier row.
+ */
+public final class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder joined = new StringBuilder();
+        for (Object key : keys) {
+            if (!joined.isEmpty()) {
+                joined.append(SEPARATOR);
+            }
+            joined.append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Splits a cursor back into its keys. The last key may itself contain the separator,
+     * which lets it hold free text such as a title.
+     */
+    public static String[] decode(String cursor, int keyCount) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = joined.split("\\|", keyCount);
+            if (keys.length != keyCount) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
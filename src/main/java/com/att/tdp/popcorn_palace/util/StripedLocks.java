@@ -0,0 +1,58 @@
+package com.att.tdp.popcorn_palace.util;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed pool of locks shared by an unbounded set of keys. Keys that hash to different
+ * stripes never contend, while memory stays constant no matter how many keys exist.
+ */
+public final class StripedLocks {
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedLocks(int minimumStripes) {
+        int stripes = Integer.highestOneBit(Math.max(1, minimumStripes - 1)) << 1;
+        this.locks = new ReentrantLock[stripes];
+        this.mask = stripes - 1;
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Sizes the pool from the number of available processors, which bounds how many keys
+     * can make progress at the same time anyway.
+     */
+    public static StripedLocks forProcessors(int stripesPerProcessor) {
+        return new StripedLocks(Runtime.getRuntime().availableProcessors() * stripesPerProcessor);
+    }
+
+    public ReentrantLock lockFor(Object key) {
+        return locks[stripeOf(key)];
+    }
+
+    /**
+     * The stripes of all the keys, each listed once and always in the same global order.
+     * Taking them in list order lets callers hold several stripes without deadlocking.
+     */
+    public List<ReentrantLock> locksFor(Collection<?> keys) {
+        BitSet stripes = new BitSet(locks.length);
+        for (Object key : keys) {
+            stripes.set(stripeOf(key));
+        }
+        return stripes.stream().mapToObj(stripe -> locks[stripe]).toList();
+    }
+
+    private int stripeOf(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return h & mask;
+    }
+
+    public int size() {
+        return locks.length;
+    }
+}
@@ -0,0 +1,59 @@
+package com.att.tdp.popcorn_palace.util;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates UUIDv7 values: a 48-bit millisecond timestamp followed by a 12-bit sequence and
+ * 62 random bits. Keys generated later sort after keys generated earlier, so primary key
+ * inserts append to the right edge of the index instead of splitting random pages.
+ *
+ * <p>Ordering is strict across all threads. Timestamp and sequence share a single atomic
+ * word; when the sequence of the current millisecond runs out, or the clock steps back, the
+ * generator keeps counting from the last issued value rather than waiting for the clock.
+ */
+public final class TimeOrderedUuidGenerator implements UuidValueGenerator {
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return next();
+    }
+
+    public static UUID next() {
+        long timestampAndSequence = nextTimestampAndSequence(System.currentTimeMillis());
+        long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+
+        long mostSignificant = (timestamp << 16) | VERSION_7 | sequence;
+        long leastSignificant = VARIANT_RFC_4122 | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Returns the millisecond timestamp embedded in a UUID produced by this generator.
+     */
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextTimestampAndSequence(long nowMillis) {
+        long candidate = nowMillis << SEQUENCE_BITS;
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (lastTimestampAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
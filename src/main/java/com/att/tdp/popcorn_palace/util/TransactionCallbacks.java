@@ -0,0 +1,36 @@
+package com.att.tdp.popcorn_palace.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs in-memory bookkeeping once the surrounding transaction has finished, so that
+ * indexes only reflect rows that were actually committed. Outside of a transaction
+ * the commit callback runs immediately.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    public static void onCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    public static void afterCommit(Runnable onCommit) {
+        onCompletion(onCommit, () -> { });
+    }
+}
@@ -2,3 +2,8 @@ INSERT INTO movies (title, genre, duration, rating, release_year) VALUES
 ('Inception', 'Sci-Fi', 148, 8.8, 2010),
 ('The Dark Knight', 'Action', 152, 9.0, 2008),
 ('Interstellar', 'Sci-Fi', 169, 8.6, 2014);
+
+INSERT INTO theaters (name, row_count, seats_per_row) VALUES
+('Theater 1', 10, 20),
+('Theater 2', 8, 15),
+('IMAX', 20, 25);
@@ -7,6 +7,13 @@ CREATE TABLE IF NOT EXISTS movies (
     release_year INT NOT NULL
 );
 
+CREATE TABLE IF NOT EXISTS theaters (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    row_count INT NOT NULL,
+    seats_per_row INT NOT NULL
+);
+
 CREATE TABLE IF NOT EXISTS showtimes (
     id SERIAL PRIMARY KEY,
     movie_id BIGINT NOT NULL,
@@ -14,7 +21,8 @@ CREATE TABLE IF NOT EXISTS showtimes (
     start_time TIMESTAMP NOT NULL,
     end_time TIMESTAMP NOT NULL,
     price DECIMAL(10,2) NOT NULL,
-    FOREIGN KEY (movie_id) REFERENCES movies(id)
+    FOREIGN KEY (movie_id) REFERENCES movies(id),
+    CONSTRAINT fk_showtimes_theater FOREIGN KEY (theater) REFERENCES theaters(name)
 );
 
 CREATE TABLE IF NOT EXISTS bookings (
@@ -24,3 +32,8 @@ CREATE TABLE IF NOT EXISTS bookings (
     user_id VARCHAR(255) NOT NULL,
     FOREIGN KEY (showtime_id) REFERENCES showtimes(id)
 );
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_bookings_showtime_seat ON bookings (showtime_id, seat_number);
+CREATE INDEX IF NOT EXISTS ix_showtimes_theater_start_id ON showtimes (theater, start_time, id);
+CREATE INDEX IF NOT EXISTS ix_showtimes_movie_start_id ON showtimes (movie_id, start_time, id);
+CREATE INDEX IF NOT EXISTS ix_showtimes_start_id ON showtimes (start_time, id);
@@ -0,0 +1,55 @@
+package com.att.tdp.popcorn_palace.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Concurrency Limit Config Tests")
+class ConcurrencyLimitConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(MeterRegistryConfig.class, ConcurrencyLimitConfig.class);
+
+    @Test
+    @DisplayName("Should limit only bookings by default and publish meters for it alone")
+    void shouldRegisterBookingsLimiterOnly_ByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasBean("bookingsConcurrencyLimitFilter");
+            assertThat(context).doesNotHaveBean("showtimesConcurrencyLimitFilter");
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertThat(registry.find("http.concurrency.limit").tag("limiter", "bookings").gauge()).isNotNull();
+            assertThat(registry.find("http.concurrency.limit").tag("limiter", "showtimes").gauge()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should register a limiter only for the groups that are enabled")
+    void shouldFollowEnabledFlags() {
+        contextRunner
+                .withPropertyValues("popcorn-palace.concurrency-limit.bookings.enabled=false",
+                        "popcorn-palace.concurrency-limit.showtimes.enabled=true")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean("bookingsConcurrencyLimitFilter");
+                    assertThat(context).hasBean("showtimesConcurrencyLimitFilter");
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    assertThat(registry.find("http.concurrency.limit").tag("limiter", "bookings").gauge()).isNull();
+                    assertThat(registry.find("http.concurrency.limit").tag("limiter", "showtimes").gauge()).isNotNull();
+                });
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+    static class MeterRegistryConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
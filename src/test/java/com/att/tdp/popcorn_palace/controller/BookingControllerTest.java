@@ -1,7 +1,9 @@
 package com.att.tdp.popcorn_palace.controller;
 
+import com.att.tdp.popcorn_palace.dto.BatchBookingDTO;
 import com.att.tdp.popcorn_palace.dto.BookingDTO;
 import com.att.tdp.popcorn_palace.exceptions.GlobalExceptionHandler;
+import com.att.tdp.popcorn_palace.exceptions.ServiceUnavailableException;
 import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.service.BookingService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,6 +17,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -55,6 +59,19 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$.bookingId").value(booking.getId().toString()));
     }
 
+    @Test
+    void createBooking_WhenQueueFull_ShouldReturnServiceUnavailable() throws Exception {
+        when(bookingService.createBooking(any(BookingDTO.class)))
+                .thenThrow(new ServiceUnavailableException("Booking queue is full, please retry", Duration.ofSeconds(2)));
+
+        mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDTO())))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.error").value("Booking queue is full, please retry"));
+    }
+
     @Test
     void createBooking_WithInvalidData_ShouldReturnBadRequest() throws Exception {
         BookingDTO bookingDTO = new BookingDTO(); // Empty DTO with no required fields
@@ -92,6 +109,53 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$.seatNumber").value("Seat number must be positive"));
     }
 
+    @Test
+    void createBookings_WithValidData_ShouldReturnOneBookingPerSeat() throws Exception {
+        BatchBookingDTO batchBookingDTO = createBatchBookingDTO(List.of(1, 2));
+        List<Booking> bookings = List.of(
+                new Booking(UUID.randomUUID(), 1L, 1, "user123"),
+                new Booking(UUID.randomUUID(), 1L, 2, "user123"));
+        when(bookingService.createBookings(any(BatchBookingDTO.class))).thenReturn(bookings);
+
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchBookingDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].bookingId").value(bookings.get(0).getId().toString()))
+                .andExpect(jsonPath("$[1].bookingId").value(bookings.get(1).getId().toString()));
+    }
+
+    @Test
+    void createBookings_WithoutSeats_ShouldReturnBadRequest() throws Exception {
+        BatchBookingDTO batchBookingDTO = createBatchBookingDTO(List.of());
+
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchBookingDTO)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.seatNumbers").value("Seat numbers are required"));
+    }
+
+    @Test
+    void createBookings_WithInvalidSeatNumber_ShouldReturnBadRequest() throws Exception {
+        BatchBookingDTO batchBookingDTO = createBatchBookingDTO(List.of(1, 0));
+
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchBookingDTO)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['seatNumbers[1]']").value("Seat number must be positive"));
+    }
+
+    private BatchBookingDTO createBatchBookingDTO(List<Integer> seatNumbers) {
+        BatchBookingDTO dto = new BatchBookingDTO();
+        dto.setShowtimeId(1L);
+        dto.setSeatNumbers(seatNumbers);
+        dto.setUserId("user123");
+        return dto;
+    }
+
     private BookingDTO createBookingDTO() {
         BookingDTO dto = new BookingDTO();
         dto.setShowtimeId(1L);
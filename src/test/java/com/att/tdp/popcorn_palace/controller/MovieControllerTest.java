@@ -1,11 +1,21 @@
 package com.att.tdp.popcorn_palace.controller;
 
 import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.MovieListingDTO;
+import com.att.tdp.popcorn_palace.dto.MovieSearchDTO;
+import com.att.tdp.popcorn_palace.exceptions.ConflictException;
 import com.att.tdp.popcorn_palace.exceptions.GlobalExceptionHandler;
+import com.att.tdp.popcorn_palace.index.CatalogSnapshot;
+import com.att.tdp.popcorn_palace.ingest.StreamingImporter;
+import com.att.tdp.popcorn_palace.model.DeletionProgress;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.MovieFacets;
+import com.att.tdp.popcorn_palace.model.MoviePage;
 import com.att.tdp.popcorn_palace.service.MovieService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,8 +27,11 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -38,7 +51,9 @@ public class MovieControllerTest {
     void setup() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        MovieController controller = new MovieController(movieService);
+        StreamingImporter importer = new StreamingImporter(objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), 500);
+        MovieController controller = new MovieController(movieService, importer, objectMapper);
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -51,10 +66,15 @@ public class MovieControllerTest {
                 createMovie("Pulp Fiction", "Crime", 150, 8.9, 1994),
                 createMovie("Fight Club", "Drama", 139, 8.4, 1999)
         );
-        when(movieService.getAllMovies()).thenReturn(movies);
+        CatalogSnapshot catalog = mock(CatalogSnapshot.class);
+        when(catalog.getEtag()).thenReturn("\"abc\"");
+        when(catalog.getJson()).thenReturn(objectMapper.writeValueAsBytes(movies));
+        when(movieService.getCatalog()).thenReturn(catalog);
 
         mockMvc.perform(get("/movies/all"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[*].title").value(org.hamcrest.Matchers.hasItems(
                         "The Matrix",
                         "Pulp Fiction",
@@ -62,6 +82,19 @@ public class MovieControllerTest {
                 )));
     }
 
+    @Test
+    void getAllMovies_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        CatalogSnapshot catalog = mock(CatalogSnapshot.class);
+        when(catalog.getEtag()).thenReturn("\"abc\"");
+        when(movieService.getCatalog()).thenReturn(catalog);
+
+        mockMvc.perform(get("/movies/all").header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(catalog, never()).getJson();
+    }
+
     @Test
     void createMovie_WithValidData_ShouldReturnCreatedMovie() throws Exception {
         MovieDTO movieDTO = createMovieDTO("New Movie", "Action", 120, 8.5, 2024);
@@ -164,6 +197,138 @@ public class MovieControllerTest {
                 .andExpect(jsonPath("$.error").value("Movie not found"));
     }
 
+    @Test
+    void deleteMovie_WhenStillBeingScheduled_ShouldReturnConflict() throws Exception {
+        String title = "The Matrix";
+        doThrow(new ConflictException("Movie is still being scheduled, try deleting it again"))
+                .when(movieService).deleteMovie(title);
+
+        mockMvc.perform(delete("/movies/{title}", title))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Movie is still being scheduled, try deleting it again"));
+    }
+
+    @Test
+    void getMoviePage_WithCursor_ShouldReturnPage() throws Exception {
+        Movie movie = new Movie(1L, "The Matrix", "Sci-Fi", 136, 8.7, 1999);
+        when(movieService.getMoviePage(any(MovieListingDTO.class))).thenReturn(new MoviePage(List.of(movie), "next"));
+
+        mockMvc.perform(get("/movies").param("cursor", "abc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movies[0].title").value("The Matrix"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(movieService).getMoviePage(argThat(listing -> "abc".equals(listing.getCursor()) && listing.getLimit() == 1));
+    }
+
+    @Test
+    void getMoviePage_WithLimitTooLarge_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/movies").param("limit", "100000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.limit").value("Limit cannot exceed " + MovieListingDTO.MAX_LIMIT));
+
+        verifyNoInteractions(movieService);
+    }
+
+    @Test
+    void getFacets_ShouldReturnCountsPerGenreAndYear() throws Exception {
+        when(movieService.getFacets()).thenReturn(new MovieFacets(Map.of("Action", 2L), Map.of(1999, 1L, 2008, 1L)));
+
+        mockMvc.perform(get("/movies/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.genres.Action").value(2))
+                .andExpect(jsonPath("$.releaseYears.1999").value(1))
+                .andExpect(jsonPath("$.releaseYears.2008").value(1));
+    }
+
+    @Test
+    void searchMovies_WithQuery_ShouldReturnRankedMovies() throws Exception {
+        Movie movie = new Movie(1L, "The Matrix", "Sci-Fi", 136, 8.7, 1999);
+        when(movieService.searchMovies(any(MovieSearchDTO.class))).thenReturn(List.of(movie));
+
+        mockMvc.perform(get("/movies/search").param("q", "the mat").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("The Matrix"));
+
+        verify(movieService).searchMovies(argThat(search -> "the mat".equals(search.getQ()) && search.getLimit() == 5));
+    }
+
+    @Test
+    void searchMovies_WithoutQuery_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/movies/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.q").value("Query is required"));
+
+        verifyNoInteractions(movieService);
+    }
+
+    @Test
+    void streamMovies_ShouldWriteOneMoviePerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Movie> action = invocation.getArgument(0);
+            Movie reused = new Movie(1L, "Alien", "Sci-Fi", 117, 8.5, 1979);
+            action.accept(reused);
+            reused.setTitle("Heat");
+            action.accept(reused);
+            return null;
+        }).when(movieService).streamMovies(any());
+
+        mockMvc.perform(get("/movies/stream"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"title\":\"Alien\",\"genre\":\"Sci-Fi\",\"duration\":117,\"rating\":8.5,\"releaseYear\":1979}\n"
+                                + "{\"title\":\"Heat\",\"genre\":\"Sci-Fi\",\"duration\":117,\"rating\":8.5,\"releaseYear\":1979}\n"));
+    }
+
+    @Test
+    void deleteMovie_WithProgress_ShouldStreamProgressAndSummary() throws Exception {
+        String title = "The Matrix";
+        when(movieService.deleteMovie(eq(title), any())).thenAnswer(invocation -> {
+            Consumer<DeletionProgress> listener = invocation.getArgument(1);
+            listener.accept(DeletionProgress.progress(500, 1200));
+            listener.accept(DeletionProgress.progress(730, 1800));
+            return DeletionProgress.summary(730, 1800, 1);
+        });
+
+        mockMvc.perform(delete("/movies/{title}", title).param("progress", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"type\":\"progress\",\"showtimes\":500,\"bookings\":1200}\n"
+                                + "{\"type\":\"progress\",\"showtimes\":730,\"bookings\":1800}\n"
+                                + "{\"type\":\"summary\",\"showtimes\":730,\"bookings\":1800,\"movies\":1}\n"));
+    }
+
+    @Test
+    void deleteMovie_WithProgressAndUnknownTitle_ShouldReturnNotFound() throws Exception {
+        String title = "Non-existent Movie";
+        when(movieService.deleteMovie(eq(title), any()))
+                .thenThrow(new EntityNotFoundException("Movie not found with title: " + title));
+
+        mockMvc.perform(delete("/movies/{title}", title).param("progress", "true"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Movie not found with title: " + title));
+    }
+
+    @Test
+    void importMovies_WithCsvBody_ShouldStreamProgressAndSummary() throws Exception {
+        when(movieService.importMovies(anyList())).thenReturn(Map.of(1, "A movie with this title already exists"));
+        String csv = "title,genre,duration,rating,releaseYear\n"
+                + "The Matrix,Sci-Fi,136,8.7,1999\n"
+                + "The Matrix,Sci-Fi,136,8.7,1999\n";
+
+        mockMvc.perform(post("/movies/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString(
+                        "{\"type\":\"error\",\"row\":2,\"errors\":{\"row\":\"A movie with this title already exists\"}}")))
+                .andExpect(content().string(org.hamcrest.Matchers.endsWith(
+                        "{\"type\":\"summary\",\"processed\":2,\"imported\":1,\"rejected\":1,\"completed\":true}\n")));
+    }
+
     private MovieDTO createMovieDTO(String title, String genre, int duration, double rating, int releaseYear) {
         MovieDTO dto = new MovieDTO();
         dto.setTitle(title);
@@ -0,0 +1,125 @@
+package com.att.tdp.popcorn_palace.controller;
+
+import com.att.tdp.popcorn_palace.dto.SeatHoldDTO;
+import com.att.tdp.popcorn_palace.exceptions.GlobalExceptionHandler;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.SeatHold;
+import com.att.tdp.popcorn_palace.service.SeatHoldService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatHoldControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private SeatHoldService seatHoldService;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        SeatHoldController controller = new SeatHoldController(seatHoldService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void createHold_WithValidData_ShouldReturnHold() throws Exception {
+        SeatHoldDTO seatHoldDTO = createSeatHoldDTO();
+        SeatHold hold = new SeatHold(UUID.randomUUID(), 1L, 1, "user123", Instant.now().plusSeconds(120));
+        when(seatHoldService.createHold(any(SeatHoldDTO.class))).thenReturn(hold);
+
+        mockMvc.perform(post("/bookings/holds")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(seatHoldDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.holdId").value(hold.getId().toString()))
+                .andExpect(jsonPath("$.seatNumber").value(1))
+                .andExpect(jsonPath("$.userId").doesNotExist());
+    }
+
+    @Test
+    void createHold_WithInvalidData_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/bookings/holds")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SeatHoldDTO())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.showtimeId").value("Showtime ID is required"))
+                .andExpect(jsonPath("$.seatNumber").value("Seat number is required"))
+                .andExpect(jsonPath("$.userId").value("User ID is required"));
+    }
+
+    @Test
+    void confirmHold_WhenHoldExists_ShouldReturnBooking() throws Exception {
+        UUID holdId = UUID.randomUUID();
+        Booking booking = new Booking(UUID.randomUUID(), 1L, 1, "user123");
+        when(seatHoldService.confirmHold(holdId, "user123")).thenReturn(booking);
+
+        mockMvc.perform(post("/bookings/holds/{holdId}/confirm", holdId).param("userId", "user123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookingId").value(booking.getId().toString()));
+    }
+
+    @Test
+    void confirmHold_WhenHoldExpired_ShouldReturnNotFound() throws Exception {
+        UUID holdId = UUID.randomUUID();
+        when(seatHoldService.confirmHold(holdId, "user123"))
+                .thenThrow(new EntityNotFoundException("Seat hold not found with ID: " + holdId));
+
+        mockMvc.perform(post("/bookings/holds/{holdId}/confirm", holdId).param("userId", "user123"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Seat hold not found with ID: " + holdId));
+    }
+
+    @Test
+    void releaseHold_WhenHoldExists_ShouldReturnSuccessMessage() throws Exception {
+        UUID holdId = UUID.randomUUID();
+        doNothing().when(seatHoldService).releaseHold(holdId, "user123");
+
+        mockMvc.perform(delete("/bookings/holds/{holdId}", holdId).param("userId", "user123"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Seat hold released successfully."));
+
+        verify(seatHoldService, times(1)).releaseHold(holdId, "user123");
+    }
+
+    @Test
+    void releaseHold_WithoutUserId_ShouldReturnBadRequest() throws Exception {
+        UUID holdId = UUID.randomUUID();
+        doThrow(new IllegalArgumentException("User ID is required")).when(seatHoldService).releaseHold(holdId, null);
+
+        mockMvc.perform(delete("/bookings/holds/{holdId}", holdId))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("User ID is required"));
+    }
+
+    private SeatHoldDTO createSeatHoldDTO() {
+        SeatHoldDTO dto = new SeatHoldDTO();
+        dto.setShowtimeId(1L);
+        dto.setSeatNumber(1);
+        dto.setUserId("user123");
+        return dto;
+    }
+}
@@ -1,11 +1,21 @@
 package com.att.tdp.popcorn_palace.controller;
 
+import com.att.tdp.popcorn_palace.dto.BulkShowtimeDTO;
 import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.att.tdp.popcorn_palace.dto.ShowtimeSearchDTO;
 import com.att.tdp.popcorn_palace.exceptions.GlobalExceptionHandler;
+import com.att.tdp.popcorn_palace.index.ScheduleSnapshot;
+import com.att.tdp.popcorn_palace.ingest.StreamingImporter;
+import com.att.tdp.popcorn_palace.model.BulkShowtimeResult;
+import com.att.tdp.popcorn_palace.model.SeatMap;
 import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.model.ShowtimeConflict;
+import com.att.tdp.popcorn_palace.model.ShowtimePage;
 import com.att.tdp.popcorn_palace.service.ShowtimeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,8 +24,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -35,7 +49,9 @@ public class ShowtimeControllerTest {
     void setup() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        ShowtimeController controller = new ShowtimeController(showtimeService);
+        StreamingImporter importer = new StreamingImporter(objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), 500);
+        ShowtimeController controller = new ShowtimeController(showtimeService, importer);
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -64,6 +80,100 @@ public class ShowtimeControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void createShowtimes_WithoutConflicts_ShouldReturnCreatedShowtimes() throws Exception {
+        BulkShowtimeDTO bulk = new BulkShowtimeDTO();
+        bulk.setShowtimes(List.of(createShowtimeDTO()));
+        Showtime showtime = createShowtime(1L, bulk.getShowtimes().get(0));
+        when(showtimeService.createShowtimes(any(BulkShowtimeDTO.class)))
+                .thenReturn(new BulkShowtimeResult(List.of(showtime), List.of()));
+
+        mockMvc.perform(post("/showtimes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulk)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.showtimes[0].id").value(1))
+                .andExpect(jsonPath("$.conflicts").isEmpty());
+    }
+
+    @Test
+    void createShowtimes_WithConflicts_ShouldReturnConflictReport() throws Exception {
+        BulkShowtimeDTO bulk = new BulkShowtimeDTO();
+        bulk.setShowtimes(List.of(createShowtimeDTO(), createShowtimeDTO()));
+        when(showtimeService.createShowtimes(any(BulkShowtimeDTO.class)))
+                .thenReturn(new BulkShowtimeResult(List.of(), List.of(ShowtimeConflict.overlappingRow(1, 0))));
+
+        mockMvc.perform(post("/showtimes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulk)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.created").value(0))
+                .andExpect(jsonPath("$.conflicts[0].row").value(1))
+                .andExpect(jsonPath("$.conflicts[0].conflictingRow").value(0))
+                .andExpect(jsonPath("$.conflicts[0].conflictingShowtimeId").doesNotExist());
+    }
+
+    @Test
+    void createShowtimes_WithInvalidRow_ShouldReturnBadRequest() throws Exception {
+        BulkShowtimeDTO bulk = new BulkShowtimeDTO();
+        bulk.setShowtimes(List.of(new ShowtimeDTO()));
+
+        mockMvc.perform(post("/showtimes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulk)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(showtimeService);
+    }
+
+    @Test
+    void importShowtimes_WithNdjsonBody_ShouldReportConflictsByRow() throws Exception {
+        when(showtimeService.importShowtimes(anyList()))
+                .thenReturn(new BulkShowtimeResult(List.of(), List.of(ShowtimeConflict.overlappingShowtime(0, 7L))));
+        String ndjson = objectMapper.writeValueAsString(createShowtimeDTO()) + "\n";
+
+        mockMvc.perform(post("/showtimes/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString(
+                        "{\"type\":\"error\",\"row\":1,\"errors\":{\"row\":\"Overlaps showtime 7\"}}")))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString(
+                        "{\"type\":\"summary\",\"processed\":1,\"imported\":0,\"rejected\":1,\"completed\":true}")));
+    }
+
+    @Test
+    void searchShowtimes_WithFilters_ShouldReturnPage() throws Exception {
+        Showtime showtime = createShowtime(1L, createShowtimeDTO());
+        when(showtimeService.searchShowtimes(any(ShowtimeSearchDTO.class)))
+                .thenReturn(new ShowtimePage(List.of(showtime), "next"));
+
+        mockMvc.perform(get("/showtimes")
+                        .param("theater", "Theater 1")
+                        .param("movieId", "1")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.showtimes[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(showtimeService).searchShowtimes(argThat(search -> "Theater 1".equals(search.getTheater())
+                && search.getMovieId() == 1L
+                && LocalDateTime.of(2030, 1, 1, 0, 0).equals(search.getFrom())
+                && search.getTo() == null
+                && search.getLimit() == 10));
+    }
+
+    @Test
+    void searchShowtimes_WithLimitTooLarge_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/showtimes").param("limit", "100000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.limit").value("Limit cannot exceed " + ShowtimeSearchDTO.MAX_LIMIT));
+
+        verifyNoInteractions(showtimeService);
+    }
+
     @Test
     void getShowtimeById_WhenExists_ShouldReturnShowtime() throws Exception {
         Long showtimeId = 1L;
@@ -121,6 +231,72 @@ public class ShowtimeControllerTest {
                 .andExpect(jsonPath("$.error").value("Showtime not found"));
     }
 
+    @Test
+    void getSeatMap_WhenExists_ShouldReturnBitmapWithETag() throws Exception {
+        SeatMap seatMap = new SeatMap(1L, 200, 2, "BgA=", "\"1-1-2\"");
+        when(showtimeService.getSeatMap(1L)).thenReturn(seatMap);
+
+        mockMvc.perform(get("/showtimes/{showtimeId}/seats", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-1-2\""))
+                .andExpect(jsonPath("$.seats").value("BgA="))
+                .andExpect(jsonPath("$.occupiedCount").value(2))
+                .andExpect(jsonPath("$.capacity").value(200))
+                .andExpect(jsonPath("$.soldOut").value(false))
+                .andExpect(jsonPath("$.encoding").value(SeatMap.ENCODING))
+                .andExpect(jsonPath("$.etag").doesNotExist());
+    }
+
+    @Test
+    void getSeatMap_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        SeatMap seatMap = new SeatMap(1L, 200, 2, "BgA=", "\"1-1-2\"");
+        when(showtimeService.getSeatMap(1L)).thenReturn(seatMap);
+
+        mockMvc.perform(get("/showtimes/{showtimeId}/seats", 1L)
+                        .header("If-None-Match", "\"1-1-2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getSeatMap_WhenNotFound_ShouldReturnNotFound() throws Exception {
+        when(showtimeService.getSeatMap(999L))
+                .thenThrow(new EntityNotFoundException("Showtime not found with ID: 999"));
+
+        mockMvc.perform(get("/showtimes/{showtimeId}/seats", 999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getDailySchedule_WhenExists_ShouldReturnSerializedSnapshotWithETag() throws Exception {
+        ScheduleSnapshot snapshot = mock(ScheduleSnapshot.class);
+        when(snapshot.getEtag()).thenReturn("\"5\"");
+        when(snapshot.getJson()).thenReturn("{\"theater\":\"Theater 1\"}".getBytes(StandardCharsets.UTF_8));
+        when(showtimeService.getDailySchedule("Theater 1", LocalDate.of(2030, 1, 1))).thenReturn(snapshot);
+
+        mockMvc.perform(get("/showtimes/schedule")
+                        .param("theater", "Theater 1")
+                        .param("date", "2030-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"5\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.theater").value("Theater 1"));
+    }
+
+    @Test
+    void getDailySchedule_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        ScheduleSnapshot snapshot = mock(ScheduleSnapshot.class);
+        when(snapshot.getEtag()).thenReturn("\"5\"");
+        when(showtimeService.getDailySchedule(eq("Theater 1"), any(LocalDate.class))).thenReturn(snapshot);
+
+        mockMvc.perform(get("/showtimes/schedule")
+                        .param("theater", "Theater 1")
+                        .header("If-None-Match", "\"5\""))
+                .andExpect(status().isNotModified());
+
+        verify(showtimeService).getDailySchedule("Theater 1", LocalDate.now());
+    }
+
     private ShowtimeDTO createShowtimeDTO() {
         ShowtimeDTO dto = new ShowtimeDTO();
         dto.setMovieId(1L);
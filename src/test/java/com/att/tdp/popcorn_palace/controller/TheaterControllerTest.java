@@ -0,0 +1,83 @@
+package com.att.tdp.popcorn_palace.controller;
+
+import com.att.tdp.popcorn_palace.dto.TheaterDTO;
+import com.att.tdp.popcorn_palace.exceptions.GlobalExceptionHandler;
+import com.att.tdp.popcorn_palace.model.Theater;
+import com.att.tdp.popcorn_palace.service.TheaterService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TheaterControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TheaterService theaterService;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper();
+        TheaterController controller = new TheaterController(theaterService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void createTheater_WithValidData_ShouldReturnTheaterWithCapacity() throws Exception {
+        TheaterDTO theaterDTO = createTheaterDTO(10, 20);
+        when(theaterService.createTheater(any(TheaterDTO.class))).thenReturn(new Theater(theaterDTO));
+
+        mockMvc.perform(post("/theaters")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(theaterDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Theater 1"))
+                .andExpect(jsonPath("$.rows").value(10))
+                .andExpect(jsonPath("$.seatsPerRow").value(20))
+                .andExpect(jsonPath("$.capacity").value(200));
+    }
+
+    @Test
+    void createTheater_WithOversizedLayout_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/theaters")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTheaterDTO(Theater.MAX_ROWS + 1, 20))))
+                .andExpect(status().isBadRequest());
+
+        verify(theaterService, never()).createTheater(any(TheaterDTO.class));
+    }
+
+    @Test
+    void getTheaterByName_WhenNotFound_ShouldReturnNotFound() throws Exception {
+        when(theaterService.getTheaterByName("Unknown"))
+                .thenThrow(new EntityNotFoundException("Theater not found with name: Unknown"));
+
+        mockMvc.perform(get("/theaters/{name}", "Unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    private TheaterDTO createTheaterDTO(int rows, int seatsPerRow) {
+        TheaterDTO dto = new TheaterDTO();
+        dto.setName("Theater 1");
+        dto.setRows(rows);
+        dto.setSeatsPerRow(seatsPerRow);
+        return dto;
+    }
+}
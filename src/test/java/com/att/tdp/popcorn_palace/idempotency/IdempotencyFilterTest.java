@@ -0,0 +1,214 @@
+package com.att.tdp.popcorn_palace.idempotency;
+
+import com.att.tdp.popcorn_palace.controller.BookingController;
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.exceptions.GlobalExceptionHandler;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.service.BookingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyFilterTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private BookingService bookingService;
+
+    private IdempotencyFilter filter;
+    private SimpleMeterRegistry meterRegistry;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new IdempotencyFilter(100, Duration.ofMinutes(5));
+        filter.bindTo(meterRegistry);
+        mockMvc = MockMvcBuilders.standaloneSetup(new BookingController(bookingService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilters(filter)
+                .build();
+    }
+
+    @Test
+    void createBooking_RetriedWithSameKey_ShouldReplayWithoutCallingService() throws Exception {
+        Booking booking = new Booking(UUID.randomUUID(), 1L, 1, "user123");
+        when(bookingService.createBooking(any(BookingDTO.class))).thenReturn(booking);
+        String body = objectMapper.writeValueAsString(createBookingDTO(1));
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            mockMvc.perform(post("/bookings")
+                            .header(IdempotencyFilter.HEADER, "key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.bookingId").value(booking.getId().toString()));
+        }
+
+        verify(bookingService, times(1)).createBooking(any(BookingDTO.class));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "idempotency").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void createBooking_RetryAfterClientError_ShouldReplayTheError() throws Exception {
+        when(bookingService.createBooking(any(BookingDTO.class)))
+                .thenThrow(new IllegalArgumentException("Seat 1 is already booked for this showtime"));
+        String body = objectMapper.writeValueAsString(createBookingDTO(1));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/bookings")
+                            .header(IdempotencyFilter.HEADER, "key-2")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Seat 1 is already booked for this showtime"));
+        }
+
+        verify(bookingService, times(1)).createBooking(any(BookingDTO.class));
+    }
+
+    @Test
+    void createBooking_RetryAfterServerError_ShouldRunAgain() throws Exception {
+        when(bookingService.createBooking(any(BookingDTO.class)))
+                .thenThrow(new RuntimeException("Connection reset"))
+                .thenReturn(new Booking(UUID.randomUUID(), 1L, 1, "user123"));
+        String body = objectMapper.writeValueAsString(createBookingDTO(1));
+
+        mockMvc.perform(post("/bookings")
+                        .header(IdempotencyFilter.HEADER, "key-3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isInternalServerError());
+        mockMvc.perform(post("/bookings")
+                        .header(IdempotencyFilter.HEADER, "key-3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        verify(bookingService, times(2)).createBooking(any(BookingDTO.class));
+    }
+
+    @Test
+    void createBooking_WithSameKeyAndDifferentBody_ShouldReturnUnprocessableEntity() throws Exception {
+        when(bookingService.createBooking(any(BookingDTO.class))).thenReturn(new Booking(UUID.randomUUID(), 1L, 1, "user123"));
+
+        mockMvc.perform(post("/bookings")
+                        .header(IdempotencyFilter.HEADER, "key-4")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDTO(1))))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/bookings")
+                        .header(IdempotencyFilter.HEADER, "key-4")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDTO(2))))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(bookingService, times(1)).createBooking(any(BookingDTO.class));
+    }
+
+    @Test
+    void createBooking_WithoutKey_ShouldAlwaysCallService() throws Exception {
+        when(bookingService.createBooking(any(BookingDTO.class))).thenReturn(new Booking(UUID.randomUUID(), 1L, 1, "user123"));
+        String body = objectMapper.writeValueAsString(createBookingDTO(1));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/bookings").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isOk());
+        }
+
+        verify(bookingService, times(2)).createBooking(any(BookingDTO.class));
+    }
+
+    @Test
+    void doFilter_WhileFirstRequestInFlight_ShouldReturnConflict() throws Exception {
+        AtomicInteger nestedStatus = new AtomicInteger();
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+
+        filter.doFilter(bookingRequest("key-5"), firstResponse, (request, response) -> {
+            // A retry arrives before the first request has produced its response
+            MockHttpServletResponse retryResponse = new MockHttpServletResponse();
+            filter.doFilter(bookingRequest("key-5"), retryResponse, (r, s) -> { });
+            nestedStatus.set(retryResponse.getStatus());
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_OK);
+        });
+
+        assertThat(nestedStatus.get()).isEqualTo(HttpServletResponse.SC_CONFLICT);
+        assertThat(firstResponse.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void createBooking_WithSameKeyFromAnotherClient_ShouldNotReplay() throws Exception {
+        when(bookingService.createBooking(any(BookingDTO.class)))
+                .thenReturn(new Booking(UUID.randomUUID(), 1L, 1, "user123"));
+        String body = objectMapper.writeValueAsString(createBookingDTO(1));
+
+        for (String clientId : new String[]{"client-a", "client-b"}) {
+            mockMvc.perform(post("/bookings")
+                            .header(IdempotencyFilter.HEADER, "key-6")
+                            .header(IdempotencyFilter.CLIENT_HEADER, clientId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        }
+        mockMvc.perform(post("/bookings")
+                        .header(IdempotencyFilter.HEADER, "key-6")
+                        .principal(() -> "alice")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        verify(bookingService, times(3)).createBooking(any(BookingDTO.class));
+    }
+
+    @Test
+    void doFilter_WhenBodyReadAsynchronously_ShouldRejectReadListener() throws Exception {
+        filter.doFilter(bookingRequest("key-7"), new MockHttpServletResponse(), (request, response) ->
+                assertThatThrownBy(() -> request.getInputStream().setReadListener(null))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("Asynchronous reads of an idempotent request body are not supported"));
+    }
+
+    private MockHttpServletRequest bookingRequest(String idempotencyKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/bookings");
+        request.addHeader(IdempotencyFilter.HEADER, idempotencyKey);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent("{\"showtimeId\":1,\"seatNumber\":1,\"userId\":\"user123\"}".getBytes());
+        return request;
+    }
+
+    private BookingDTO createBookingDTO(int seatNumber) {
+        BookingDTO dto = new BookingDTO();
+        dto.setShowtimeId(1L);
+        dto.setSeatNumber(seatNumber);
+        dto.setUserId("user123");
+        return dto;
+    }
+}
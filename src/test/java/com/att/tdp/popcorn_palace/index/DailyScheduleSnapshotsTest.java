@@ -0,0 +1,151 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Daily Schedule Snapshots Tests")
+class DailyScheduleSnapshotsTest {
+
+    private static final String THEATER = "Theater 1";
+    private static final LocalDate DAY = LocalDate.of(2030, 3, 1);
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    private ObjectMapper objectMapper;
+    private DailyScheduleSnapshots snapshots;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        snapshots = new DailyScheduleSnapshots(showtimeRepository, objectMapper, 100);
+    }
+
+    @Test
+    @DisplayName("Should load a day once with a ranged query and serve it from memory after")
+    void shouldLoadDayOnce() throws Exception {
+        givenDay(createShowtime(2L, 18), createShowtime(1L, 10));
+
+        ScheduleSnapshot first = snapshots.snapshot(THEATER, DAY);
+        ScheduleSnapshot second = snapshots.snapshot(THEATER, DAY);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getShowtimes()).extracting(Showtime::getId).containsExactly(1L, 2L);
+        JsonNode json = objectMapper.readTree(first.getJson());
+        assertThat(json.get("theater").asText()).isEqualTo(THEATER);
+        assertThat(json.get("date").asText()).isEqualTo("2030-03-01");
+        assertThat(json.get("showtimes").get(0).get("startTime").asText()).isEqualTo("2030-03-01T10:00:00");
+        verify(showtimeRepository, times(1)).search(THEATER, null, DAY.atStartOfDay(),
+                DAY.plusDays(1).atStartOfDay(), null, null, Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should swap in a new snapshot on change and leave the old one untouched")
+    void shouldReplaceSnapshot_WhenShowtimeAdded() {
+        givenDay(createShowtime(1L, 10));
+        ScheduleSnapshot before = snapshots.snapshot(THEATER, DAY);
+
+        snapshots.add(createShowtime(3L, 14));
+        ScheduleSnapshot after = snapshots.snapshot(THEATER, DAY);
+
+        assertThat(before.getShowtimes()).extracting(Showtime::getId).containsExactly(1L);
+        assertThat(after.getShowtimes()).extracting(Showtime::getId).containsExactly(1L, 3L);
+        assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+        verify(showtimeRepository, times(1)).search(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should hand out the same ETag for the same schedule on every instance")
+    void shouldDeriveEtagFromContent() {
+        givenDay(createShowtime(1L, 10));
+        ScheduleSnapshot loaded = snapshots.snapshot(THEATER, DAY);
+        DailyScheduleSnapshots otherInstance = new DailyScheduleSnapshots(showtimeRepository, objectMapper, 100);
+
+        assertThat(otherInstance.snapshot(THEATER, DAY).getEtag()).isEqualTo(loaded.getEtag());
+
+        snapshots.add(createShowtime(3L, 14));
+        snapshots.remove(THEATER, DAY, 3L);
+
+        assertThat(snapshots.snapshot(THEATER, DAY).getEtag()).isEqualTo(loaded.getEtag());
+    }
+
+    @Test
+    @DisplayName("Should apply a change that is already in the snapshot only once")
+    void shouldBeIdempotent_WhenShowtimeAddedTwice() {
+        givenDay(createShowtime(1L, 10));
+        snapshots.snapshot(THEATER, DAY);
+
+        Showtime moved = createShowtime(1L, 12);
+        snapshots.add(moved);
+        snapshots.add(moved);
+
+        assertThat(snapshots.snapshot(THEATER, DAY).getShowtimes())
+                .extracting(Showtime::getStartTime).containsExactly(DAY.atTime(12, 0));
+    }
+
+    @Test
+    @DisplayName("Should drop removed showtimes")
+    void shouldRemoveShowtime() {
+        givenDay(createShowtime(1L, 10), createShowtime(2L, 14));
+        snapshots.snapshot(THEATER, DAY);
+
+        snapshots.remove(THEATER, DAY, 1L);
+
+        assertThat(snapshots.snapshot(THEATER, DAY).getShowtimes()).extracting(Showtime::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should skip changes to days that are not loaded")
+    void shouldSkipChanges_WhenDayNotLoaded() {
+        snapshots.add(createShowtime(1L, 10));
+        snapshots.remove(THEATER, DAY, 1L);
+
+        assertThat(snapshots.isLoaded(THEATER, DAY)).isFalse();
+        verifyNoInteractions(showtimeRepository);
+    }
+
+    @Test
+    @DisplayName("Should keep a copy, not the showtime passed in")
+    void shouldCopyShowtimes() {
+        givenDay();
+        snapshots.snapshot(THEATER, DAY);
+        Showtime showtime = createShowtime(1L, 10);
+
+        snapshots.add(showtime);
+        showtime.setPrice(99.0);
+
+        assertThat(snapshots.snapshot(THEATER, DAY).getShowtimes().get(0).getPrice()).isEqualTo(12.5);
+    }
+
+    private void givenDay(Showtime... showtimes) {
+        when(showtimeRepository.search(THEATER, null, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay(),
+                null, null, Integer.MAX_VALUE)).thenReturn(new ArrayList<>(List.of(showtimes)));
+    }
+
+    private Showtime createShowtime(Long id, int startHour) {
+        LocalDateTime startTime = DAY.atTime(startHour, 0);
+        return new Showtime(id, 12.5, 1L, THEATER, startTime, startTime.plusHours(2));
+    }
+}
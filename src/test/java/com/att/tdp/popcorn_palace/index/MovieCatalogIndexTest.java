@@ -0,0 +1,227 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Movie Catalog Index Tests")
+class MovieCatalogIndexTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    private MovieCatalogIndex movieCatalogIndex;
+
+    @BeforeEach
+    void setUp() {
+        movieCatalogIndex = new MovieCatalogIndex(movieRepository, new ObjectMapper());
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should load the catalog once and answer by ID and title from memory")
+        void shouldServeLookupsFromMemory() {
+            when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "The Matrix"), createMovie(2L, "Heat")));
+
+            assertThat(movieCatalogIndex.findById(2L)).get().extracting(Movie::getTitle).isEqualTo("Heat");
+            assertThat(movieCatalogIndex.findByTitle("The Matrix")).get().extracting(Movie::getId).isEqualTo(1L);
+            assertThat(movieCatalogIndex.containsTitle("Heat")).isTrue();
+            assertThat(movieCatalogIndex.findExistingTitles(List.of("Heat", "Alien"))).containsExactly("Heat");
+            assertThat(movieCatalogIndex.findExistingIds(List.of(1L, 2L))).containsExactlyInAnyOrder(1L, 2L);
+
+            verify(movieRepository, times(1)).findAll();
+            verifyNoMoreInteractions(movieRepository);
+        }
+
+        @Test
+        @DisplayName("Should confirm misses against the movies table")
+        void shouldConfirmMissesAgainstTable() {
+            when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "The Matrix")));
+            when(movieRepository.findById(3L)).thenReturn(Optional.of(createMovie(3L, "Alien")));
+            when(movieRepository.findByTitle("Unknown")).thenReturn(Optional.empty());
+            when(movieRepository.findExistingIds(Set.of(3L, 4L))).thenReturn(Set.of(3L));
+
+            assertThat(movieCatalogIndex.findById(3L)).isPresent();
+            assertThat(movieCatalogIndex.findByTitle("Unknown")).isEmpty();
+            assertThat(movieCatalogIndex.findExistingIds(List.of(1L, 3L, 4L))).containsExactlyInAnyOrder(1L, 3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Change Tests")
+    class ChangeTests {
+
+        @Test
+        @DisplayName("Should re-key a movie whose title changed")
+        void shouldReplaceTitle_WhenMovieRenamed() {
+            when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "The Matrix")));
+
+            movieCatalogIndex.put(createMovie(1L, "The Matrix Reloaded"));
+
+            assertThat(movieCatalogIndex.containsTitle("The Matrix")).isFalse();
+            assertThat(movieCatalogIndex.findById(1L)).get()
+                    .extracting(Movie::getTitle).isEqualTo("The Matrix Reloaded");
+        }
+
+        @Test
+        @DisplayName("Should drop removed movies by ID and title")
+        void shouldRemoveMovie() {
+            when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "The Matrix")));
+            when(movieRepository.findByTitle(anyString())).thenReturn(Optional.empty());
+
+            movieCatalogIndex.remove(1L);
+            movieCatalogIndex.remove(1L);
+
+            assertThat(movieCatalogIndex.containsTitle("The Matrix")).isFalse();
+            assertThat(movieCatalogIndex.findByTitle("The Matrix")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should keep a copy, not the movie passed in")
+        void shouldCopyMovies() {
+            when(movieRepository.findAll()).thenReturn(List.of());
+            Movie movie = createMovie(1L, "The Matrix");
+
+            movieCatalogIndex.put(movie);
+            movie.setGenre("Drama");
+
+            assertThat(movieCatalogIndex.findById(1L)).get().extracting(Movie::getGenre).isEqualTo("Action");
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconciliation Tests")
+    class ReconciliationTests {
+
+        @Test
+        @DisplayName("Should rebuild the catalog when it drifted from the table")
+        void shouldRebuild_WhenDrifted() {
+            when(movieRepository.findAll())
+                    .thenReturn(List.of(createMovie(1L, "The Matrix")))
+                    .thenReturn(List.of(createMovie(1L, "The Matrix"), createMovie(2L, "Heat")));
+            movieCatalogIndex.load();
+
+            assertThat(movieCatalogIndex.reconcile()).isTrue();
+            assertThat(movieCatalogIndex.containsTitle("Heat")).isTrue();
+            verify(movieRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should detect changed fields, not only missing movies")
+        void shouldRebuild_WhenFieldsChanged() {
+            Movie changed = createMovie(1L, "The Matrix");
+            changed.setRating(9.9);
+            when(movieRepository.findAll())
+                    .thenReturn(List.of(createMovie(1L, "The Matrix")))
+                    .thenReturn(List.of(changed));
+            movieCatalogIndex.load();
+
+            assertThat(movieCatalogIndex.reconcile()).isTrue();
+            assertThat(movieCatalogIndex.findById(1L)).get().extracting(Movie::getRating).isEqualTo(9.9);
+        }
+
+        @Test
+        @DisplayName("Should leave an up-to-date catalog alone")
+        void shouldNotRebuild_WhenInSync() {
+            when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "The Matrix")));
+            movieCatalogIndex.load();
+
+            assertThat(movieCatalogIndex.reconcile()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should search the current version of the catalog without querying the table")
+        void shouldSearchCurrentVersion() {
+            when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "The Matrix")));
+
+            assertThat(movieCatalogIndex.search("mat", 10)).extracting(Movie::getTitle).containsExactly("The Matrix");
+
+            movieCatalogIndex.put(createMovie(2L, "The Matrix Reloaded"));
+            movieCatalogIndex.remove(1L);
+
+            assertThat(movieCatalogIndex.search("mat", 10)).extracting(Movie::getTitle).containsExactly("The Matrix Reloaded");
+            verify(movieRepository, times(1)).findAll();
+            verifyNoMoreInteractions(movieRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should serialize a version of the catalog once")
+        void shouldSerializeOncePerVersion() throws Exception {
+            when(movieRepository.findAll()).thenReturn(List.of(createMovie(2L, "Heat"), createMovie(1L, "The Matrix")));
+
+            CatalogSnapshot first = movieCatalogIndex.snapshot();
+            CatalogSnapshot second = movieCatalogIndex.snapshot();
+
+            assertThat(second).isSameAs(first);
+            assertThat(first.getMovies()).extracting(Movie::getId).containsExactly(1L, 2L);
+            assertThat(new ObjectMapper().readTree(first.getJson()).get(1).get("title").asText()).isEqualTo("Heat");
+            assertThat(first.getEtag()).startsWith("\"").endsWith("\"");
+        }
+
+        @Test
+        @DisplayName("Should bump the version and the ETag on every change")
+        void shouldBumpVersion_WhenCatalogChanges() {
+            when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "The Matrix")));
+            CatalogSnapshot before = movieCatalogIndex.snapshot();
+
+            movieCatalogIndex.put(createMovie(2L, "Heat"));
+            CatalogSnapshot added = movieCatalogIndex.snapshot();
+            movieCatalogIndex.remove(2L);
+            CatalogSnapshot removed = movieCatalogIndex.snapshot();
+
+            assertThat(added.getVersion()).isGreaterThan(before.getVersion());
+            assertThat(added.getEtag()).isNotEqualTo(before.getEtag());
+            assertThat(added.getMovies()).hasSize(2);
+            assertThat(before.getMovies()).hasSize(1);
+            // Same content as before, so clients holding the first ETag get 304 again
+            assertThat(removed.getVersion()).isGreaterThan(added.getVersion());
+            assertThat(removed.getEtag()).isEqualTo(before.getEtag());
+        }
+
+        @Test
+        @DisplayName("Should hand out the same ETag for the same catalog on every instance")
+        void shouldDeriveETagFromContent() {
+            when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "The Matrix")));
+            MovieCatalogIndex otherInstance = new MovieCatalogIndex(movieRepository, new ObjectMapper());
+            otherInstance.load();
+            otherInstance.load();
+
+            assertThat(otherInstance.version()).isNotEqualTo(movieCatalogIndex.version());
+            assertThat(otherInstance.snapshot().getEtag()).isEqualTo(movieCatalogIndex.snapshot().getEtag());
+        }
+    }
+
+    private Movie createMovie(Long id, String title) {
+        return new Movie(id, title, "Action", 136, 8.7, 1999);
+    }
+}
@@ -0,0 +1,135 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.MovieFacets;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Movie Facet Counters Tests")
+class MovieFacetCountersTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    private MovieFacetCounters movieFacetCounters;
+
+    @BeforeEach
+    void setUp() {
+        movieFacetCounters = new MovieFacetCounters(movieRepository);
+    }
+
+    @Nested
+    @DisplayName("Counting Tests")
+    class CountingTests {
+
+        @Test
+        @DisplayName("Should start from the counts in the movies table")
+        void shouldLoadCountsFromTable() {
+            stubTable(Map.of("Action", 2L, "Drama", 1L), Map.of(1999, 3L));
+
+            MovieFacets facets = movieFacetCounters.counts();
+            movieFacetCounters.counts();
+
+            assertThat(facets.getGenres()).containsExactly(Map.entry("Action", 2L), Map.entry("Drama", 1L));
+            assertThat(facets.getReleaseYears()).containsExactly(Map.entry(1999, 3L));
+            verify(movieRepository, times(1)).countByGenre();
+        }
+
+        @Test
+        @DisplayName("Should adjust the counts of both facets and drop empty ones")
+        void shouldAdjustCounts_WhenMoviesChange() {
+            stubTable(Map.of(), Map.of());
+            movieFacetCounters.load();
+            Movie alien = createMovie("Sci-Fi", 1979);
+
+            movieFacetCounters.added(alien);
+            movieFacetCounters.added(createMovie("Sci-Fi", 1986));
+            movieFacetCounters.replaced(alien, createMovie("Horror", 1979));
+            movieFacetCounters.removed(createMovie("Sci-Fi", 1986));
+
+            MovieFacets facets = movieFacetCounters.counts();
+            assertThat(facets.getGenres()).containsExactly(Map.entry("Horror", 1L));
+            assertThat(facets.getReleaseYears()).containsExactly(Map.entry(1979, 1L));
+            verify(movieRepository, times(1)).countByGenre();
+        }
+
+        @Test
+        @DisplayName("Should hide a facet that went below zero")
+        void shouldHideNegativeCounts() {
+            stubTable(Map.of(), Map.of());
+            movieFacetCounters.load();
+            movieFacetCounters.removed(createMovie("Western", 1966));
+
+            assertThat(movieFacetCounters.counts().getGenres()).isEmpty();
+            assertThat(movieFacetCounters.counts().getReleaseYears()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconciliation Tests")
+    class ReconciliationTests {
+
+        @Test
+        @DisplayName("Should leave matching counts alone")
+        void shouldNotCorrect_WhenCountsMatch() {
+            movieFacetCounters.added(createMovie("Action", 2008));
+            stubTable(Map.of("Action", 1L), Map.of(2008, 1L));
+
+            assertThat(movieFacetCounters.reconcile()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should correct the facets that drifted from the table")
+        void shouldCorrectDrift() {
+            movieFacetCounters.added(createMovie("Action", 2008));
+            movieFacetCounters.added(createMovie("Drama", 2008));
+            stubTable(Map.of("Action", 3L), Map.of(2008, 2L, 2010, 1L));
+
+            assertThat(movieFacetCounters.reconcile()).isTrue();
+
+            MovieFacets facets = movieFacetCounters.counts();
+            assertThat(facets.getGenres()).containsExactly(Map.entry("Action", 3L));
+            assertThat(facets.getReleaseYears()).containsExactly(Map.entry(2008, 2L), Map.entry(2010, 1L));
+        }
+
+        @Test
+        @DisplayName("Should skip the correction when the counts change while the table is read")
+        void shouldSkipCorrection_WhenChangedDuringRead() {
+            stubTable(Map.of(), Map.of());
+            movieFacetCounters.load();
+            when(movieRepository.countByGenre()).thenAnswer(invocation -> {
+                movieFacetCounters.added(createMovie("Action", 2008));
+                return List.<Object[]>of(new Object[]{"Action", 1L});
+            });
+            when(movieRepository.countByReleaseYear()).thenReturn(List.<Object[]>of(new Object[]{2008, 1L}));
+            movieFacetCounters.added(createMovie("Drama", 1990));
+
+            assertThat(movieFacetCounters.reconcile()).isFalse();
+            assertThat(movieFacetCounters.counts().getGenres()).containsOnlyKeys("Action", "Drama");
+        }
+    }
+
+    private void stubTable(Map<String, Long> genres, Map<Integer, Long> years) {
+        when(movieRepository.countByGenre()).thenReturn(genres.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue()}).toList());
+        when(movieRepository.countByReleaseYear()).thenReturn(years.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue()}).toList());
+    }
+
+    private Movie createMovie(String genre, int releaseYear) {
+        return new Movie(null, "Title", genre, 120, 8.0, releaseYear);
+    }
+}
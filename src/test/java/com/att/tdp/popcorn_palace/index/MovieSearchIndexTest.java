@@ -0,0 +1,102 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Movie Search Index Tests")
+class MovieSearchIndexTest {
+
+    private MovieSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MovieSearchIndex(1, List.of(
+                new Movie(1L, "The Dark Knight", "Action", 152, 9.0, 2008),
+                new Movie(2L, "The Dark Knight Rises", "Action", 164, 8.4, 2012),
+                new Movie(3L, "Dark", "Thriller", 100, 7.0, 2017),
+                new Movie(4L, "Interstellar", "Sci-Fi", 169, 8.6, 2014),
+                new Movie(5L, "Amélie", "Romantic Comedy", 122, 8.3, 2001),
+                new Movie(6L, "Spider-Man", "Action", 121, 7.4, 2002),
+                new Movie(7L, "Knight and Day", "Action Comedy", 109, 6.3, 2010)
+        ));
+    }
+
+    @Nested
+    @DisplayName("Matching Tests")
+    class MatchingTests {
+
+        @Test
+        @DisplayName("Should match an incomplete last word as a prefix")
+        void shouldMatchPrefix_WhenLastWordIncomplete() {
+            assertThat(titles(index.search("inter", 10))).containsExactly("Interstellar");
+            assertThat(titles(index.search("the dark kn", 10))).containsExactly("The Dark Knight", "The Dark Knight Rises");
+        }
+
+        @Test
+        @DisplayName("Should require every word but the last to match a whole word")
+        void shouldRequireWholeWords_BeforeLastWord() {
+            assertThat(index.search("dar knight", 10)).isEmpty();
+            assertThat(titles(index.search("knight action", 10)))
+                    .containsExactlyInAnyOrder("The Dark Knight", "The Dark Knight Rises", "Knight and Day");
+        }
+
+        @Test
+        @DisplayName("Should match genres as well as titles")
+        void shouldMatchGenreWords() {
+            assertThat(titles(index.search("comedy", 10))).containsExactlyInAnyOrder("Amélie", "Knight and Day");
+        }
+
+        @Test
+        @DisplayName("Should ignore case, accents and punctuation")
+        void shouldNormalizeText() {
+            assertThat(titles(index.search("AMELIE", 10))).containsExactly("Amélie");
+            assertThat(titles(index.search("spider man", 10))).containsExactly("Spider-Man");
+            assertThat(titles(index.search("spider-m", 10))).containsExactly("Spider-Man");
+        }
+
+        @Test
+        @DisplayName("Should return nothing for a query without words")
+        void shouldReturnNothing_WhenQueryHasNoWords() {
+            assertThat(index.search(" -- ", 10)).isEmpty();
+            assertThat(index.search("zzz", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Ranking Tests")
+    class RankingTests {
+
+        @Test
+        @DisplayName("Should rank the exact title first, then title prefixes, then title words")
+        void shouldRankByHowTheMovieMatched() {
+            assertThat(titles(index.search("dark", 10))).containsExactly("Dark", "The Dark Knight", "The Dark Knight Rises");
+            assertThat(titles(index.search("knight", 10)))
+                    .containsExactly("Knight and Day", "The Dark Knight", "The Dark Knight Rises");
+        }
+
+        @Test
+        @DisplayName("Should rank title matches above genre matches")
+        void shouldRankTitleAboveGenre() {
+            assertThat(titles(index.search("a", 3))).containsExactly("Amélie", "Knight and Day", "The Dark Knight");
+        }
+
+        @Test
+        @DisplayName("Should break ties by rating and return at most the limit")
+        void shouldBreakTiesByRating() {
+            assertThat(titles(index.search("action", 10))).containsExactly(
+                    "The Dark Knight", "The Dark Knight Rises", "Spider-Man", "Knight and Day");
+            assertThat(titles(index.search("the dark", 1))).containsExactly("The Dark Knight");
+        }
+    }
+
+    private static List<String> titles(List<Movie> movies) {
+        return movies.stream().map(Movie::getTitle).toList();
+    }
+}
@@ -0,0 +1,272 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.SeatMap;
+import com.att.tdp.popcorn_palace.model.Theater;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.repository.TheaterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Seat Occupancy Index Tests")
+class SeatOccupancyIndexTest {
+
+    private static final Long SHOWTIME_ID = 1L;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private TheaterRepository theaterRepository;
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    private SeatOccupancyIndex seatOccupancyIndex;
+
+    @BeforeEach
+    void setUp() {
+        seatOccupancyIndex = new SeatOccupancyIndex(bookingRepository, theaterRepository, showtimeRepository,
+                Duration.ofHours(1));
+    }
+
+    @Nested
+    @DisplayName("Claim Tests")
+    class ClaimTests {
+
+        @Test
+        @DisplayName("Should load the bitmap once and reject booked seats")
+        void shouldLoadOnceAndRejectBookedSeats() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of(3, 7));
+
+            assertThat(seatOccupancyIndex.tryClaim(SHOWTIME_ID, 3)).isFalse();
+            assertThat(seatOccupancyIndex.tryClaim(SHOWTIME_ID, 4)).isTrue();
+            assertThat(seatOccupancyIndex.tryClaim(SHOWTIME_ID, 4)).isFalse();
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 7)).isTrue();
+
+            verify(bookingRepository, times(1)).findSeatNumbersByShowtimeId(SHOWTIME_ID);
+        }
+
+        @Test
+        @DisplayName("Should free the seat when a pending claim is released")
+        void shouldFreeSeat_WhenPendingClaimReleased() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of());
+
+            assertThat(seatOccupancyIndex.tryClaim(SHOWTIME_ID, 5)).isTrue();
+            seatOccupancyIndex.release(SHOWTIME_ID, 5);
+
+            assertThat(seatOccupancyIndex.tryClaim(SHOWTIME_ID, 5)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should keep the seat when a confirmed claim is released")
+        void shouldKeepSeat_WhenConfirmedClaimReleased() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of());
+
+            assertThat(seatOccupancyIndex.tryClaim(SHOWTIME_ID, 5)).isTrue();
+            seatOccupancyIndex.confirm(SHOWTIME_ID, 5);
+            seatOccupancyIndex.release(SHOWTIME_ID, 5);
+
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 5)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should claim held seats again when the bitmap is reloaded")
+        void shouldRestoreHolds_WhenReloaded() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of());
+
+            assertThat(seatOccupancyIndex.tryHold(SHOWTIME_ID, 5)).isTrue();
+            assertThat(seatOccupancyIndex.tryClaim(SHOWTIME_ID, 6)).isTrue();
+            seatOccupancyIndex.evict(SHOWTIME_ID);
+
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 5)).isTrue();
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 6)).isFalse();
+            assertThat(seatOccupancyIndex.tryClaim(SHOWTIME_ID, 5)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should stop restoring a hold once it is released or confirmed")
+        void shouldForgetHold_WhenReleasedOrConfirmed() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of());
+            seatOccupancyIndex.tryHold(SHOWTIME_ID, 5);
+            seatOccupancyIndex.tryHold(SHOWTIME_ID, 6);
+            seatOccupancyIndex.evict(SHOWTIME_ID);
+
+            seatOccupancyIndex.releaseHold(SHOWTIME_ID, 5);
+            seatOccupancyIndex.confirmHold(SHOWTIME_ID, 6);
+            seatOccupancyIndex.evict(SHOWTIME_ID);
+
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 5)).isFalse();
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 6)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should drop the bitmap and the holds of a deleted showtime")
+        void shouldDropHolds_WhenShowtimeForgotten() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of());
+            seatOccupancyIndex.tryHold(SHOWTIME_ID, 5);
+
+            seatOccupancyIndex.forget(SHOWTIME_ID);
+
+            assertThat(seatOccupancyIndex.isLoaded(SHOWTIME_ID)).isFalse();
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 5)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconcile Tests")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("Should rebuild the bitmap when it drifted from the table")
+        void shouldRebuild_WhenDrifted() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID))
+                    .thenReturn(List.of(1))
+                    .thenReturn(List.of(1, 2));
+            seatOccupancyIndex.isOccupied(SHOWTIME_ID, 1);
+
+            assertThat(seatOccupancyIndex.reconcile(SHOWTIME_ID)).isTrue();
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 2)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should keep pending claims when rebuilding")
+        void shouldKeepPendingClaims_WhenRebuilding() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID))
+                    .thenReturn(List.of(1))
+                    .thenReturn(List.of());
+            seatOccupancyIndex.tryClaim(SHOWTIME_ID, 9);
+
+            assertThat(seatOccupancyIndex.reconcile(SHOWTIME_ID)).isTrue();
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 1)).isFalse();
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 9)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not touch the database for showtimes that were never loaded")
+        void shouldSkipUnloadedShowtimes() {
+            assertThat(seatOccupancyIndex.reconcile(SHOWTIME_ID)).isFalse();
+            verifyNoInteractions(bookingRepository);
+        }
+
+        @Test
+        @DisplayName("Should reconcile every loaded showtime with one batched query")
+        void shouldReconcileLoadedShowtimes_InOneQuery() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(anyLong())).thenReturn(List.of());
+            seatOccupancyIndex.isOccupied(1L, 1);
+            seatOccupancyIndex.isOccupied(2L, 1);
+            when(showtimeRepository.findUpcomingIds(anyCollection(), any())).thenReturn(Set.of(1L, 2L));
+            when(bookingRepository.findSeatNumbersByShowtimeIds(anyCollection()))
+                    .thenReturn(List.<Object[]>of(new Object[]{1L, 4}, new Object[]{2L, 6}));
+
+            seatOccupancyIndex.reconcileAll();
+
+            assertThat(seatOccupancyIndex.isOccupied(1L, 4)).isTrue();
+            assertThat(seatOccupancyIndex.isOccupied(2L, 6)).isTrue();
+            verify(bookingRepository, times(1)).findSeatNumbersByShowtimeIds(anyCollection());
+            verify(bookingRepository, times(2)).findSeatNumbersByShowtimeId(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should drop the bitmaps of showtimes that have ended")
+        void shouldDropBitmaps_WhenShowtimeEnded() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(anyLong())).thenReturn(List.of());
+            seatOccupancyIndex.isOccupied(1L, 1);
+            seatOccupancyIndex.isOccupied(2L, 1);
+            when(showtimeRepository.findUpcomingIds(anyCollection(), any())).thenReturn(Set.of(2L));
+            when(bookingRepository.findSeatNumbersByShowtimeIds(anyCollection())).thenReturn(List.of());
+
+            seatOccupancyIndex.reconcileAll();
+
+            assertThat(seatOccupancyIndex.reconcile(1L)).isFalse();
+            verify(bookingRepository).findSeatNumbersByShowtimeIds(Set.of(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Seat Map Tests")
+    class SeatMapTests {
+
+        @Test
+        @DisplayName("Should encode booked and pending seats as a base64 bitmap")
+        void shouldEncodeOccupiedSeats() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of(1, 9, 500));
+            seatOccupancyIndex.tryClaim(SHOWTIME_ID, 2);
+
+            SeatMap seatMap = seatOccupancyIndex.seatMap(SHOWTIME_ID);
+
+            BitSet decoded = BitSet.valueOf(Base64.getDecoder().decode(seatMap.getSeats()));
+            assertThat(decoded.stream().boxed().toList()).containsExactly(1, 2, 9, 500);
+            assertThat(seatMap.getOccupiedCount()).isEqualTo(4);
+            assertThat(seatMap.getSeats().length()).isLessThan(100);
+        }
+
+        @Test
+        @DisplayName("Should cover the whole theater when its layout is known")
+        void shouldCoverWholeTheater_WhenLayoutKnown() {
+            when(theaterRepository.findByShowtimeId(SHOWTIME_ID))
+                    .thenReturn(Optional.of(new Theater(1L, "Theater 1", 20, 25)));
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of(3));
+
+            SeatMap seatMap = seatOccupancyIndex.seatMap(SHOWTIME_ID);
+
+            assertThat(Base64.getDecoder().decode(seatMap.getSeats())).hasSize(500 / 8 + 1);
+            assertThat(seatMap.getCapacity()).isEqualTo(500);
+            assertThat(seatMap.isSoldOut()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should report a full theater as sold out")
+        void shouldReportSoldOut_WhenEverySeatTaken() {
+            when(theaterRepository.findByShowtimeId(SHOWTIME_ID))
+                    .thenReturn(Optional.of(new Theater(1L, "Theater 1", 1, 2)));
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of(1));
+
+            seatOccupancyIndex.tryClaim(SHOWTIME_ID, 2);
+
+            assertThat(seatOccupancyIndex.seatMap(SHOWTIME_ID).isSoldOut()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should keep the ETag until occupancy changes")
+        void shouldChangeETag_OnlyWhenOccupancyChanges() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of(1));
+
+            SeatMap first = seatOccupancyIndex.seatMap(SHOWTIME_ID);
+            SeatMap unchanged = seatOccupancyIndex.seatMap(SHOWTIME_ID);
+            seatOccupancyIndex.tryClaim(SHOWTIME_ID, 2);
+            SeatMap changed = seatOccupancyIndex.seatMap(SHOWTIME_ID);
+
+            assertThat(unchanged).isSameAs(first);
+            assertThat(changed.getEtag()).isNotEqualTo(first.getEtag());
+        }
+
+        @Test
+        @DisplayName("Should issue a new ETag after the bitmap is reloaded")
+        void shouldChangeETag_WhenReloaded() {
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of(1));
+
+            SeatMap before = seatOccupancyIndex.seatMap(SHOWTIME_ID);
+            seatOccupancyIndex.evict(SHOWTIME_ID);
+            SeatMap after = seatOccupancyIndex.seatMap(SHOWTIME_ID);
+
+            assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+        }
+    }
+}
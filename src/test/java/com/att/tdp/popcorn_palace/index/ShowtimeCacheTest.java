@@ -0,0 +1,109 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Showtime Cache Tests")
+class ShowtimeCacheTest {
+
+    private static final Long SHOWTIME_ID = 1L;
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    private ShowtimeCache showtimeCache;
+
+    @BeforeEach
+    void setUp() {
+        showtimeCache = new ShowtimeCache(showtimeRepository, 2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should read a showtime from the table once and serve it from memory after")
+    void shouldLoadShowtimeOnce() {
+        when(showtimeRepository.findById(SHOWTIME_ID)).thenReturn(Optional.of(createShowtime(SHOWTIME_ID)));
+
+        Optional<Showtime> first = showtimeCache.findById(SHOWTIME_ID);
+        Optional<Showtime> second = showtimeCache.findById(SHOWTIME_ID);
+
+        assertThat(first).get().extracting(Showtime::getTheater).isEqualTo("Theater 1");
+        assertThat(second.get()).isSameAs(first.get());
+        verify(showtimeRepository, times(1)).findById(SHOWTIME_ID);
+        assertThat(showtimeCache.stats().hitCount()).isEqualTo(1);
+        assertThat(showtimeCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not keep the managed entity returned by the repository")
+    void shouldCacheDetachedCopy() {
+        Showtime managed = createShowtime(SHOWTIME_ID);
+        when(showtimeRepository.findById(SHOWTIME_ID)).thenReturn(Optional.of(managed));
+
+        Showtime cached = showtimeCache.findById(SHOWTIME_ID).orElseThrow();
+        managed.setPrice(99.0);
+
+        assertThat(cached).isNotSameAs(managed);
+        assertThat(cached.getPrice()).isEqualTo(12.5);
+    }
+
+    @Test
+    @DisplayName("Should not cache missing showtimes")
+    void shouldNotCacheMissingShowtime() {
+        when(showtimeRepository.findById(SHOWTIME_ID))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(createShowtime(SHOWTIME_ID)));
+
+        assertThat(showtimeCache.findById(SHOWTIME_ID)).isEmpty();
+        assertThat(showtimeCache.findById(SHOWTIME_ID)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should read the showtime again after it was invalidated")
+    void shouldReload_WhenInvalidated() {
+        when(showtimeRepository.findById(SHOWTIME_ID)).thenReturn(Optional.of(createShowtime(SHOWTIME_ID)));
+        showtimeCache.findById(SHOWTIME_ID);
+
+        showtimeCache.invalidate(SHOWTIME_ID);
+        showtimeCache.findById(SHOWTIME_ID);
+
+        verify(showtimeRepository, times(2)).findById(SHOWTIME_ID);
+    }
+
+    @Test
+    @DisplayName("Should publish hit, miss and eviction metrics")
+    void shouldPublishMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        showtimeCache.bindTo(registry);
+        for (long id = 1; id <= 3; id++) {
+            when(showtimeRepository.findById(id)).thenReturn(Optional.of(createShowtime(id)));
+            showtimeCache.findById(id);
+        }
+        showtimeCache.findById(3L);
+
+        assertThat(registry.get("cache.gets").tag("cache", "showtimes").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", "showtimes").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("cache.size").tag("cache", "showtimes").gauge().value()).isLessThanOrEqualTo(3);
+    }
+
+    private Showtime createShowtime(Long id) {
+        LocalDateTime startTime = LocalDateTime.of(2030, 1, 1, 20, 0);
+        return new Showtime(id, 12.5, 1L, "Theater 1", startTime, startTime.plusHours(2));
+    }
+}
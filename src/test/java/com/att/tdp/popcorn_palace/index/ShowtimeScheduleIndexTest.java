@@ -0,0 +1,191 @@
+package com.att.tdp.popcorn_palace.index;
+
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Showtime Schedule Index Tests")
+class ShowtimeScheduleIndexTest {
+
+    private static final String THEATER = "Theater 1";
+    private static final LocalDateTime DAY = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.DAYS);
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    private ShowtimeScheduleIndex showtimeScheduleIndex;
+
+    @BeforeEach
+    void setUp() {
+        showtimeScheduleIndex = new ShowtimeScheduleIndex(showtimeRepository);
+    }
+
+    @Nested
+    @DisplayName("Overlap Tests")
+    class OverlapTests {
+
+        @BeforeEach
+        void givenSchedule() {
+            // 10:00-12:00 and 14:00-17:00
+            when(showtimeRepository.findByTheaterAndEndTimeGreaterThanEqual(eq(THEATER), any())).thenReturn(List.of(
+                    createShowtime(1L, 10, 12),
+                    createShowtime(2L, 14, 17)));
+        }
+
+        @Test
+        @DisplayName("Should find showtimes overlapping the requested slot")
+        void shouldFindOverlappingShowtimes() {
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(11), at(15))).containsExactly(1L, 2L);
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(15), at(16))).containsExactly(2L);
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(9), at(18))).containsExactly(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("Should treat touching endpoints as an overlap, like the repository query")
+        void shouldTreatTouchingEndpointsAsOverlap() {
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(12), at(13))).containsExactly(1L);
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(13), at(14))).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("Should report free slots between showtimes")
+        void shouldReportFreeSlots() {
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(12).plusMinutes(1), at(13))).isEmpty();
+            assertThat(showtimeScheduleIndex.findOverlapping("Theater 2", at(11), at(15))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should load each theater only once")
+        void shouldLoadTheaterOnce() {
+            showtimeScheduleIndex.findOverlapping(THEATER, at(11), at(15));
+            showtimeScheduleIndex.findOverlapping(THEATER, at(1), at(2));
+
+            verify(showtimeRepository, times(1)).findByTheaterAndEndTimeGreaterThanEqual(eq(THEATER), any());
+        }
+
+        @Test
+        @DisplayName("Should follow added, moved and removed showtimes")
+        void shouldFollowChanges() {
+            showtimeScheduleIndex.findOverlapping(THEATER, at(0), at(1));
+
+            showtimeScheduleIndex.add(createShowtime(3L, 20, 22));
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(21), at(23))).containsExactly(3L);
+
+            showtimeScheduleIndex.add(createShowtime(3L, 6, 8));
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(21), at(23))).isEmpty();
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(7), at(9))).containsExactly(3L);
+
+            showtimeScheduleIndex.remove(THEATER, 1L);
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(10), at(11))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should find a long showtime that starts well before a short request")
+        void shouldFindLongShowtimeStartingEarlier() {
+            showtimeScheduleIndex.findOverlapping(THEATER, at(0), at(1));
+            showtimeScheduleIndex.add(createShowtime(4L, 0, 23));
+
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(19), at(20))).containsExactly(4L);
+        }
+
+        @Test
+        @DisplayName("Should load only showtimes that have not ended")
+        void shouldLoadOnlyUpcomingShowtimes() {
+            LocalDateTime before = LocalDateTime.now();
+            showtimeScheduleIndex.findOverlapping(THEATER, at(11), at(15));
+
+            verify(showtimeRepository).findByTheaterAndEndTimeGreaterThanEqual(eq(THEATER),
+                    argThat(horizon -> !horizon.isBefore(before) && !horizon.isAfter(LocalDateTime.now())));
+            verify(showtimeRepository, never()).findByTheater(any());
+        }
+
+        @Test
+        @DisplayName("Should ask the table about slots that reach back before the horizon")
+        void shouldQueryTable_WhenSlotStartsBeforeHorizon() {
+            Showtime ended = createShowtime(9L, 0, 1);
+            when(showtimeRepository.findOverlappingShowtimes(eq(THEATER), any(), any())).thenReturn(List.of(ended));
+            LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+
+            assertThat(showtimeScheduleIndex.findOverlapping(THEATER, yesterday, yesterday.plusHours(2)))
+                    .containsExactly(9L);
+            verify(showtimeRepository).findOverlappingShowtimes(THEATER, yesterday, yesterday.plusHours(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pruning Tests")
+    class PruningTests {
+
+        @Test
+        @DisplayName("Should drop showtimes once they have ended")
+        void shouldDropEndedShowtimes() {
+            TheaterTimeline timeline = new TheaterTimeline(at(0));
+            timeline.add(1L, at(1), at(3));
+            timeline.add(2L, at(2), at(6));
+            timeline.add(3L, at(7), at(9));
+
+            assertThat(timeline.pruneEndedBefore(at(5))).isEqualTo(1);
+            assertThat(timeline.size()).isEqualTo(2);
+            assertThat(timeline.horizon()).isEqualTo(at(5));
+            assertThat(timeline.findOverlapping(at(5), at(8))).containsExactly(2L, 3L);
+        }
+
+        @Test
+        @DisplayName("Should not keep showtimes added after they ended")
+        void shouldIgnoreEndedShowtimes_WhenAdded() {
+            TheaterTimeline timeline = new TheaterTimeline(at(5));
+            timeline.add(1L, at(1), at(3));
+
+            assertThat(timeline.size()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not publish a timeline loaded while a showtime changed")
+    void shouldNotPublishTimeline_WhenChangedDuringLoad() {
+        when(showtimeRepository.findByTheaterAndEndTimeGreaterThanEqual(eq(THEATER), any())).thenAnswer(invocation -> {
+            showtimeScheduleIndex.add(createShowtime(5L, 10, 12));
+            return List.of();
+        }).thenReturn(List.of(createShowtime(5L, 10, 12)));
+
+        assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(11), at(12))).isEmpty();
+        assertThat(showtimeScheduleIndex.findOverlapping(THEATER, at(11), at(12))).containsExactly(5L);
+        verify(showtimeRepository, times(2)).findByTheaterAndEndTimeGreaterThanEqual(eq(THEATER), any());
+    }
+
+    @Test
+    @DisplayName("Should ignore changes to theaters that were never loaded")
+    void shouldIgnoreChangesToUnloadedTheaters() {
+        showtimeScheduleIndex.add(createShowtime(1L, 10, 12));
+        showtimeScheduleIndex.remove(THEATER, 1L);
+
+        verifyNoInteractions(showtimeRepository);
+    }
+
+    private Showtime createShowtime(Long id, int startHour, int endHour) {
+        Showtime showtime = new Showtime();
+        showtime.setId(id);
+        showtime.setTheater(THEATER);
+        showtime.setStartTime(at(startHour));
+        showtime.setEndTime(at(endHour));
+        return showtime;
+    }
+
+    private static LocalDateTime at(int hour) {
+        return DAY.plusHours(hour);
+    }
+}
@@ -0,0 +1,233 @@
+package com.att.tdp.popcorn_palace.ingest;
+
+import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Streaming Importer Tests")
+class StreamingImporterTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private ObjectMapper objectMapper;
+    private StreamingImporter importer;
+    private ByteArrayOutputStream out;
+    private List<List<MovieDTO>> batches;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        importer = new StreamingImporter(objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), BATCH_SIZE);
+        out = new ByteArrayOutputStream();
+        batches = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Should write NDJSON rows in bounded batches and report progress after each")
+    void shouldWriteRowsInBatches_WhenNdjson() throws IOException {
+        String body = movieJson("A") + "\n" + movieJson("B") + "\n" + movieJson("C") + "\n";
+
+        ImportEvent summary = importMovies(body, ImportFormat.NDJSON, recordingWriter(Map.of()));
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 1);
+        assertThat(summary.getProcessed()).isEqualTo(3);
+        assertThat(summary.getImported()).isEqualTo(3);
+        assertThat(summary.getRejected()).isZero();
+        assertThat(summary.getCompleted()).isTrue();
+        assertThat(events()).extracting(event -> event.get("type").asText())
+                .containsExactly(ImportEvent.PROGRESS, ImportEvent.PROGRESS, ImportEvent.SUMMARY);
+    }
+
+    @Test
+    @DisplayName("Should read CSV rows by header name")
+    void shouldReadRowsByHeader_WhenCsv() throws IOException {
+        String body = "releaseYear,title,genre,duration,rating\n"
+                + "1999,The Matrix,Sci-Fi,136,8.7\n"
+                + "\n"
+                + "1994,Pulp Fiction,Crime,154,8.9\n";
+
+        ImportEvent summary = importMovies(body, ImportFormat.CSV, recordingWriter(Map.of()));
+
+        assertThat(summary.getImported()).isEqualTo(2);
+        MovieDTO first = batches.get(0).get(0);
+        assertThat(first.getTitle()).isEqualTo("The Matrix");
+        assertThat(first.getReleaseYear()).isEqualTo(1999);
+        assertThat(first.getRating()).isEqualTo(8.7);
+    }
+
+    @Test
+    @DisplayName("Should parse showtime timestamps from CSV")
+    void shouldParseTimestamps_WhenCsvShowtimes() throws IOException {
+        String body = "movieId,theater,price,startTime,endTime\n"
+                + "1,Theater 1,12.5,2030-01-01T10:00:00,2030-01-01T12:00:00\n";
+        List<ShowtimeDTO> received = new ArrayList<>();
+
+        importer.importRows(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV,
+                ShowtimeDTO.class, rows -> {
+                    received.addAll(rows);
+                    return Map.of();
+                }, out);
+
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getStartTime()).isEqualTo(LocalDateTime.of(2030, 1, 1, 10, 0));
+        assertThat(received.get(0).getTheater()).isEqualTo("Theater 1");
+    }
+
+    @Test
+    @DisplayName("Should report invalid rows with their field errors and keep importing")
+    void shouldReportInvalidRows_WhenConstraintsViolated() throws IOException {
+        String body = movieJson("A") + "\n"
+                + "{\"title\":\"\",\"genre\":\"Drama\",\"duration\":0,\"rating\":5.0,\"releaseYear\":2000}\n"
+                + movieJson("C") + "\n";
+
+        ImportEvent summary = importMovies(body, ImportFormat.NDJSON, recordingWriter(Map.of()));
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(MovieDTO::getTitle).containsExactly("A", "C");
+        assertThat(summary.getRejected()).isEqualTo(1);
+        JsonNode error = events().get(0);
+        assertThat(error.get("type").asText()).isEqualTo(ImportEvent.ERROR);
+        assertThat(error.get("row").asLong()).isEqualTo(2);
+        assertThat(error.get("errors").get("title").asText()).isEqualTo("Title is required");
+        assertThat(error.get("errors").get("duration").asText())
+                .isEqualTo("Duration is required and must be at least 1");
+    }
+
+    @Test
+    @DisplayName("Should map rows skipped by the writer back to their row numbers")
+    void shouldReportSkippedRows_WhenWriterRejectsThem() throws IOException {
+        String body = movieJson("A") + "\n" + movieJson("A") + "\n";
+
+        ImportEvent summary = importMovies(body, ImportFormat.NDJSON,
+                recordingWriter(Map.of(1, "A movie with this title already exists")));
+
+        assertThat(summary.getImported()).isEqualTo(1);
+        assertThat(summary.getRejected()).isEqualTo(1);
+        JsonNode error = events().get(0);
+        assertThat(error.get("row").asLong()).isEqualTo(2);
+        assertThat(error.get("errors").get("row").asText()).isEqualTo("A movie with this title already exists");
+    }
+
+    @Test
+    @DisplayName("Should stop at a malformed row and keep the batches written before it")
+    void shouldStop_WhenRowIsMalformed() throws IOException {
+        String body = movieJson("A") + "\n" + movieJson("B") + "\n" + movieJson("C") + "\n{\"title\": \n";
+
+        ImportEvent summary = importMovies(body, ImportFormat.NDJSON, recordingWriter(Map.of()));
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 1);
+        assertThat(summary.getProcessed()).isEqualTo(4);
+        assertThat(summary.getImported()).isEqualTo(3);
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(summary.getCompleted()).isFalse();
+        JsonNode error = events().get(2);
+        assertThat(error.get("row").asLong()).isEqualTo(4);
+        assertThat(error.get("errors").get("row").asText()).startsWith("Malformed row");
+    }
+
+    @Test
+    @DisplayName("Should reject a row with unparsable values and keep importing")
+    void shouldSkipRow_WhenValuesCannotBeParsed() throws IOException {
+        String body = movieJson("A") + "\n" + movieJson("B").replace("100", "\"long\"") + "\n" + movieJson("C") + "\n";
+
+        ImportEvent summary = importMovies(body, ImportFormat.NDJSON, recordingWriter(Map.of()));
+
+        assertThat(batches).extracting(batch -> batch.stream().map(MovieDTO::getTitle).toList())
+                .containsExactly(List.of("A", "C"));
+        assertThat(summary.getProcessed()).isEqualTo(3);
+        assertThat(summary.getImported()).isEqualTo(2);
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(summary.getCompleted()).isTrue();
+        JsonNode error = events().get(0);
+        assertThat(error.get("row").asLong()).isEqualTo(2);
+        assertThat(error.get("errors").get("row").asText()).startsWith("Malformed row at line 2:");
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV row with unparsable values and keep importing")
+    void shouldSkipRow_WhenCsvValuesCannotBeParsed() throws IOException {
+        String body = "title,genre,duration,rating,releaseYear\n"
+                + "A,Drama,100,7.0,2001\n"
+                + "B,Drama,long,7.0,2001\n"
+                + "C,Drama,100,7.0,2001\n";
+
+        ImportEvent summary = importMovies(body, ImportFormat.CSV, recordingWriter(Map.of()));
+
+        assertThat(summary.getImported()).isEqualTo(2);
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(summary.getCompleted()).isTrue();
+        JsonNode error = events().get(0);
+        assertThat(error.get("row").asLong()).isEqualTo(2);
+        assertThat(error.get("errors").get("row").asText()).startsWith("Malformed row at line 3:");
+    }
+
+    @Test
+    @DisplayName("Should stop when a batch fails to be written")
+    void shouldStop_WhenBatchFails() throws IOException {
+        String body = movieJson("A") + "\n" + movieJson("B") + "\n" + movieJson("C") + "\n";
+
+        ImportEvent summary = importMovies(body, ImportFormat.NDJSON, rows -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        assertThat(summary.getImported()).isZero();
+        assertThat(summary.getRejected()).isEqualTo(2);
+        assertThat(summary.getCompleted()).isFalse();
+        assertThat(events().get(0).get("errors").get("batch").asText())
+                .isEqualTo("Batch of 2 rows failed: database unavailable");
+    }
+
+    @Test
+    @DisplayName("Should resolve the format from the content type")
+    void shouldResolveFormat_FromContentType() {
+        assertThat(ImportFormat.fromContentType("application/x-ndjson")).isEqualTo(ImportFormat.NDJSON);
+        assertThat(ImportFormat.fromContentType("text/csv;charset=UTF-8")).isEqualTo(ImportFormat.CSV);
+        assertThatThrownBy(() -> ImportFormat.fromContentType("application/json"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ImportEvent importMovies(String body, ImportFormat format,
+                                     Function<List<MovieDTO>, Map<Integer, String>> writer) throws IOException {
+        return importer.importRows(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format,
+                MovieDTO.class, writer, out);
+    }
+
+    private Function<List<MovieDTO>, Map<Integer, String>> recordingWriter(Map<Integer, String> skipped) {
+        return rows -> {
+            batches.add(rows);
+            return skipped;
+        };
+    }
+
+    private List<JsonNode> events() throws IOException {
+        List<JsonNode> events = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            events.add(objectMapper.readTree(line));
+        }
+        return events;
+    }
+
+    private static String movieJson(String title) {
+        return "{\"title\":\"" + title + "\",\"genre\":\"Drama\",\"duration\":100,\"rating\":7.0,\"releaseYear\":2001}";
+    }
+}
@@ -0,0 +1,115 @@
+package com.att.tdp.popcorn_palace.limiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Adaptive Concurrency Limiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("Should reject requests beyond the current limit")
+    void shouldRejectRequests_WhenLimitReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10);
+
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+        AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire();
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(limiter.tryAcquire()).isNull();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+
+        first.release(false);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency stays at its baseline")
+    void shouldGrowLimit_WhenLatencyIsStable() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 4, 1, 50);
+
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter, 0);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency rises above its baseline")
+    void shouldShrinkLimit_WhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 20, 2, 50);
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, 0);
+        }
+        int baselineLimit = limiter.getLimit();
+
+        for (int i = 0; i < 3; i++) {
+            saturate(limiter, 20);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(baselineLimit);
+    }
+
+    @Test
+    @DisplayName("Should back off on dropped requests but never below the minimum")
+    void shouldBackOff_WhenRequestsAreDropped() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 3, 10);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire().release(true);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent limit settings")
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 5, 10, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 5, 0, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should expose limit, in-flight and rejection metrics")
+    void shouldExposeMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("bookings", 1, 1, 10);
+        limiter.bindTo(registry);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        assertThat(registry.get("http.concurrency.limit").tag("limiter", "bookings").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("http.concurrency.in_flight").tag("limiter", "bookings").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("http.concurrency.rejected").tag("limiter", "bookings").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    private void saturate(AdaptiveConcurrencyLimiter limiter, long holdMillis) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        AdaptiveConcurrencyLimiter.Permit permit;
+        while ((permit = limiter.tryAcquire()) != null) {
+            permits.add(permit);
+        }
+        if (holdMillis > 0) {
+            try {
+                Thread.sleep(holdMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        permits.forEach(p -> p.release(false));
+    }
+}
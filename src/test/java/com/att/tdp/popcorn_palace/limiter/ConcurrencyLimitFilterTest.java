@@ -0,0 +1,69 @@
+package com.att.tdp.popcorn_palace.limiter;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConcurrencyLimitFilterTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setup() {
+        limiter = new AdaptiveConcurrencyLimiter("bookings", 1, 1, 10);
+        filter = new ConcurrencyLimitFilter(limiter, Duration.ofSeconds(2));
+    }
+
+    @Test
+    void doFilter_WithinLimit_ShouldPassThroughAndReleasePermit() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/bookings"), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void doFilter_WhenLimitReached_ShouldRejectWithServiceUnavailable() throws Exception {
+        AdaptiveConcurrencyLimiter.Permit held = limiter.tryAcquire();
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/bookings"), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"error\"");
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+        held.release(false);
+    }
+
+    @Test
+    void doFilter_WhenChainThrows_ShouldReleasePermit() {
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                throw new IllegalStateException("boom");
+            }
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("POST", "/bookings"),
+                new MockHttpServletResponse(), chain))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -9,12 +9,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @DisplayName("Booking Repository Tests")
@@ -119,4 +123,53 @@ class BookingRepositoryTest {
             assertThat(exists).isFalse();
         }
     }
-} 
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Find Seat Numbers By Showtime ID Tests")
+    class FindSeatNumbersByShowtimeIdTests {
+
+        @Test
+        @DisplayName("Should return every booked seat of the showtime")
+        void shouldReturnBookedSeats() {
+            List<Integer> seats = bookingRepository.findSeatNumbersByShowtimeId(testShowtime.getId());
+            assertThat(seats).containsExactlyInAnyOrder(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("Should return the booked seats of several showtimes in one query")
+        void shouldReturnBookedSeats_ForSeveralShowtimes() {
+            List<Object[]> rows = bookingRepository.findSeatNumbersByShowtimeIds(List.of(testShowtime.getId(), -1L));
+            assertThat(rows).extracting(row -> row[0]).containsOnly(testShowtime.getId());
+            assertThat(rows).extracting(row -> row[1]).containsExactlyInAnyOrder(1, 2, 3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Unique Seat Tests")
+    class UniqueSeatTests {
+
+        @Test
+        @DisplayName("Should reject a second booking for the same seat")
+        void shouldRejectDuplicateSeat() {
+            Booking duplicate = createBooking(testShowtime.getId(), UUID.randomUUID(), SEAT_NUMBER);
+            assertThatThrownBy(() -> bookingRepository.saveAndFlush(duplicate))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Generated ID Tests")
+    class GeneratedIdTests {
+
+        @Test
+        @DisplayName("Should assign time-ordered version 7 IDs in insertion order")
+        void shouldAssignTimeOrderedIds() {
+            Booking first = bookingRepository.saveAndFlush(createBooking(testShowtime.getId(), USER_ID, 10));
+            Booking second = bookingRepository.saveAndFlush(createBooking(testShowtime.getId(), USER_ID, 11));
+
+            assertThat(first.getId().version()).isEqualTo(7);
+            assertThat(second.getId().version()).isEqualTo(7);
+            assertThat(second.getId()).isGreaterThan(first.getId());
+        }
+    }
+}
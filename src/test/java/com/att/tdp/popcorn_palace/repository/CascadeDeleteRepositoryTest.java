@@ -0,0 +1,84 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(CascadeDeleteRepository.class)
+@DisplayName("Cascade Delete Repository Tests")
+class CascadeDeleteRepositoryTest {
+
+    @Autowired
+    private CascadeDeleteRepository cascadeDeleteRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    private static final String THEATER = "Theater 1";
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private Long movieId;
+
+    @BeforeEach
+    void setUp() {
+        Movie movie = new Movie();
+        movie.setTitle("Retired Movie");
+        movie.setGenre("Drama");
+        movie.setDuration(90);
+        movie.setRating(7.5);
+        movie.setReleaseYear(2001);
+        movieId = movieRepository.save(movie).getId();
+    }
+
+    @Test
+    @DisplayName("Should delete a movie with its showtimes and bookings without violating foreign keys")
+    void shouldDeleteMovieWithShowtimesAndBookings() {
+        List<Showtime> showtimes = List.of(saveShowtime(0), saveShowtime(1), saveShowtime(2));
+        for (Showtime showtime : showtimes) {
+            bookingRepository.save(new Booking(null, showtime.getId(), 1, "user1"));
+            bookingRepository.save(new Booking(null, showtime.getId(), 2, "user2"));
+        }
+        bookingRepository.flush();
+
+        List<Showtime> firstChunk = cascadeDeleteRepository.findShowtimesOfMovie(movieId, 2);
+        List<Long> firstIds = firstChunk.stream().map(Showtime::getId).toList();
+
+        assertThat(firstIds).containsExactly(showtimes.get(0).getId(), showtimes.get(1).getId());
+        assertThat(firstChunk.get(0).getTheater()).isEqualTo(THEATER);
+        assertThat(firstChunk.get(0).getStartTime()).isEqualTo(START_TIME);
+        assertThat(cascadeDeleteRepository.deleteBookingsOfShowtimes(firstIds)).isEqualTo(4);
+        assertThat(cascadeDeleteRepository.deleteShowtimes(firstIds)).isEqualTo(2);
+
+        List<Long> rest = cascadeDeleteRepository.findShowtimesOfMovie(movieId, 2).stream().map(Showtime::getId).toList();
+        assertThat(rest).containsExactly(showtimes.get(2).getId());
+        assertThat(cascadeDeleteRepository.deleteBookingsOfShowtimes(rest)).isEqualTo(2);
+        assertThat(cascadeDeleteRepository.deleteShowtimes(rest)).isEqualTo(1);
+        assertThat(cascadeDeleteRepository.deleteMovie(movieId)).isEqualTo(1);
+
+        assertThat(cascadeDeleteRepository.findShowtimesOfMovie(movieId, 2)).isEmpty();
+        assertThat(bookingRepository.count()).isZero();
+    }
+
+    private Showtime saveShowtime(int slot) {
+        LocalDateTime startTime = START_TIME.plusHours(3L * slot);
+        return showtimeRepository.saveAndFlush(new Showtime(null, 10.0, movieId, THEATER, startTime, startTime.plusHours(2)));
+    }
+}
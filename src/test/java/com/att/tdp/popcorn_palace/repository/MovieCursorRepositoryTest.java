@@ -0,0 +1,67 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(MovieCursorRepository.class)
+@TestPropertySource(properties = "popcorn-palace.movies.stream-fetch-size=2")
+@DisplayName("Movie Cursor Repository Tests")
+class MovieCursorRepositoryTest {
+
+    @Autowired
+    private MovieCursorRepository movieCursorRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            movieRepository.save(new Movie(null, "Cursor Movie " + i, "Drama", 90 + i, 7.0, 2000 + i));
+        }
+        movieRepository.flush();
+    }
+
+    @Test
+    @DisplayName("Should hand over every movie in title order, across several fetches")
+    void shouldStreamAllMoviesInTitleOrder() {
+        List<String> titles = new ArrayList<>();
+        List<Integer> durations = new ArrayList<>();
+
+        movieCursorRepository.forEach(movie -> {
+            titles.add(movie.getTitle());
+            if (movie.getTitle().startsWith("Cursor Movie")) {
+                durations.add(movie.getDuration());
+            }
+        });
+
+        assertThat(titles).isSorted().hasSize((int) movieRepository.count());
+        assertThat(durations).containsExactly(90, 91, 92, 93, 94);
+    }
+
+    @Test
+    @DisplayName("Should leave the fetch size of the shared JdbcTemplate unchanged")
+    void shouldNotChangeSharedTemplate() {
+        int fetchSize = jdbcTemplate.getFetchSize();
+
+        movieCursorRepository.forEach(movie -> { });
+
+        assertThat(jdbcTemplate.getFetchSize()).isEqualTo(fetchSize);
+    }
+}
@@ -7,9 +7,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -102,6 +106,40 @@ class MovieRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Page Tests")
+    class PageTests {
+
+        @Test
+        @DisplayName("Should page through every movie in title order without gaps or repeats")
+        void shouldPageThroughAllMoviesInTitleOrder() {
+            List<String> titles = new ArrayList<>();
+            String afterTitle = null;
+            List<Movie> page;
+            do {
+                page = afterTitle == null
+                        ? movieRepository.findAllByOrderByTitle(Limit.of(2))
+                        : movieRepository.findByTitleGreaterThanOrderByTitle(afterTitle, Limit.of(2));
+                assertThat(page.size()).isLessThanOrEqualTo(2);
+                page.forEach(movie -> titles.add(movie.getTitle()));
+                afterTitle = page.isEmpty() ? afterTitle : page.get(page.size() - 1).getTitle();
+            } while (page.size() == 2);
+
+            assertThat(titles).isSorted().doesNotHaveDuplicates()
+                    .hasSize((int) movieRepository.count())
+                    .contains(MATRIX_TITLE, "Pulp Fiction", "Fight Club");
+        }
+
+        @Test
+        @DisplayName("Should start right after the given title")
+        void shouldStartAfterTitle() {
+            List<Movie> page = movieRepository.findByTitleGreaterThanOrderByTitle("Fight Club", Limit.of(1));
+
+            assertThat(page).hasSize(1);
+            assertThat(page.get(0).getTitle()).isGreaterThan("Fight Club");
+        }
+    }
+
     @Nested
     @DisplayName("Delete By Title Tests")
     class DeleteByTitleTests {
@@ -125,4 +163,63 @@ class MovieRepositoryTest {
             movieRepository.deleteByTitle(title); // Should not throw exception
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Facet Count Tests")
+    class FacetCountTests {
+
+        @Test
+        @DisplayName("Should count movies per genre and per release year")
+        void shouldCountPerGenreAndYear() {
+            assertThat(movieRepository.countByGenre())
+                    .anySatisfy(row -> assertThat(row).containsExactly("Crime", 1L + countSeeded("genre = 'Crime'")))
+                    .anySatisfy(row -> assertThat(row).containsExactly("Sci-Fi", 1L + countSeeded("genre = 'Sci-Fi'")));
+            assertThat(movieRepository.countByReleaseYear())
+                    .anySatisfy(row -> assertThat(row).containsExactly(1999, 2L + countSeeded("release_year = 1999")));
+        }
+
+        private long countSeeded(String condition) {
+            return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movies WHERE " + condition
+                    + " AND title NOT IN ('The Matrix', 'Pulp Fiction', 'Fight Club')", Long.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Update By Title Tests")
+    class UpdateByTitleTests {
+
+        @Test
+        @DisplayName("Should overwrite the movie and report one row")
+        void shouldUpdateMovie_WhenTitleExists() {
+            int updated = movieRepository.updateByTitle(MATRIX_TITLE, "The Matrix Reloaded", "Action", 138, 7.2, 2003);
+
+            assertThat(updated).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT release_year FROM movies WHERE title = 'The Matrix Reloaded'", Integer.class)).isEqualTo(2003);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM movies WHERE title = ?", Integer.class, MATRIX_TITLE)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should report no rows when title does not exist")
+        void shouldReturnZero_WhenTitleDoesNotExist() {
+            assertThat(movieRepository.updateByTitle(NON_EXISTENT_TITLE, NON_EXISTENT_TITLE, "Action", 100, 5.0, 2000))
+                    .isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Existing Ids Tests")
+    class FindExistingIdsTests {
+
+        @Test
+        @DisplayName("Should return only the ids that belong to a movie")
+        void shouldReturnOnlyExistingIds() {
+            Long matrixId = movieRepository.findByTitle(MATRIX_TITLE).orElseThrow().getId();
+
+            Set<Long> result = movieRepository.findExistingIds(List.of(matrixId, -1L));
+
+            assertThat(result).containsExactly(matrixId);
+        }
+    }
+}
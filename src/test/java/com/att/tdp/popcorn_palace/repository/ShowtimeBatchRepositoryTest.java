@@ -0,0 +1,70 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ShowtimeBatchRepository.class)
+@DisplayName("Showtime Batch Repository Tests")
+class ShowtimeBatchRepositoryTest {
+
+    @Autowired
+    private ShowtimeBatchRepository showtimeBatchRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    private static final String THEATER = "Theater 1";
+    private static final double PRICE = 12.99;
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private Long movieId;
+
+    @BeforeEach
+    void setUp() {
+        Movie movie = new Movie();
+        movie.setTitle("Batch Movie");
+        movie.setGenre("Drama");
+        movie.setDuration(90);
+        movie.setRating(7.5);
+        movie.setReleaseYear(2020);
+        movieId = movieRepository.save(movie).getId();
+    }
+
+    @Test
+    @DisplayName("Should insert showtimes across several batches and set their generated ids")
+    void shouldInsertShowtimesAndSetIds() {
+        List<Showtime> showtimes = new ArrayList<>();
+        for (int i = 0; i < ShowtimeBatchRepository.BATCH_SIZE + 3; i++) {
+            LocalDateTime startTime = START_TIME.plusHours(2L * i);
+            showtimes.add(new Showtime(null, PRICE, movieId, THEATER, startTime, startTime.plusMinutes(90)));
+        }
+
+        List<Showtime> result = showtimeBatchRepository.insertAll(showtimes);
+
+        assertThat(result).extracting(Showtime::getId).doesNotContainNull().doesNotHaveDuplicates();
+        Showtime last = result.get(result.size() - 1);
+        Showtime stored = showtimeRepository.findById(last.getId()).orElseThrow();
+        assertThat(stored.getMovieId()).isEqualTo(movieId);
+        assertThat(stored.getTheater()).isEqualTo(THEATER);
+        assertThat(stored.getStartTime()).isEqualTo(last.getStartTime());
+        assertThat(stored.getEndTime()).isEqualTo(last.getEndTime());
+        assertThat(stored.getPrice()).isEqualTo(PRICE);
+        assertThat(showtimeRepository.findByTheater(THEATER)).hasSize(showtimes.size());
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,7 +37,7 @@ class ShowtimeRepositoryTest {
 
     private static final String THEATER = "Theater 1";
     private static final double PRICE = 12.99;
-    private static final LocalDateTime START_TIME = LocalDateTime.now().plusDays(1);
+    private static final LocalDateTime START_TIME = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
     private static final LocalDateTime END_TIME = START_TIME.plusMinutes(MATRIX_DURATION);
 
     @BeforeEach
@@ -104,4 +105,85 @@ class ShowtimeRepositoryTest {
             assertThat(result).isEmpty();
         }
     }
-} 
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Find By Theater Tests")
+    class FindByTheaterTests {
+
+        @Test
+        @DisplayName("Should return only the showtimes of the theater")
+        void shouldReturnShowtimesOfTheater() {
+            List<Showtime> result = showtimeRepository.findByTheater(THEATER);
+
+            assertThat(result).hasSize(2);
+            assertThat(result).allMatch(showtime -> showtime.getTheater().equals(THEATER));
+        }
+
+        @Test
+        @DisplayName("Should return only the showtimes of the theater that have not ended")
+        void shouldReturnUpcomingShowtimesOfTheater() {
+            List<Showtime> result = showtimeRepository.findByTheaterAndEndTimeGreaterThanEqual(THEATER, END_TIME.plusMinutes(1));
+
+            assertThat(result).extracting(Showtime::getStartTime).containsExactly(START_TIME.plusHours(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Upcoming IDs Tests")
+    class FindUpcomingIdsTests {
+
+        @Test
+        @DisplayName("Should keep only showtimes that exist and have not ended")
+        void shouldReturnUpcomingIds() {
+            List<Long> ids = showtimeRepository.findByTheater(THEATER).stream().map(Showtime::getId).toList();
+
+            assertThat(showtimeRepository.findUpcomingIds(List.of(ids.get(0), ids.get(1), -1L), START_TIME))
+                    .containsExactlyInAnyOrderElementsOf(ids);
+            assertThat(showtimeRepository.findUpcomingIds(ids, END_TIME.plusHours(3))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should order by start time and id and continue after the given key")
+        void shouldSeekPastKey_WhenPaging() {
+            List<Showtime> firstPage = showtimeRepository.search(null, null, null, null, null, null, 2);
+            Showtime last = firstPage.get(1);
+
+            List<Showtime> secondPage = showtimeRepository.search(null, null, null, null,
+                    last.getStartTime(), last.getId(), 10);
+
+            assertThat(firstPage).extracting(Showtime::getStartTime)
+                    .containsExactly(START_TIME, START_TIME.plusHours(3));
+            assertThat(secondPage).extracting(Showtime::getStartTime).containsExactly(START_TIME.plusDays(1));
+        }
+
+        @Test
+        @DisplayName("Should break start time ties by id")
+        void shouldBreakTiesById_WhenStartTimesEqual() {
+            Long movieId = movieRepository.findByTitle(MATRIX_TITLE).orElseThrow().getId();
+            Showtime twin = showtimeRepository.save(createShowtime(movieId, "Theater 2", START_TIME, END_TIME));
+            Showtime first = showtimeRepository.search(null, null, null, null, null, null, 1).get(0);
+
+            List<Showtime> next = showtimeRepository.search(null, null, null, null,
+                    first.getStartTime(), first.getId(), 1);
+
+            assertThat(next).extracting(Showtime::getId).containsExactly(twin.getId());
+        }
+
+        @Test
+        @DisplayName("Should apply only the given filters")
+        void shouldApplyFilters() {
+            Long movieId = movieRepository.findByTitle(MATRIX_TITLE).orElseThrow().getId();
+
+            assertThat(showtimeRepository.search(THEATER, movieId, null, null, null, null, 10)).hasSize(2);
+            assertThat(showtimeRepository.search(null, movieId, START_TIME.plusHours(1), START_TIME.plusDays(1),
+                    null, null, 10))
+                    .extracting(Showtime::getStartTime).containsExactly(START_TIME.plusHours(3));
+            assertThat(showtimeRepository.search(null, -1L, null, null, null, null, 10)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.model.Theater;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("Theater Repository Tests")
+class TheaterRepositoryTest {
+
+    @Autowired
+    private TheaterRepository theaterRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    private static final String THEATER_NAME = "Test Hall";
+
+    private Showtime testShowtime;
+
+    @BeforeEach
+    void setUp() {
+        theaterRepository.save(new Theater(null, THEATER_NAME, 12, 18));
+
+        Movie movie = new Movie();
+        movie.setTitle("The Matrix");
+        movie.setGenre("Sci-Fi");
+        movie.setDuration(136);
+        movie.setRating(8.7);
+        movie.setReleaseYear(1999);
+        movie = movieRepository.save(movie);
+
+        Showtime showtime = new Showtime();
+        showtime.setMovieId(movie.getId());
+        showtime.setTheater(THEATER_NAME);
+        showtime.setStartTime(LocalDateTime.now().plusDays(1));
+        showtime.setEndTime(LocalDateTime.now().plusDays(1).plusMinutes(136));
+        showtime.setPrice(12.99);
+        testShowtime = showtimeRepository.save(showtime);
+    }
+
+    @Nested
+    @DisplayName("Find By Showtime ID Tests")
+    class FindByShowtimeIdTests {
+
+        @Test
+        @DisplayName("Should return the theater a showtime is scheduled in")
+        void shouldReturnTheater_WhenShowtimeExists() {
+            Optional<Theater> theater = theaterRepository.findByShowtimeId(testShowtime.getId());
+
+            assertThat(theater).isPresent();
+            assertThat(theater.get().getName()).isEqualTo(THEATER_NAME);
+            assertThat(theater.get().getCapacity()).isEqualTo(216);
+        }
+
+        @Test
+        @DisplayName("Should return empty when showtime does not exist")
+        void shouldReturnEmpty_WhenShowtimeDoesNotExist() {
+            assertThat(theaterRepository.findByShowtimeId(999_999L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Find By Name Tests")
+    class FindByNameTests {
+
+        @Test
+        @DisplayName("Should find the seeded theaters")
+        void shouldFindSeededTheaters() {
+            assertThat(theaterRepository.findByName("Theater 1")).isPresent();
+            assertThat(theaterRepository.existsByName("Unknown")).isFalse();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("Booking Service Concurrency Tests")
+class BookingServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    private Long firstShowtimeId;
+    private Long secondShowtimeId;
+
+    @BeforeEach
+    void setUp() {
+        Movie movie = new Movie();
+        movie.setTitle("Concurrency " + UUID.randomUUID());
+        movie.setGenre("Drama");
+        movie.setDuration(120);
+        movie.setRating(7.5);
+        movie.setReleaseYear(2020);
+        movie = movieRepository.save(movie);
+
+        firstShowtimeId = showtimeRepository.save(createShowtime(movie.getId(), "Theater 1")).getId();
+        secondShowtimeId = showtimeRepository.save(createShowtime(movie.getId(), "Theater 2")).getId();
+    }
+
+    @Test
+    @DisplayName("Should sell a contended seat exactly once")
+    void shouldSellContendedSeatOnce() throws Exception {
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String userId = "user" + i;
+            attempts.add(() -> tryBook(firstShowtimeId, 7, userId));
+        }
+
+        assertThat(countSuccesses(attempts)).isEqualTo(1);
+        assertThat(bookingRepository.findSeatNumbersByShowtimeId(firstShowtimeId)).containsExactly(7);
+    }
+
+    @Test
+    @DisplayName("Should book distinct seats of different showtimes in parallel")
+    void shouldBookDistinctSeatsInParallel() throws Exception {
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 1; i <= THREADS; i++) {
+            int seatNumber = i;
+            Long showtimeId = i % 2 == 0 ? firstShowtimeId : secondShowtimeId;
+            attempts.add(() -> tryBook(showtimeId, seatNumber, "user" + seatNumber));
+        }
+
+        assertThat(countSuccesses(attempts)).isEqualTo(THREADS);
+        assertThat(bookingRepository.findSeatNumbersByShowtimeId(firstShowtimeId)).hasSize(THREADS / 2);
+        assertThat(bookingRepository.findSeatNumbersByShowtimeId(secondShowtimeId)).hasSize(THREADS / 2);
+    }
+
+    private boolean tryBook(Long showtimeId, int seatNumber, String userId) {
+        BookingDTO dto = new BookingDTO();
+        dto.setShowtimeId(showtimeId);
+        dto.setSeatNumber(seatNumber);
+        dto.setUserId(userId);
+        try {
+            bookingService.createBooking(dto);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private long countSuccesses(List<Callable<Boolean>> attempts) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long successes = 0;
+            for (Future<Boolean> result : executor.invokeAll(attempts)) {
+                if (result.get()) {
+                    successes++;
+                }
+            }
+            return successes;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Showtime createShowtime(Long movieId, String theater) {
+        Showtime showtime = new Showtime();
+        showtime.setMovieId(movieId);
+        showtime.setTheater(theater);
+        showtime.setPrice(12.99);
+        showtime.setStartTime(LocalDateTime.now().plusDays(30));
+        showtime.setEndTime(LocalDateTime.now().plusDays(30).plusHours(2));
+        return showtime;
+    }
+}
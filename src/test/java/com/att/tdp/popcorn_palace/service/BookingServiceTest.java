@@ -1,23 +1,32 @@
 package com.att.tdp.popcorn_palace.service;
 
+import com.att.tdp.popcorn_palace.dto.BatchBookingDTO;
 import com.att.tdp.popcorn_palace.dto.BookingDTO;
+import com.att.tdp.popcorn_palace.index.SeatOccupancyIndex;
+import com.att.tdp.popcorn_palace.index.ShowtimeCache;
 import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.model.Theater;
 import com.att.tdp.popcorn_palace.repository.BookingRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.repository.TheaterRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,11 +38,21 @@ public class BookingServiceTest {
     @Mock
     private ShowtimeRepository showtimeRepository;
 
+    @Mock
+    private TheaterRepository theaterRepository;
+
     private BookingService bookingService;
 
     @BeforeEach
     void setup() {
-        bookingService = new BookingService(bookingRepository, showtimeRepository);
+        lenient().when(theaterRepository.findByName("Theater 1"))
+                .thenReturn(Optional.of(new Theater(1L, "Theater 1", 10, 20)));
+        bookingService = new BookingService(bookingRepository,
+                new ShowtimeCache(showtimeRepository, 100, Duration.ofMinutes(1)),
+                new SeatOccupancyIndex(bookingRepository, theaterRepository, showtimeRepository,
+                Duration.ofHours(1)),
+                new TransactionalBookingWriter(bookingRepository),
+                new TheaterService(theaterRepository, 10, 20, false));
     }
 
     @Test
@@ -43,8 +62,8 @@ public class BookingServiceTest {
         Booking booking = createBooking(UUID.randomUUID(), bookingDTO);
 
         when(showtimeRepository.findById(bookingDTO.getShowtimeId())).thenReturn(Optional.of(showtime));
-        when(bookingRepository.existsByShowtimeIdAndSeatNumber(bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber())).thenReturn(false);
-        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(bookingRepository.findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId())).thenReturn(List.of());
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenReturn(booking);
 
         Booking result = bookingService.createBooking(bookingDTO);
 
@@ -55,8 +74,8 @@ public class BookingServiceTest {
         assertEquals(bookingDTO.getUserId(), result.getUserId());
 
         verify(showtimeRepository).findById(bookingDTO.getShowtimeId());
-        verify(bookingRepository).existsByShowtimeIdAndSeatNumber(bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber());
-        verify(bookingRepository).save(any(Booking.class));
+        verify(bookingRepository).findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId());
+        verify(bookingRepository).saveAndFlush(any(Booking.class));
     }
 
     @Test
@@ -78,17 +97,199 @@ public class BookingServiceTest {
         Showtime showtime = createShowtime();
 
         when(showtimeRepository.findById(bookingDTO.getShowtimeId())).thenReturn(Optional.of(showtime));
-        when(bookingRepository.existsByShowtimeIdAndSeatNumber(bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber())).thenReturn(true);
+        when(bookingRepository.findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId())).thenReturn(List.of(bookingDTO.getSeatNumber()));
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> bookingService.createBooking(bookingDTO));
         assertEquals("Seat " + bookingDTO.getSeatNumber() + " is already booked for this showtime", exception.getMessage());
 
         verify(showtimeRepository).findById(bookingDTO.getShowtimeId());
-        verify(bookingRepository).existsByShowtimeIdAndSeatNumber(bookingDTO.getShowtimeId(), bookingDTO.getSeatNumber());
+        verify(bookingRepository).findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId());
         verifyNoMoreInteractions(bookingRepository);
     }
 
+    @Test
+    void createBooking_WithSeatBookedEarlier_ShouldRejectFromMemory() {
+        BookingDTO bookingDTO = createBookingDTO();
+        Showtime showtime = createShowtime();
+
+        when(showtimeRepository.findById(bookingDTO.getShowtimeId())).thenReturn(Optional.of(showtime));
+        when(bookingRepository.findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId())).thenReturn(List.of());
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenReturn(createBooking(UUID.randomUUID(), bookingDTO));
+
+        bookingService.createBooking(bookingDTO);
+        assertThrows(IllegalArgumentException.class, () -> bookingService.createBooking(bookingDTO));
+
+        verify(bookingRepository, times(1)).findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId());
+        verify(bookingRepository, times(1)).saveAndFlush(any(Booking.class));
+    }
+
+    @Test
+    void createBooking_WhenInsertFails_ShouldReleaseSeat() {
+        BookingDTO bookingDTO = createBookingDTO();
+        Showtime showtime = createShowtime();
+
+        when(showtimeRepository.findById(bookingDTO.getShowtimeId())).thenReturn(Optional.of(showtime));
+        when(bookingRepository.findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId())).thenReturn(List.of());
+        when(bookingRepository.saveAndFlush(any(Booking.class)))
+                .thenThrow(new RuntimeException("Connection reset"))
+                .thenReturn(createBooking(UUID.randomUUID(), bookingDTO));
+
+        assertThrows(RuntimeException.class, () -> bookingService.createBooking(bookingDTO));
+        assertNotNull(bookingService.createBooking(bookingDTO));
+
+        verify(bookingRepository, times(2)).saveAndFlush(any(Booking.class));
+    }
+
+    @Test
+    void createBooking_WhenUniqueIndexRejectsSeat_ShouldThrowAlreadyBookedAndReload() {
+        BookingDTO bookingDTO = createBookingDTO();
+        Showtime showtime = createShowtime();
+
+        when(showtimeRepository.findById(bookingDTO.getShowtimeId())).thenReturn(Optional.of(showtime));
+        when(bookingRepository.findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(bookingDTO.getSeatNumber()));
+        when(bookingRepository.saveAndFlush(any(Booking.class)))
+                .thenThrow(new DataIntegrityViolationException("ux_bookings_showtime_seat"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> bookingService.createBooking(bookingDTO));
+        assertEquals("Seat " + bookingDTO.getSeatNumber() + " is already booked for this showtime", exception.getMessage());
+
+        // The occupancy is reloaded, so the retry is rejected from memory
+        assertThrows(IllegalArgumentException.class, () -> bookingService.createBooking(bookingDTO));
+        verify(bookingRepository, times(2)).findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId());
+        verify(bookingRepository, times(1)).saveAndFlush(any(Booking.class));
+    }
+
+    @Test
+    void createBooking_WhenShowtimeDeletedBeforeInsert_ShouldThrowNotFoundAndReleaseSeat() {
+        BookingDTO bookingDTO = createBookingDTO();
+
+        when(showtimeRepository.findById(bookingDTO.getShowtimeId())).thenReturn(Optional.of(createShowtime()));
+        when(bookingRepository.findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId())).thenReturn(List.of());
+        when(bookingRepository.saveAndFlush(any(Booking.class)))
+                .thenThrow(new DataIntegrityViolationException("fk_bookings_showtime"))
+                .thenReturn(createBooking(UUID.randomUUID(), bookingDTO));
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> bookingService.createBooking(bookingDTO));
+        assertEquals("Showtime not found with ID: " + bookingDTO.getShowtimeId(), exception.getMessage());
+
+        // The claim was released rather than the occupancy reloaded, and the cached showtime dropped
+        assertNotNull(bookingService.createBooking(bookingDTO));
+        verify(bookingRepository, times(1)).findSeatNumbersByShowtimeId(bookingDTO.getShowtimeId());
+        verify(showtimeRepository, times(2)).findById(bookingDTO.getShowtimeId());
+    }
+
+    @Test
+    void createBookings_WhenShowtimeDeletedBeforeInsert_ShouldThrowNotFoundAndReleaseSeats() {
+        BatchBookingDTO batchBookingDTO = createBatchBookingDTO(List.of(4, 5));
+        when(showtimeRepository.findById(1L)).thenReturn(Optional.of(createShowtime()));
+        when(bookingRepository.findSeatNumbersByShowtimeId(1L)).thenReturn(List.of());
+        when(bookingRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("fk_bookings_showtime"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThrows(EntityNotFoundException.class, () -> bookingService.createBookings(batchBookingDTO));
+
+        assertEquals(2, bookingService.createBookings(batchBookingDTO).size());
+        verify(bookingRepository, times(1)).findSeatNumbersByShowtimeId(1L);
+    }
+
+    @Test
+    void createBooking_ForSameShowtime_ShouldReadShowtimeOnce() {
+        when(showtimeRepository.findById(1L)).thenReturn(Optional.of(createShowtime()));
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        for (int seatNumber = 1; seatNumber <= 3; seatNumber++) {
+            BookingDTO bookingDTO = createBookingDTO();
+            bookingDTO.setSeatNumber(seatNumber);
+            bookingService.createBooking(bookingDTO);
+        }
+
+        verify(showtimeRepository, times(1)).findById(1L);
+        verify(bookingRepository, times(3)).saveAndFlush(any(Booking.class));
+    }
+
+    @Test
+    void createBookings_WithFreeSeats_ShouldInsertAllInOneBatch() {
+        BatchBookingDTO batchBookingDTO = createBatchBookingDTO(List.of(4, 5, 6));
+        when(showtimeRepository.findById(1L)).thenReturn(Optional.of(createShowtime()));
+        when(bookingRepository.findSeatNumbersByShowtimeId(1L)).thenReturn(List.of(1));
+        when(bookingRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Booking> result = bookingService.createBookings(batchBookingDTO);
+
+        assertEquals(List.of(4, 5, 6), result.stream().map(Booking::getSeatNumber).toList());
+        verify(showtimeRepository, times(1)).findById(1L);
+        verify(bookingRepository, times(1)).saveAllAndFlush(anyList());
+        verify(bookingRepository, never()).saveAndFlush(any(Booking.class));
+    }
+
+    @Test
+    void createBookings_WithOneBookedSeat_ShouldBookNothing() {
+        when(showtimeRepository.findById(1L)).thenReturn(Optional.of(createShowtime()));
+        when(bookingRepository.findSeatNumbersByShowtimeId(1L)).thenReturn(List.of(5));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> bookingService.createBookings(createBatchBookingDTO(List.of(4, 5, 6))));
+        assertEquals("Seats [5] are already booked for this showtime", exception.getMessage());
+        verify(bookingRepository, never()).saveAllAndFlush(anyList());
+
+        // Seats 4 and 6 were not left claimed by the failed request
+        when(bookingRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        assertEquals(2, bookingService.createBookings(createBatchBookingDTO(List.of(4, 6))).size());
+    }
+
+    @Test
+    void createBookings_WithRepeatedSeat_ShouldThrowException() {
+        when(showtimeRepository.findById(1L)).thenReturn(Optional.of(createShowtime()));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> bookingService.createBookings(createBatchBookingDTO(List.of(4, 4))));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void createBookings_WithNonExistentShowtime_ShouldThrowException() {
+        when(showtimeRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class,
+                () -> bookingService.createBookings(createBatchBookingDTO(List.of(4))));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void createBooking_WithSeatBeyondCapacity_ShouldThrowException() {
+        BookingDTO bookingDTO = createBookingDTO();
+        bookingDTO.setSeatNumber(201);
+        when(showtimeRepository.findById(bookingDTO.getShowtimeId())).thenReturn(Optional.of(createShowtime()));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> bookingService.createBooking(bookingDTO));
+        assertEquals("Seat 201 does not exist in Theater 1, which has 200 seats", exception.getMessage());
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void createBookings_WithSeatBeyondCapacity_ShouldBookNothing() {
+        when(showtimeRepository.findById(1L)).thenReturn(Optional.of(createShowtime()));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> bookingService.createBookings(createBatchBookingDTO(List.of(199, 200, 201))));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    private BatchBookingDTO createBatchBookingDTO(List<Integer> seatNumbers) {
+        BatchBookingDTO dto = new BatchBookingDTO();
+        dto.setShowtimeId(1L);
+        dto.setSeatNumbers(seatNumbers);
+        dto.setUserId("user123");
+        return dto;
+    }
+
     private BookingDTO createBookingDTO() {
         BookingDTO dto = new BookingDTO();
         dto.setShowtimeId(1L);
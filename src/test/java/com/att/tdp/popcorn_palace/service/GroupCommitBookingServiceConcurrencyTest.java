@@ -0,0 +1,13 @@
+package com.att.tdp.popcorn_palace.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// A separate database, since this context runs the seed scripts again
+@SpringBootTest(properties = {
+        "popcorn-palace.bookings.group-commit.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:group-commit;MODE=PostgreSQL;DB_CLOSE_ON_EXIT=FALSE"
+})
+@DisplayName("Booking Service Concurrency Tests With Group Commit")
+class GroupCommitBookingServiceConcurrencyTest extends BookingServiceConcurrencyTest {
+}
@@ -0,0 +1,227 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.config.GroupCommitProperties;
+import com.att.tdp.popcorn_palace.exceptions.ServiceUnavailableException;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Group Commit Booking Writer Tests")
+class GroupCommitBookingWriterTest {
+
+    private static final int WRITERS = 20;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GroupCommitProperties properties;
+    private GroupCommitBookingWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        properties = new GroupCommitProperties();
+        properties.setMaxBatchSize(10);
+        properties.setLinger(Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new GroupCommitBookingWriter(bookingRepository, transactionManager, properties, meterRegistry);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("Should commit concurrent bookings together in batches")
+    void shouldCommitConcurrentBookingsInBatches() throws Exception {
+        when(bookingRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Booking> bookings = invocation.getArgument(0);
+            bookings.forEach(booking -> booking.setId(UUID.randomUUID()));
+            return bookings;
+        });
+
+        List<Booking> results = writeConcurrently();
+
+        assertThat(results).hasSize(WRITERS).allMatch(booking -> booking.getId() != null);
+        verify(bookingRepository, atMost(WRITERS / 2)).saveAllAndFlush(anyList());
+        assertThat(meterRegistry.get("bookings.group_commit.batch_fill_ratio").summary().count()).isLessThan(WRITERS);
+        assertThat(meterRegistry.get("bookings.group_commit.commit_latency").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should fail only the conflicting booking when a batch fails")
+    void shouldIsolateConflictingBooking() {
+        when(bookingRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("ux_bookings_showtime_seat"));
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            if (booking.getSeatNumber() == 13) {
+                throw new DataIntegrityViolationException("ux_bookings_showtime_seat");
+            }
+            return booking;
+        });
+
+        assertThat(writer.write(createBooking(12)).getSeatNumber()).isEqualTo(12);
+        assertThatThrownBy(() -> writer.write(createBooking(13)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(meterRegistry.get("bookings.group_commit.fallback_batches").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should never commit a booking whose caller timed out while it was queued")
+    void shouldSkipAbandonedBooking() throws Exception {
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch releaseBatch = new CountDownLatch(1);
+        List<Integer> committedSeats = new CopyOnWriteArrayList<>();
+        when(bookingRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Booking> bookings = invocation.getArgument(0);
+            batchStarted.countDown();
+            releaseBatch.await(5, TimeUnit.SECONDS);
+            bookings.forEach(booking -> committedSeats.add(booking.getSeatNumber()));
+            return bookings;
+        });
+        restartWriter(Duration.ofMillis(200), 100);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Booking> taken = executor.submit(() -> writer.write(createBooking(1)));
+            assertThat(batchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> writer.write(createBooking(2)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Timed out waiting for the booking to commit");
+            releaseBatch.countDown();
+
+            assertThat(taken.get(5, TimeUnit.SECONDS).getSeatNumber()).isEqualTo(1);
+            assertThat(writer.write(createBooking(3)).getSeatNumber()).isEqualTo(3);
+            assertThat(committedSeats).containsExactly(1, 3);
+            assertThat(meterRegistry.get("bookings.group_commit.abandoned").counter().count()).isEqualTo(1);
+        } finally {
+            releaseBatch.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for a stalled batch and report the booking as unavailable")
+    void shouldRejectAsUnavailable_WhenTakenBatchStalls() throws Exception {
+        CountDownLatch releaseBatch = new CountDownLatch(1);
+        when(bookingRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            releaseBatch.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        properties.setInFlightTimeout(Duration.ofMillis(200));
+        restartWriter(Duration.ofMillis(100), 100);
+        try {
+            long start = System.nanoTime();
+
+            assertThatThrownBy(() -> writer.write(createBooking(1)))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasMessage("Booking is still being committed, please retry");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+            assertThat(meterRegistry.get("bookings.group_commit.abandoned").counter().count()).isZero();
+        } finally {
+            releaseBatch.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a booking as unavailable when the queue is full")
+    void shouldRejectAsUnavailable_WhenQueueFull() throws Exception {
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch releaseBatch = new CountDownLatch(1);
+        when(bookingRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            batchStarted.countDown();
+            releaseBatch.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        restartWriter(Duration.ofSeconds(5), 1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> writer.write(createBooking(1)));
+            assertThat(batchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            executor.submit(() -> writer.write(createBooking(2)));
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (meterRegistry.get("bookings.group_commit.queue_size").gauge().value() < 1
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThatThrownBy(() -> writer.write(createBooking(3)))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasMessage("Booking queue is full, please retry");
+        } finally {
+            releaseBatch.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private void restartWriter(Duration commitTimeout, int queueCapacity) throws InterruptedException {
+        writer.stop();
+        properties.setCommitTimeout(commitTimeout);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setLinger(Duration.ofMillis(1));
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new GroupCommitBookingWriter(bookingRepository, transactionManager, properties, meterRegistry);
+        writer.start();
+    }
+
+    private List<Booking> writeConcurrently() throws Exception {
+        List<Callable<Booking>> writes = new ArrayList<>();
+        for (int i = 1; i <= WRITERS; i++) {
+            int seatNumber = i;
+            writes.add(() -> writer.write(createBooking(seatNumber)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Booking> results = new ArrayList<>();
+            for (Future<Booking> result : executor.invokeAll(writes)) {
+                results.add(result.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Booking createBooking(int seatNumber) {
+        return new Booking(null, 1L, seatNumber, "user" + seatNumber);
+    }
+}
@@ -1,20 +1,37 @@
 package com.att.tdp.popcorn_palace.service;
 
 import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.dto.MovieListingDTO;
+import com.att.tdp.popcorn_palace.dto.MovieSearchDTO;
+import com.att.tdp.popcorn_palace.exceptions.ConflictException;
+import com.att.tdp.popcorn_palace.index.MovieCatalogIndex;
+import com.att.tdp.popcorn_palace.index.MovieFacetCounters;
+import com.att.tdp.popcorn_palace.util.KeysetCursor;
+import com.att.tdp.popcorn_palace.model.DeletionProgress;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.MoviePage;
+import com.att.tdp.popcorn_palace.repository.CascadeDeleteRepository;
+import com.att.tdp.popcorn_palace.repository.MovieCursorRepository;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,9 +40,29 @@ public class MovieServiceTest {
     @Mock
     private MovieRepository movieRepository;
 
-    @InjectMocks
+    @Mock
+    private ShowtimeService showtimeService;
+
+    @Mock
+    private CascadeDeleteRepository cascadeDeleteRepository;
+
+    @Mock
+    private MovieCursorRepository movieCursorRepository;
+
+    private MovieCatalogIndex movieCatalogIndex;
+
+    private MovieFacetCounters movieFacetCounters;
+
     private MovieService movieService;
 
+    @BeforeEach
+    void setUp() {
+        movieCatalogIndex = new MovieCatalogIndex(movieRepository, new ObjectMapper());
+        movieFacetCounters = new MovieFacetCounters(movieRepository);
+        movieService = new MovieService(movieRepository, movieCatalogIndex, movieFacetCounters,
+                showtimeService, cascadeDeleteRepository, movieCursorRepository, 2);
+    }
+
     @Test
     void createMovie_WhenTitleDoesNotExist_ShouldCreateMovie() {
         MovieDTO movieDTO = new MovieDTO();
@@ -35,7 +72,6 @@ public class MovieServiceTest {
         movieDTO.setRating(8.5);
         movieDTO.setReleaseYear(2024);
 
-        when(movieRepository.existsByTitle(anyString())).thenReturn(false);
         when(movieRepository.save(any(Movie.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Movie result = movieService.createMovie(movieDTO);
@@ -53,7 +89,7 @@ public class MovieServiceTest {
     void createMovie_WhenTitleExists_ShouldThrowException() {
         MovieDTO movieDTO = new MovieDTO();
         movieDTO.setTitle("Existing Movie");
-        when(movieRepository.existsByTitle(anyString())).thenReturn(true);
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie")));
 
         assertThatThrownBy(() -> movieService.createMovie(movieDTO))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -71,15 +107,7 @@ public class MovieServiceTest {
         movieDTO.setRating(9.0);
         movieDTO.setReleaseYear(2025);
 
-        Movie existingMovie = new Movie();
-        existingMovie.setTitle(title);
-        existingMovie.setGenre("Old Genre");
-        existingMovie.setDuration(120);
-        existingMovie.setRating(8.0);
-        existingMovie.setReleaseYear(2020);
-
-        when(movieRepository.findByTitle(title)).thenReturn(Optional.of(existingMovie));
-        when(movieRepository.save(any(Movie.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(movieRepository.updateByTitle(title, title, "Updated Genre", 150, 9.0, 2025)).thenReturn(1);
 
         Movie result = movieService.updateMovie(title, movieDTO);
 
@@ -89,18 +117,245 @@ public class MovieServiceTest {
         assertThat(result.getDuration()).isEqualTo(movieDTO.getDuration());
         assertThat(result.getRating()).isEqualTo(movieDTO.getRating());
         assertThat(result.getReleaseYear()).isEqualTo(movieDTO.getReleaseYear());
-        verify(movieRepository).save(any(Movie.class));
+        verify(movieRepository, never()).findByTitle(anyString());
+        verify(movieRepository, never()).save(any(Movie.class));
     }
 
     @Test
     void updateMovie_WhenMovieDoesNotExist_ShouldThrowException() {
         String title = "Non-existent Movie";
         MovieDTO movieDTO = new MovieDTO();
-        when(movieRepository.findByTitle(title)).thenReturn(Optional.empty());
+        when(movieRepository.updateByTitle(eq(title), any(), any(), anyInt(), any(), anyInt())).thenReturn(0);
 
         assertThatThrownBy(() -> movieService.updateMovie(title, movieDTO))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("Movie not found with title: " + title);
         verify(movieRepository, never()).save(any(Movie.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void updateMovie_WhenNewTitleIsTaken_ShouldThrowException() {
+        when(movieRepository.updateByTitle(eq("Existing Movie"), eq("Other"), any(), anyInt(), any(), anyInt()))
+                .thenThrow(new DataIntegrityViolationException("movies_title_unique"));
+
+        assertThatThrownBy(() -> movieService.updateMovie("Existing Movie", createMovieDTO("Other")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A movie with this title already exists");
+    }
+
+    @Test
+    void updateMovie_WhenRenamed_ShouldRekeyCatalogKeepingId() {
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie")));
+        when(movieRepository.updateByTitle(eq("Existing Movie"), eq("Renamed"), any(), anyInt(), any(), anyInt()))
+                .thenReturn(1);
+
+        movieService.updateMovie("Existing Movie", createMovieDTO("Renamed"));
+
+        assertThat(movieCatalogIndex.containsTitle("Existing Movie")).isFalse();
+        assertThat(movieService.getMovieByTitle("Renamed").getId()).isEqualTo(1L);
+        verify(movieRepository, never()).findByTitle(anyString());
+    }
+
+    @Test
+    void importMovies_WhenTitlesRepeat_ShouldSkipExistingAndDuplicateTitles() {
+        MovieDTO existing = createMovieDTO("Existing Movie");
+        MovieDTO fresh = createMovieDTO("New Movie");
+        MovieDTO repeated = createMovieDTO("New Movie");
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie")));
+
+        Map<Integer, String> rejected = movieService.importMovies(List.of(existing, fresh, repeated));
+
+        assertThat(rejected).containsOnlyKeys(0, 2);
+        assertThat(rejected.get(0)).isEqualTo("A movie with this title already exists");
+        verify(movieRepository, never()).findExistingTitles(anyCollection());
+        verify(movieRepository).saveAll(argThat(movies -> movies instanceof List<?> list && list.size() == 1));
+        verify(movieRepository, never()).existsByTitle(anyString());
+    }
+
+    @Test
+    void createMovie_WhenTitleTakenOutsideCatalog_ShouldThrowException() {
+        when(movieRepository.save(any(Movie.class)))
+                .thenThrow(new DataIntegrityViolationException("movies_title_unique"));
+
+        assertThatThrownBy(() -> movieService.createMovie(createMovieDTO("Other Instance Movie")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A movie with this title already exists");
+    }
+
+    @Test
+    void getMovieByTitle_WhenInCatalog_ShouldNotQueryByTitle() {
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie")));
+
+        Movie result = movieService.getMovieByTitle("Existing Movie");
+
+        assertThat(result.getId()).isEqualTo(1L);
+        verify(movieRepository, never()).findByTitle(anyString());
+    }
+
+    @Test
+    void deleteMovie_WhenMovieExists_ShouldDeleteAndDropFromCatalog() {
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie")));
+        when(showtimeService.deleteShowtimesOfMovie(1L, 2)).thenReturn(DeletionProgress.progress(0, 0));
+        when(cascadeDeleteRepository.deleteMovie(1L)).thenReturn(1);
+
+        movieService.deleteMovie("Existing Movie");
+
+        verify(cascadeDeleteRepository).deleteMovie(1L);
+        verify(movieRepository, never()).deleteByTitle(anyString());
+        verify(movieRepository, never()).existsByTitle(anyString());
+        when(movieRepository.findByTitle("Existing Movie")).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> movieService.getMovieByTitle("Existing Movie"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void deleteMovie_WithManyShowtimes_ShouldDeleteInChunksAndReportProgress() {
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie")));
+        when(showtimeService.deleteShowtimesOfMovie(1L, 2))
+                .thenReturn(DeletionProgress.progress(2, 5))
+                .thenReturn(DeletionProgress.progress(2, 3))
+                .thenReturn(DeletionProgress.progress(1, 0));
+        when(cascadeDeleteRepository.deleteMovie(1L)).thenReturn(1);
+        List<DeletionProgress> reported = new ArrayList<>();
+
+        DeletionProgress summary = movieService.deleteMovie("Existing Movie", reported::add);
+
+        assertThat(reported).extracting(DeletionProgress::getShowtimes).containsExactly(2L, 4L, 5L);
+        assertThat(summary.getType()).isEqualTo(DeletionProgress.SUMMARY);
+        assertThat(summary.getShowtimes()).isEqualTo(5);
+        assertThat(summary.getBookings()).isEqualTo(8);
+        assertThat(summary.getMovies()).isEqualTo(1);
+        verify(showtimeService, times(3)).deleteShowtimesOfMovie(1L, 2);
+    }
+
+    @Test
+    void deleteMovie_WhenShowtimeScheduledMeanwhile_ShouldDrainAgain() {
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie")));
+        when(showtimeService.deleteShowtimesOfMovie(1L, 2))
+                .thenReturn(DeletionProgress.progress(0, 0))
+                .thenReturn(DeletionProgress.progress(1, 0));
+        when(cascadeDeleteRepository.deleteMovie(1L))
+                .thenThrow(new DataIntegrityViolationException("showtimes_movie_fk"))
+                .thenReturn(1);
+
+        DeletionProgress summary = movieService.deleteMovie("Existing Movie", progress -> { });
+
+        assertThat(summary.getShowtimes()).isEqualTo(1);
+        verify(cascadeDeleteRepository, times(2)).deleteMovie(1L);
+    }
+
+    @Test
+    void deleteMovie_WhenStillScheduledAfterRetries_ShouldThrowConflict() {
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie")));
+        when(showtimeService.deleteShowtimesOfMovie(1L, 2)).thenReturn(DeletionProgress.progress(0, 0));
+        when(cascadeDeleteRepository.deleteMovie(1L)).thenThrow(new DataIntegrityViolationException("showtimes_movie_fk"));
+
+        assertThatThrownBy(() -> movieService.deleteMovie("Existing Movie", progress -> { }))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("Movie is still being scheduled, try deleting it again");
+        verify(cascadeDeleteRepository, times(3)).deleteMovie(1L);
+    }
+
+    @Test
+    void getMoviePage_WhenMoreMoviesFollow_ShouldReturnCursorOfLastTitle() {
+        MovieListingDTO listing = new MovieListingDTO();
+        listing.setLimit(2);
+        when(movieRepository.findAllByOrderByTitle(Limit.of(3))).thenReturn(List.of(
+                createMovie(1L, "Alien"), createMovie(2L, "Heat"), createMovie(3L, "Up")));
+
+        MoviePage page = movieService.getMoviePage(listing);
+
+        assertThat(page.getMovies()).extracting(Movie::getTitle).containsExactly("Alien", "Heat");
+        assertThat(page.getNextCursor()).isEqualTo(KeysetCursor.encode("Heat"));
+    }
+
+    @Test
+    void getMoviePage_WithCursor_ShouldContinueAfterItsTitle() {
+        MovieListingDTO listing = new MovieListingDTO();
+        listing.setCursor(KeysetCursor.encode("Heat|The Sequel"));
+        when(movieRepository.findByTitleGreaterThanOrderByTitle("Heat|The Sequel", Limit.of(MovieListingDTO.DEFAULT_LIMIT + 1)))
+                .thenReturn(List.of(createMovie(3L, "Up")));
+
+        MoviePage page = movieService.getMoviePage(listing);
+
+        assertThat(page.getMovies()).extracting(Movie::getTitle).containsExactly("Up");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getMoviePage_WithInvalidCursor_ShouldThrowException() {
+        MovieListingDTO listing = new MovieListingDTO();
+        listing.setCursor("not a cursor!");
+
+        assertThatThrownBy(() -> movieService.getMoviePage(listing))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        verify(movieRepository, never()).findAllByOrderByTitle(any());
+        verify(movieRepository, never()).findByTitleGreaterThanOrderByTitle(any(), any());
+    }
+
+    @Test
+    void getFacets_AfterCreateUpdateAndDelete_ShouldTrackCounts() {
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie")));
+        when(movieRepository.countByGenre()).thenReturn(List.<Object[]>of(new Object[]{"Action", 1L}));
+        when(movieRepository.countByReleaseYear()).thenReturn(List.<Object[]>of(new Object[]{2024, 1L}));
+        movieFacetCounters.load();
+        when(movieRepository.save(any(Movie.class))).thenAnswer(invocation -> {
+            Movie movie = invocation.getArgument(0);
+            movie.setId(2L);
+            return movie;
+        });
+        when(movieRepository.updateByTitle(eq("Existing Movie"), any(), any(), anyInt(), any(), anyInt())).thenReturn(1);
+        when(showtimeService.deleteShowtimesOfMovie(2L, 2)).thenReturn(DeletionProgress.progress(0, 0));
+        when(cascadeDeleteRepository.deleteMovie(2L)).thenReturn(1);
+
+        MovieDTO drama = createMovieDTO("New Movie");
+        drama.setGenre("Drama");
+        movieService.createMovie(drama);
+        MovieDTO renamed = createMovieDTO("Existing Movie");
+        renamed.setGenre("Comedy");
+        renamed.setReleaseYear(1999);
+        movieService.updateMovie("Existing Movie", renamed);
+
+        assertThat(movieService.getFacets().getGenres()).containsExactly(Map.entry("Comedy", 1L), Map.entry("Drama", 1L));
+        assertThat(movieService.getFacets().getReleaseYears()).containsExactly(Map.entry(1999, 1L), Map.entry(2024, 1L));
+
+        movieService.deleteMovie("New Movie");
+
+        assertThat(movieService.getFacets().getGenres()).containsExactly(Map.entry("Comedy", 1L));
+        assertThat(movieService.getFacets().getReleaseYears()).containsExactly(Map.entry(1999, 1L));
+    }
+
+    @Test
+    void searchMovies_ShouldSearchCatalogInMemory() {
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie"), createMovie(2L, "Other")));
+        MovieSearchDTO search = new MovieSearchDTO();
+        search.setQ("exist");
+
+        assertThat(movieService.searchMovies(search)).extracting(Movie::getTitle).containsExactly("Existing Movie");
+        verify(movieRepository, times(1)).findAll();
+        verifyNoMoreInteractions(movieRepository);
+    }
+
+    @Test
+    void getCatalog_WhenUnchanged_ShouldServeSameSerializedCatalog() {
+        when(movieRepository.findAll()).thenReturn(List.of(createMovie(1L, "Existing Movie")));
+
+        assertThat(movieService.getCatalog()).isSameAs(movieService.getCatalog());
+        verify(movieRepository, times(1)).findAll();
+    }
+
+    private Movie createMovie(Long id, String title) {
+        return new Movie(id, title, "Action", 120, 8.5, 2024);
+    }
+
+    private MovieDTO createMovieDTO(String title) {
+        MovieDTO movieDTO = new MovieDTO();
+        movieDTO.setTitle(title);
+        movieDTO.setGenre("Action");
+        movieDTO.setDuration(120);
+        movieDTO.setRating(8.5);
+        movieDTO.setReleaseYear(2024);
+        return movieDTO;
+    }
+}
@@ -0,0 +1,118 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.dto.MovieDTO;
+import com.att.tdp.popcorn_palace.index.MovieCatalogIndex;
+import com.att.tdp.popcorn_palace.index.MovieFacetCounters;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Counts the SQL statements {@link MovieService} issues for creates and updates against the
+ * real schema, so they stay at one statement each.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Movie Statement Count Tests")
+class MovieStatementCountTest {
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MovieService movieService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        MovieCatalogIndex movieCatalogIndex = new MovieCatalogIndex(movieRepository, new ObjectMapper());
+        movieCatalogIndex.load();
+        movieService = new MovieService(movieRepository, movieCatalogIndex, new MovieFacetCounters(movieRepository),
+                mock(ShowtimeService.class),
+                null, null, 500);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should create a movie with a single INSERT")
+    void shouldCreateWithOneStatement() {
+        movieService.createMovie(createMovieDTO("Alien"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(countByTitle("Alien")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a title taken outside the catalog with a single statement")
+    void shouldRejectDuplicate_FromUniqueConstraint() {
+        jdbcTemplate.update("INSERT INTO movies (title, genre, duration, rating, release_year) "
+                + "VALUES ('Heat', 'Crime', 170, 8.3, 1995)");
+        statistics.clear();
+
+        assertThatThrownBy(() -> movieService.createMovie(createMovieDTO("Heat")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A movie with this title already exists");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should update a movie with a single UPDATE")
+    void shouldUpdateWithOneStatement() {
+        movieService.updateMovie("Inception", createMovieDTO("Inception"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT genre FROM movies WHERE title = 'Inception'", String.class))
+                .isEqualTo("Horror");
+    }
+
+    @Test
+    @DisplayName("Should report an unknown title from the row count")
+    void shouldRejectUnknownTitle_FromRowCount() {
+        assertThatThrownBy(() -> movieService.updateMovie("Unknown", createMovieDTO("Unknown")))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a rename to a taken title from the unique constraint")
+    void shouldRejectRename_WhenTitleTaken() {
+        assertThatThrownBy(() -> movieService.updateMovie("Inception", createMovieDTO("Interstellar")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A movie with this title already exists");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(countByTitle("Inception")).isEqualTo(1);
+    }
+
+    private int countByTitle(String title) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movies WHERE title = ?", Integer.class, title);
+    }
+
+    private static MovieDTO createMovieDTO(String title) {
+        MovieDTO movieDTO = new MovieDTO();
+        movieDTO.setTitle(title);
+        movieDTO.setGenre("Horror");
+        movieDTO.setDuration(117);
+        movieDTO.setRating(8.5);
+        movieDTO.setReleaseYear(1979);
+        return movieDTO;
+    }
+}
@@ -0,0 +1,312 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.dto.SeatHoldDTO;
+import com.att.tdp.popcorn_palace.index.SeatOccupancyIndex;
+import com.att.tdp.popcorn_palace.index.ShowtimeCache;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.SeatHold;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.model.Theater;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.repository.TheaterRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Seat Hold Service Tests")
+class SeatHoldServiceTest {
+
+    private static final Long SHOWTIME_ID = 1L;
+    private static final int SEAT_NUMBER = 5;
+    private static final Duration TTL = Duration.ofMillis(200);
+    private static final int MAX_HOLDS_PER_USER = 2;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    @Mock
+    private TheaterRepository theaterRepository;
+
+    private SeatOccupancyIndex seatOccupancyIndex;
+    private SeatHoldService seatHoldService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(theaterRepository.findByName("Theater 1"))
+                .thenReturn(Optional.of(new Theater(1L, "Theater 1", 10, 20)));
+        seatOccupancyIndex = new SeatOccupancyIndex(bookingRepository, theaterRepository, showtimeRepository,
+                Duration.ofHours(1));
+        seatHoldService = new SeatHoldService(bookingRepository,
+                new ShowtimeCache(showtimeRepository, 100, Duration.ofMinutes(1)), seatOccupancyIndex,
+                new TheaterService(theaterRepository, 10, 20, false), TTL, MAX_HOLDS_PER_USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatHoldService.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Create Hold Tests")
+    class CreateHoldTests {
+
+        @Test
+        @DisplayName("Should hold a free seat without writing to the database")
+        void shouldHoldFreeSeat() {
+            givenShowtimeWithBookedSeats(List.of());
+
+            SeatHold hold = seatHoldService.createHold(createSeatHoldDTO());
+
+            assertThat(hold.getId()).isNotNull();
+            assertThat(hold.getSeatNumber()).isEqualTo(SEAT_NUMBER);
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER)).isTrue();
+            verify(bookingRepository, never()).saveAndFlush(any(Booking.class));
+        }
+
+        @Test
+        @DisplayName("Should reject holding a seat that is already held")
+        void shouldRejectHeldSeat() {
+            givenShowtimeWithBookedSeats(List.of());
+            seatHoldService.createHold(createSeatHoldDTO());
+
+            assertThatThrownBy(() -> seatHoldService.createHold(createSeatHoldDTO()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Seat " + SEAT_NUMBER + " is already booked for this showtime");
+        }
+
+        @Test
+        @DisplayName("Should free the seat when the hold expires")
+        void shouldFreeSeat_WhenHoldExpires() throws InterruptedException {
+            givenShowtimeWithBookedSeats(List.of());
+            SeatHold hold = seatHoldService.createHold(createSeatHoldDTO());
+
+            long deadline = System.currentTimeMillis() + 2_000;
+            while (seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER)).isFalse();
+            assertThat(seatHoldService.activeHoldCount()).isZero();
+            assertThatThrownBy(() -> seatHoldService.confirmHold(hold.getId(), "user123"))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject holds beyond the per-user limit until one is released")
+        void shouldRejectHold_WhenUserLimitReached() {
+            givenShowtimeWithBookedSeats(List.of());
+            SeatHold first = seatHoldService.createHold(createSeatHoldDTO(1));
+            seatHoldService.createHold(createSeatHoldDTO(2));
+
+            assertThatThrownBy(() -> seatHoldService.createHold(createSeatHoldDTO(3)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("User user123 cannot hold more than " + MAX_HOLDS_PER_USER + " seats");
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, 3)).isFalse();
+
+            seatHoldService.releaseHold(first.getId(), "user123");
+
+            assertThat(seatHoldService.createHold(createSeatHoldDTO(3)).getSeatNumber()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should not count a rejected hold against the user limit")
+        void shouldNotCountRejectedHold() {
+            givenShowtimeWithBookedSeats(List.of());
+            seatHoldService.createHold(createSeatHoldDTO(1));
+
+            assertThatThrownBy(() -> seatHoldService.createHold(createSeatHoldDTO(1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            assertThat(seatHoldService.createHold(createSeatHoldDTO(2)).getSeatNumber()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Confirm And Release Tests")
+    class ConfirmAndReleaseTests {
+
+        @Test
+        @DisplayName("Should turn a hold into a booking and keep the seat after expiry time")
+        void shouldConfirmHold() throws InterruptedException {
+            givenShowtimeWithBookedSeats(List.of());
+            when(bookingRepository.saveAndFlush(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            SeatHold hold = seatHoldService.createHold(createSeatHoldDTO());
+
+            Booking booking = seatHoldService.confirmHold(hold.getId(), "user123");
+            Thread.sleep(TTL.toMillis() * 2);
+
+            assertThat(booking.getSeatNumber()).isEqualTo(SEAT_NUMBER);
+            assertThat(booking.getUserId()).isEqualTo("user123");
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER)).isTrue();
+            assertThatThrownBy(() -> seatHoldService.confirmHold(hold.getId(), "user123"))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage("Seat hold not found with ID: " + hold.getId());
+        }
+
+        @Test
+        @DisplayName("Should keep the hold when the insert fails transiently")
+        void shouldKeepHold_WhenInsertFails() {
+            givenShowtimeWithBookedSeats(List.of());
+            when(bookingRepository.saveAndFlush(any(Booking.class)))
+                    .thenThrow(new QueryTimeoutException("timeout"))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            SeatHold hold = seatHoldService.createHold(createSeatHoldDTO());
+
+            assertThatThrownBy(() -> seatHoldService.confirmHold(hold.getId(), "user123"))
+                    .isInstanceOf(QueryTimeoutException.class);
+            assertThat(seatHoldService.activeHoldCount()).isEqualTo(1);
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER)).isTrue();
+
+            Booking booking = seatHoldService.confirmHold(hold.getId(), "user123");
+
+            assertThat(booking.getSeatNumber()).isEqualTo(SEAT_NUMBER);
+            assertThat(seatHoldService.activeHoldCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should report the seat as booked when the unique seat index rejects it")
+        void shouldRejectConfirm_WhenSeatBookedElsewhere() {
+            givenShowtimeWithBookedSeats(List.of());
+            SeatHold hold = seatHoldService.createHold(createSeatHoldDTO());
+            when(bookingRepository.saveAndFlush(any(Booking.class)))
+                    .thenThrow(new DataIntegrityViolationException(Booking.SEAT_CONSTRAINT));
+            when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(List.of(SEAT_NUMBER));
+
+            assertThatThrownBy(() -> seatHoldService.confirmHold(hold.getId(), "user123"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Seat " + SEAT_NUMBER + " is already booked for this showtime");
+            assertThat(seatHoldService.activeHoldCount()).isZero();
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should report the showtime as missing when another constraint rejects the booking")
+        void shouldRejectConfirm_WhenShowtimeDeleted() {
+            givenShowtimeWithBookedSeats(List.of());
+            SeatHold hold = seatHoldService.createHold(createSeatHoldDTO());
+            when(bookingRepository.saveAndFlush(any(Booking.class)))
+                    .thenThrow(new DataIntegrityViolationException("fk_bookings_showtime"));
+
+            assertThatThrownBy(() -> seatHoldService.confirmHold(hold.getId(), "user123"))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage("Showtime not found with ID: " + SHOWTIME_ID);
+            assertThat(seatHoldService.activeHoldCount()).isZero();
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should drop the holds of a deleted showtime")
+        void shouldDropHolds_WhenShowtimeDeleted() {
+            givenShowtimeWithBookedSeats(List.of());
+            SeatHold hold = seatHoldService.createHold(createSeatHoldDTO());
+
+            seatHoldService.releaseHoldsOf(SHOWTIME_ID);
+
+            assertThat(seatHoldService.activeHoldCount()).isZero();
+            assertThatThrownBy(() -> seatHoldService.confirmHold(hold.getId(), "user123"))
+                    .isInstanceOf(EntityNotFoundException.class);
+            verify(bookingRepository, never()).saveAndFlush(any(Booking.class));
+        }
+
+        @Test
+        @DisplayName("Should free the seat when the hold is released")
+        void shouldReleaseHold() {
+            givenShowtimeWithBookedSeats(List.of());
+            SeatHold hold = seatHoldService.createHold(createSeatHoldDTO());
+
+            seatHoldService.releaseHold(hold.getId(), "user123");
+
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should keep the seat held when the occupancy bitmap is reloaded")
+        void shouldKeepHold_WhenBitmapReloaded() {
+            givenShowtimeWithBookedSeats(List.of());
+            SeatHold hold = seatHoldService.createHold(createSeatHoldDTO());
+
+            seatOccupancyIndex.evict(SHOWTIME_ID);
+
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER)).isTrue();
+            assertThatThrownBy(() -> seatHoldService.createHold(createSeatHoldDTO()))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            seatHoldService.releaseHold(hold.getId(), "user123");
+            seatOccupancyIndex.evict(SHOWTIME_ID);
+
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should not let another user confirm or release a hold")
+        void shouldRejectOtherUser() {
+            givenShowtimeWithBookedSeats(List.of());
+            SeatHold hold = seatHoldService.createHold(createSeatHoldDTO());
+
+            assertThatThrownBy(() -> seatHoldService.confirmHold(hold.getId(), "intruder"))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage("Seat hold not found with ID: " + hold.getId());
+            assertThatThrownBy(() -> seatHoldService.releaseHold(hold.getId(), "intruder"))
+                    .isInstanceOf(EntityNotFoundException.class);
+            assertThatThrownBy(() -> seatHoldService.releaseHold(hold.getId(), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("User ID is required");
+
+            assertThat(seatHoldService.activeHoldCount()).isEqualTo(1);
+            assertThat(seatOccupancyIndex.isOccupied(SHOWTIME_ID, SEAT_NUMBER)).isTrue();
+            verify(bookingRepository, never()).saveAndFlush(any(Booking.class));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when the hold does not exist")
+        void shouldThrowException_WhenHoldDoesNotExist() {
+            UUID holdId = UUID.randomUUID();
+            assertThatThrownBy(() -> seatHoldService.releaseHold(holdId, "user123"))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage("Seat hold not found with ID: " + holdId);
+        }
+    }
+
+    private void givenShowtimeWithBookedSeats(List<Integer> seats) {
+        Showtime showtime = new Showtime();
+        showtime.setId(SHOWTIME_ID);
+        showtime.setTheater("Theater 1");
+        when(showtimeRepository.findById(SHOWTIME_ID)).thenReturn(Optional.of(showtime));
+        when(bookingRepository.findSeatNumbersByShowtimeId(SHOWTIME_ID)).thenReturn(seats);
+    }
+
+    private SeatHoldDTO createSeatHoldDTO() {
+        return createSeatHoldDTO(SEAT_NUMBER);
+    }
+
+    private SeatHoldDTO createSeatHoldDTO(int seatNumber) {
+        SeatHoldDTO dto = new SeatHoldDTO();
+        dto.setShowtimeId(SHOWTIME_ID);
+        dto.setSeatNumber(seatNumber);
+        dto.setUserId("user123");
+        return dto;
+    }
+}
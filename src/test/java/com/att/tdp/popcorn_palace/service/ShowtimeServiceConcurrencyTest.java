@@ -0,0 +1,153 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.dto.BulkShowtimeDTO;
+import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.att.tdp.popcorn_palace.dto.TheaterDTO;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("Showtime Service Concurrency Tests")
+class ShowtimeServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int WRITES_PER_THREAD = 25;
+    private static final int SLOTS = 48;
+
+    @Autowired
+    private ShowtimeService showtimeService;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private TheaterService theaterService;
+
+    private Long movieId;
+    private List<String> theaters;
+    private LocalDateTime dayStart;
+
+    @BeforeEach
+    void setUp() {
+        Movie movie = new Movie();
+        movie.setTitle("Scheduling " + UUID.randomUUID());
+        movie.setGenre("Drama");
+        movie.setDuration(120);
+        movie.setRating(7.5);
+        movie.setReleaseYear(2020);
+        movieId = movieRepository.save(movie).getId();
+        theaters = List.of("Stress A " + UUID.randomUUID(), "Stress B " + UUID.randomUUID());
+        for (String theater : theaters) {
+            TheaterDTO theaterDTO = new TheaterDTO();
+            theaterDTO.setName(theater);
+            theaterDTO.setRows(10);
+            theaterDTO.setSeatsPerRow(20);
+            theaterService.createTheater(theaterDTO);
+        }
+        dayStart = LocalDateTime.now().plusDays(60).truncatedTo(ChronoUnit.DAYS);
+    }
+
+    @Test
+    @DisplayName("Should never schedule overlapping showtimes under concurrent writers")
+    void shouldNotScheduleOverlaps_WhenWritersRace() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Integer>> writers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            writers.add(() -> {
+                start.await();
+                return runWrites();
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        int created = 0;
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (Callable<Integer> writer : writers) {
+                results.add(executor.submit(writer));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                created += result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(created).isPositive();
+        for (String theater : theaters) {
+            List<Showtime> schedule = new ArrayList<>(showtimeRepository.findByTheater(theater));
+            schedule.sort(Comparator.comparing(Showtime::getStartTime));
+            for (int i = 1; i < schedule.size(); i++) {
+                assertThat(schedule.get(i).getStartTime())
+                        .as("showtime %d starts after showtime %d ends",
+                                schedule.get(i).getId(), schedule.get(i - 1).getId())
+                        .isAfter(schedule.get(i - 1).getEndTime());
+            }
+        }
+    }
+
+    /**
+     * Mixes single creates, moves of earlier showtimes to another slot or theater, and small
+     * bulk imports, all aimed at the same few slots so that most of them collide.
+     */
+    private int runWrites() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < WRITES_PER_THREAD; i++) {
+            try {
+                int kind = random.nextInt(4);
+                if (kind == 0 && !created.isEmpty()) {
+                    Long id = created.get(random.nextInt(created.size()));
+                    showtimeService.updateShowtime(id, randomShowtime(random));
+                } else if (kind == 1) {
+                    BulkShowtimeDTO bulk = new BulkShowtimeDTO();
+                    bulk.setShowtimes(List.of(randomShowtime(random), randomShowtime(random)));
+                    showtimeService.createShowtimes(bulk).getShowtimes()
+                            .forEach(showtime -> created.add(showtime.getId()));
+                } else {
+                    created.add(showtimeService.createShowtime(randomShowtime(random)).getId());
+                }
+            } catch (IllegalArgumentException e) {
+                // Overlap rejected, which is the expected outcome for most writes
+            }
+        }
+        return created.size();
+    }
+
+    private ShowtimeDTO randomShowtime(ThreadLocalRandom random) {
+        LocalDateTime startTime = dayStart.plusMinutes(30L * random.nextInt(SLOTS));
+        ShowtimeDTO dto = new ShowtimeDTO();
+        dto.setMovieId(movieId);
+        dto.setTheater(theaters.get(random.nextInt(theaters.size())));
+        dto.setPrice(12.99);
+        dto.setStartTime(startTime);
+        dto.setEndTime(startTime.plusMinutes(90));
+        return dto;
+    }
+}
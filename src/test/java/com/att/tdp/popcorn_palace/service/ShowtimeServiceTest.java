@@ -1,10 +1,25 @@
 package com.att.tdp.popcorn_palace.service;
 
+import com.att.tdp.popcorn_palace.dto.BulkShowtimeDTO;
 import com.att.tdp.popcorn_palace.dto.ShowtimeDTO;
+import com.att.tdp.popcorn_palace.dto.ShowtimeSearchDTO;
+import com.att.tdp.popcorn_palace.index.DailyScheduleSnapshots;
+import com.att.tdp.popcorn_palace.index.MovieCatalogIndex;
+import com.att.tdp.popcorn_palace.index.ScheduleSnapshot;
+import com.att.tdp.popcorn_palace.index.SeatOccupancyIndex;
+import com.att.tdp.popcorn_palace.index.ShowtimeCache;
+import com.att.tdp.popcorn_palace.index.ShowtimeScheduleIndex;
+import com.att.tdp.popcorn_palace.model.BulkShowtimeResult;
+import com.att.tdp.popcorn_palace.model.DeletionProgress;
 import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.SeatMap;
 import com.att.tdp.popcorn_palace.model.Showtime;
-import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.model.ShowtimeConflict;
+import com.att.tdp.popcorn_palace.model.ShowtimePage;
+import com.att.tdp.popcorn_palace.repository.CascadeDeleteRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeBatchRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.util.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,13 +29,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +52,31 @@ class ShowtimeServiceTest {
     private ShowtimeRepository showtimeRepository;
 
     @Mock
-    private MovieRepository movieRepository;
+    private MovieCatalogIndex movieCatalogIndex;
+
+    @Mock
+    private SeatOccupancyIndex seatOccupancyIndex;
+
+    @Mock
+    private TheaterService theaterService;
+
+    @Mock
+    private ShowtimeScheduleIndex showtimeScheduleIndex;
+
+    @Mock
+    private ShowtimeBatchRepository showtimeBatchRepository;
+
+    @Mock
+    private DailyScheduleSnapshots dailyScheduleSnapshots;
+
+    @Mock
+    private ShowtimeCache showtimeCache;
+
+    @Mock
+    private CascadeDeleteRepository cascadeDeleteRepository;
+
+    @Mock
+    private SeatHoldService seatHoldService;
 
     @InjectMocks
     private ShowtimeService showtimeService;
@@ -50,6 +95,9 @@ class ShowtimeServiceTest {
     void setUp() {
         testMovie = createMovie();
         testShowtimeDTO = createShowtimeDTO();
+        // Read through to the mocked repository, as the real cache does on a miss
+        lenient().when(showtimeCache.findById(any()))
+                .thenAnswer(invocation -> showtimeRepository.findById(invocation.getArgument(0)));
     }
 
     @Nested
@@ -59,8 +107,7 @@ class ShowtimeServiceTest {
         @Test
         @DisplayName("Should create showtime when valid data is provided")
         void shouldCreateShowtime_WhenValidDataProvided() {
-            when(movieRepository.findById(MOVIE_ID)).thenReturn(Optional.of(testMovie));
-            when(showtimeRepository.findOverlappingShowtimes(any(), any(), any())).thenReturn(List.of());
+            when(movieCatalogIndex.findById(MOVIE_ID)).thenReturn(Optional.of(testMovie));
             when(showtimeRepository.save(any(Showtime.class))).thenAnswer(invocation -> {
                 Showtime showtime = invocation.getArgument(0);
                 showtime.setId(1L);
@@ -76,39 +123,174 @@ class ShowtimeServiceTest {
             assertThat(result.getStartTime()).isEqualTo(START_TIME);
             assertThat(result.getEndTime()).isEqualTo(END_TIME);
 
-            verify(movieRepository).findById(MOVIE_ID);
-            verify(showtimeRepository).findOverlappingShowtimes(any(), any(), any());
+            verify(movieCatalogIndex).findById(MOVIE_ID);
+            verify(showtimeScheduleIndex).findOverlapping(THEATER, START_TIME, END_TIME);
+            verify(showtimeRepository, never()).findOverlappingShowtimes(any(), any(), any());
+            verify(theaterService).getOrRegisterTheater(THEATER);
             verify(showtimeRepository).save(any(Showtime.class));
+            verify(showtimeScheduleIndex).add(result);
+            verify(dailyScheduleSnapshots).add(result);
         }
 
         @Test
         @DisplayName("Should throw exception when movie does not exist")
         void shouldThrowException_WhenMovieDoesNotExist() {
-            when(movieRepository.findById(MOVIE_ID)).thenReturn(Optional.empty());
+            when(movieCatalogIndex.findById(MOVIE_ID)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> showtimeService.createShowtime(testShowtimeDTO))
                     .isInstanceOf(EntityNotFoundException.class)
                     .hasMessage("Movie not found with ID: " + MOVIE_ID);
 
-            verify(movieRepository).findById(MOVIE_ID);
+            verify(movieCatalogIndex).findById(MOVIE_ID);
             verify(showtimeRepository, never()).save(any(Showtime.class));
         }
 
         @Test
         @DisplayName("Should throw exception when overlapping showtimes exist")
         void shouldThrowException_WhenOverlappingShowtimesExist() {
-            when(movieRepository.findById(MOVIE_ID)).thenReturn(Optional.of(testMovie));
+            when(movieCatalogIndex.findById(MOVIE_ID)).thenReturn(Optional.of(testMovie));
+            when(showtimeScheduleIndex.findOverlapping(THEATER, START_TIME, END_TIME)).thenReturn(List.of(2L));
             when(showtimeRepository.findOverlappingShowtimes(any(), any(), any()))
-                    .thenReturn(List.of(new Showtime()));
+                    .thenReturn(List.of(createShowtime(2L)));
 
             assertThatThrownBy(() -> showtimeService.createShowtime(testShowtimeDTO))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessage("There are overlapping showtimes in this theater");
 
-            verify(movieRepository).findById(MOVIE_ID);
+            verify(movieCatalogIndex).findById(MOVIE_ID);
             verify(showtimeRepository).findOverlappingShowtimes(any(), any(), any());
             verify(showtimeRepository, never()).save(any(Showtime.class));
         }
+
+        @Test
+        @DisplayName("Should reload a stale schedule instead of rejecting when the table has no overlap")
+        void shouldEvictSchedule_WhenOverlapNotConfirmedByTable() {
+            when(movieCatalogIndex.findById(MOVIE_ID)).thenReturn(Optional.of(testMovie));
+            when(showtimeScheduleIndex.findOverlapping(THEATER, START_TIME, END_TIME)).thenReturn(List.of(2L));
+            when(showtimeRepository.findOverlappingShowtimes(any(), any(), any())).thenReturn(List.of());
+            when(showtimeRepository.save(any(Showtime.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            showtimeService.createShowtime(testShowtimeDTO);
+
+            verify(showtimeScheduleIndex).evict(THEATER);
+            verify(showtimeRepository).save(any(Showtime.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Create Showtime Tests")
+    class BulkCreateShowtimeTests {
+
+        @Test
+        @DisplayName("Should insert all rows in one batch when nothing overlaps")
+        void shouldInsertAllRows_WhenNoConflicts() {
+            BulkShowtimeDTO bulk = createBulk(
+                    createShowtimeDTO(THEATER, START_TIME, END_TIME),
+                    createShowtimeDTO(THEATER, END_TIME.plusMinutes(15), END_TIME.plusHours(3)),
+                    createShowtimeDTO("Theater 2", START_TIME, END_TIME));
+            when(movieCatalogIndex.findExistingIds(anyCollection())).thenReturn(Set.of(MOVIE_ID));
+            when(showtimeBatchRepository.insertAll(anyList())).thenAnswer(invocation -> {
+                List<Showtime> showtimes = invocation.getArgument(0);
+                for (int i = 0; i < showtimes.size(); i++) {
+                    showtimes.get(i).setId(i + 1L);
+                }
+                return showtimes;
+            });
+
+            BulkShowtimeResult result = showtimeService.createShowtimes(bulk);
+
+            assertThat(result.hasConflicts()).isFalse();
+            assertThat(result.getCreated()).isEqualTo(3);
+            assertThat(result.getShowtimes()).extracting(Showtime::getId).containsExactly(1L, 2L, 3L);
+            verify(movieCatalogIndex).findExistingIds(Set.of(MOVIE_ID));
+            verify(showtimeRepository).findOverlappingShowtimes(THEATER, START_TIME, END_TIME.plusHours(3));
+            verify(showtimeRepository).findOverlappingShowtimes("Theater 2", START_TIME, END_TIME);
+            verify(theaterService).getOrRegisterTheater(THEATER);
+            verify(theaterService).getOrRegisterTheater("Theater 2");
+            verify(showtimeBatchRepository).insertAll(anyList());
+            verify(showtimeScheduleIndex, times(3)).add(any(Showtime.class));
+        }
+
+        @Test
+        @DisplayName("Should report rows overlapping each other or existing showtimes and insert nothing")
+        void shouldReportConflicts_WhenRowsOverlap() {
+            Showtime existing = createShowtime(7L);
+            BulkShowtimeDTO bulk = createBulk(
+                    createShowtimeDTO(THEATER, START_TIME.plusHours(1), END_TIME),
+                    createShowtimeDTO(THEATER, END_TIME.plusHours(1), END_TIME.plusHours(4)),
+                    createShowtimeDTO(THEATER, END_TIME.plusHours(3), END_TIME.plusHours(5)),
+                    createShowtimeDTO(THEATER, END_TIME.plusHours(6), END_TIME.plusHours(7)));
+            when(movieCatalogIndex.findExistingIds(anyCollection())).thenReturn(Set.of(MOVIE_ID));
+            when(showtimeRepository.findOverlappingShowtimes(eq(THEATER), any(), any())).thenReturn(List.of(existing));
+
+            BulkShowtimeResult result = showtimeService.createShowtimes(bulk);
+
+            assertThat(result.getCreated()).isZero();
+            assertThat(result.getConflicts())
+                    .extracting(ShowtimeConflict::getRow, ShowtimeConflict::getConflictingRow,
+                            ShowtimeConflict::getConflictingShowtimeId)
+                    .containsExactly(
+                            tuple(0, null, 7L),
+                            tuple(1, 2, null),
+                            tuple(2, 1, null));
+            verify(theaterService, never()).getOrRegisterTheater(any());
+            verifyNoInteractions(showtimeBatchRepository);
+        }
+
+        @Test
+        @DisplayName("Should report a row nested inside a longer one even when a later row overlaps both")
+        void shouldReportEveryOverlappingRow_WhenIntervalsNest() {
+            BulkShowtimeDTO bulk = createBulk(
+                    createShowtimeDTO(THEATER, START_TIME, START_TIME.plusHours(10)),
+                    createShowtimeDTO(THEATER, START_TIME.plusHours(1), START_TIME.plusHours(2)),
+                    createShowtimeDTO(THEATER, START_TIME.plusHours(5), START_TIME.plusHours(6)));
+            when(movieCatalogIndex.findExistingIds(anyCollection())).thenReturn(Set.of(MOVIE_ID));
+
+            BulkShowtimeResult result = showtimeService.createShowtimes(bulk);
+
+            assertThat(result.getConflicts())
+                    .extracting(ShowtimeConflict::getRow, ShowtimeConflict::getConflictingRow)
+                    .containsExactly(tuple(0, 1), tuple(1, 0), tuple(2, 0));
+        }
+
+        @Test
+        @DisplayName("Should insert the rows that do not conflict when importing a streamed batch")
+        void shouldInsertAcceptedRows_WhenImportingBatch() {
+            Showtime existing = createShowtime(7L);
+            List<ShowtimeDTO> rows = List.of(
+                    createShowtimeDTO(THEATER, START_TIME.plusHours(1), END_TIME),
+                    createShowtimeDTO(THEATER, END_TIME.plusHours(1), END_TIME.plusHours(3)));
+            when(movieCatalogIndex.findExistingIds(anyCollection())).thenReturn(Set.of(MOVIE_ID));
+            when(showtimeRepository.findOverlappingShowtimes(eq(THEATER), any(), any())).thenReturn(List.of(existing));
+            when(showtimeBatchRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            BulkShowtimeResult result = showtimeService.importShowtimes(rows);
+
+            assertThat(result.getConflicts()).extracting(ShowtimeConflict::getRow).containsExactly(0);
+            assertThat(result.getShowtimes()).extracting(Showtime::getStartTime).containsExactly(END_TIME.plusHours(1));
+            verify(theaterService).getOrRegisterTheater(THEATER);
+        }
+
+        @Test
+        @DisplayName("Should resolve all movies with one query and report unknown ones")
+        void shouldReportRow_WhenMovieDoesNotExist() {
+            ShowtimeDTO unknownMovie = createShowtimeDTO(THEATER, START_TIME, END_TIME);
+            unknownMovie.setMovieId(99L);
+            ShowtimeDTO backwards = createShowtimeDTO(THEATER, END_TIME.plusHours(2), END_TIME.plusHours(1));
+            BulkShowtimeDTO bulk = createBulk(unknownMovie, backwards);
+            when(movieCatalogIndex.findExistingIds(anyCollection())).thenReturn(Set.of(MOVIE_ID));
+
+            BulkShowtimeResult result = showtimeService.createShowtimes(bulk);
+
+            assertThat(result.getConflicts())
+                    .extracting(ShowtimeConflict::getRow, ShowtimeConflict::getReason)
+                    .containsExactly(
+                            tuple(0, "Movie not found with ID: 99"),
+                            tuple(1, "End time must be after start time"));
+            verify(movieCatalogIndex).findExistingIds(Set.of(MOVIE_ID, 99L));
+            verify(movieCatalogIndex, never()).findById(any());
+            verifyNoInteractions(showtimeBatchRepository);
+        }
     }
 
     @Nested
@@ -149,6 +331,52 @@ class ShowtimeServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Search Showtime Tests")
+    class SearchShowtimeTests {
+
+        @Test
+        @DisplayName("Should return a cursor pointing at the last row when more rows follow")
+        void shouldReturnNextCursor_WhenMoreRowsFollow() {
+            ShowtimeSearchDTO search = new ShowtimeSearchDTO();
+            search.setTheater(THEATER);
+            search.setLimit(2);
+            when(showtimeRepository.search(THEATER, null, null, null, null, null, 3))
+                    .thenReturn(List.of(createShowtime(1L), createShowtime(2L), createShowtime(3L)));
+
+            ShowtimePage page = showtimeService.searchShowtimes(search);
+
+            assertThat(page.getShowtimes()).extracting(Showtime::getId).containsExactly(1L, 2L);
+            assertThat(KeysetCursor.decode(page.getNextCursor(), 2)).containsExactly(START_TIME.toString(), "2");
+        }
+
+        @Test
+        @DisplayName("Should seek past the cursor and return no cursor on the last page")
+        void shouldSeekPastCursor_WhenCursorGiven() {
+            ShowtimeSearchDTO search = new ShowtimeSearchDTO();
+            search.setCursor(KeysetCursor.encode(START_TIME, 2L));
+            when(showtimeRepository.search(null, null, null, null, START_TIME, 2L, ShowtimeSearchDTO.DEFAULT_LIMIT + 1))
+                    .thenReturn(List.of(createShowtime(3L)));
+
+            ShowtimePage page = showtimeService.searchShowtimes(search);
+
+            assertThat(page.getShowtimes()).hasSize(1);
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor whose keys do not parse")
+        void shouldThrowException_WhenCursorInvalid() {
+            ShowtimeSearchDTO search = new ShowtimeSearchDTO();
+            search.setCursor(KeysetCursor.encode("yesterday", 2L));
+
+            assertThatThrownBy(() -> showtimeService.searchShowtimes(search))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid cursor");
+            verifyNoInteractions(showtimeRepository);
+        }
+    }
+
     @Nested
     @DisplayName("Update Showtime Tests")
     class UpdateShowtimeTests {
@@ -159,8 +387,9 @@ class ShowtimeServiceTest {
             Long showtimeId = 1L;
             Showtime existingShowtime = createShowtime(showtimeId);
             when(showtimeRepository.findById(showtimeId)).thenReturn(Optional.of(existingShowtime));
-            when(movieRepository.findById(MOVIE_ID)).thenReturn(Optional.of(testMovie));
-            when(showtimeRepository.findOverlappingShowtimes(any(), any(), any())).thenReturn(List.of());
+            when(movieCatalogIndex.findById(MOVIE_ID)).thenReturn(Optional.of(testMovie));
+            // The showtime overlaps only with its own current slot
+            when(showtimeScheduleIndex.findOverlapping(THEATER, START_TIME, END_TIME)).thenReturn(List.of(showtimeId));
             when(showtimeRepository.save(any(Showtime.class))).thenReturn(existingShowtime);
 
             Showtime result = showtimeService.updateShowtime(showtimeId, testShowtimeDTO);
@@ -174,9 +403,29 @@ class ShowtimeServiceTest {
             assertThat(result.getEndTime()).isEqualTo(END_TIME);
 
             verify(showtimeRepository).findById(showtimeId);
-            verify(movieRepository).findById(MOVIE_ID);
-            verify(showtimeRepository).findOverlappingShowtimes(any(), any(), any());
+            verify(movieCatalogIndex).findById(MOVIE_ID);
+            verify(showtimeRepository, never()).findOverlappingShowtimes(any(), any(), any());
             verify(showtimeRepository).save(any(Showtime.class));
+            verify(showtimeScheduleIndex).remove(THEATER, showtimeId);
+            verify(showtimeScheduleIndex).add(existingShowtime);
+            verify(showtimeCache).invalidate(showtimeId);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when the new slot overlaps another showtime")
+        void shouldThrowException_WhenOverlappingAnotherShowtime() {
+            Long showtimeId = 1L;
+            when(showtimeRepository.findById(showtimeId)).thenReturn(Optional.of(createShowtime(showtimeId)));
+            when(movieCatalogIndex.findById(MOVIE_ID)).thenReturn(Optional.of(testMovie));
+            when(showtimeScheduleIndex.findOverlapping(THEATER, START_TIME, END_TIME)).thenReturn(List.of(showtimeId, 2L));
+            when(showtimeRepository.findOverlappingShowtimes(any(), any(), any()))
+                    .thenReturn(List.of(createShowtime(showtimeId), createShowtime(2L)));
+
+            assertThatThrownBy(() -> showtimeService.updateShowtime(showtimeId, testShowtimeDTO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("There are overlapping showtimes in this theater");
+
+            verify(showtimeRepository, never()).save(any(Showtime.class));
         }
 
         @Test
@@ -199,14 +448,14 @@ class ShowtimeServiceTest {
             Long showtimeId = 1L;
             Showtime existingShowtime = createShowtime(showtimeId);
             when(showtimeRepository.findById(showtimeId)).thenReturn(Optional.of(existingShowtime));
-            when(movieRepository.findById(MOVIE_ID)).thenReturn(Optional.empty());
+            when(movieCatalogIndex.findById(MOVIE_ID)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> showtimeService.updateShowtime(showtimeId, testShowtimeDTO))
                     .isInstanceOf(EntityNotFoundException.class)
                     .hasMessage("Movie not found with ID: " + MOVIE_ID);
 
             verify(showtimeRepository).findById(showtimeId);
-            verify(movieRepository).findById(MOVIE_ID);
+            verify(movieCatalogIndex).findById(MOVIE_ID);
             verify(showtimeRepository, never()).save(any(Showtime.class));
         }
     }
@@ -219,26 +468,121 @@ class ShowtimeServiceTest {
         @DisplayName("Should delete showtime when ID exists")
         void shouldDeleteShowtime_WhenIdExists() {
             Long showtimeId = 1L;
-            when(showtimeRepository.existsById(showtimeId)).thenReturn(true);
+            when(showtimeRepository.findById(showtimeId)).thenReturn(Optional.of(createShowtime(showtimeId)));
 
             showtimeService.deleteShowtime(showtimeId);
 
-            verify(showtimeRepository).existsById(showtimeId);
-            verify(showtimeRepository).deleteById(showtimeId);
+            verify(showtimeRepository).findById(showtimeId);
+            verify(cascadeDeleteRepository).deleteBookingsOfShowtimes(List.of(showtimeId));
+            verify(cascadeDeleteRepository).deleteShowtimes(List.of(showtimeId));
+            verify(showtimeScheduleIndex).remove(THEATER, showtimeId);
+            verify(showtimeCache).invalidate(showtimeId);
+            verify(seatHoldService).releaseHoldsOf(showtimeId);
+            verify(seatOccupancyIndex).forget(showtimeId);
         }
 
         @Test
         @DisplayName("Should throw exception when ID does not exist")
         void shouldThrowException_WhenIdDoesNotExist() {
             Long showtimeId = 999L;
-            when(showtimeRepository.existsById(showtimeId)).thenReturn(false);
+            when(showtimeRepository.findById(showtimeId)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> showtimeService.deleteShowtime(showtimeId))
                     .isInstanceOf(EntityNotFoundException.class)
                     .hasMessage("Showtime not found with ID: " + showtimeId);
 
-            verify(showtimeRepository).existsById(showtimeId);
-            verify(showtimeRepository, never()).deleteById(any());
+            verify(showtimeRepository).findById(showtimeId);
+            verifyNoInteractions(cascadeDeleteRepository);
+        }
+
+        @Test
+        @DisplayName("Should delete a chunk of a movie's showtimes with their bookings and evict them")
+        void shouldDeleteChunkOfMovieShowtimes() {
+            when(cascadeDeleteRepository.findShowtimesOfMovie(MOVIE_ID, 2))
+                    .thenReturn(List.of(createShowtime(1L), createShowtime(2L)));
+            when(cascadeDeleteRepository.deleteBookingsOfShowtimes(List.of(1L, 2L))).thenReturn(7);
+            when(cascadeDeleteRepository.deleteShowtimes(List.of(1L, 2L))).thenReturn(2);
+
+            DeletionProgress result = showtimeService.deleteShowtimesOfMovie(MOVIE_ID, 2);
+
+            assertThat(result.getShowtimes()).isEqualTo(2);
+            assertThat(result.getBookings()).isEqualTo(7);
+            verify(showtimeScheduleIndex).remove(THEATER, 1L);
+            verify(dailyScheduleSnapshots).remove(THEATER, START_TIME.toLocalDate(), 2L);
+            verify(showtimeCache).invalidate(2L);
+            verify(seatHoldService).releaseHoldsOf(1L);
+            verify(seatOccupancyIndex).forget(1L);
+        }
+
+        @Test
+        @DisplayName("Should issue no deletes when the movie has no showtimes left")
+        void shouldSkipDeletes_WhenNoShowtimesLeft() {
+            when(cascadeDeleteRepository.findShowtimesOfMovie(MOVIE_ID, 2)).thenReturn(List.of());
+
+            DeletionProgress result = showtimeService.deleteShowtimesOfMovie(MOVIE_ID, 2);
+
+            assertThat(result.getShowtimes()).isZero();
+            verify(cascadeDeleteRepository, never()).deleteShowtimes(anyCollection());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Seat Map Tests")
+    class GetSeatMapTests {
+
+        @Test
+        @DisplayName("Should serve a loaded showtime from memory without a database hit")
+        void shouldServeFromMemory_WhenLoaded() {
+            Long showtimeId = 1L;
+            SeatMap seatMap = new SeatMap(showtimeId, 200, 0, "", "\"1-1-0\"");
+            when(seatOccupancyIndex.isLoaded(showtimeId)).thenReturn(true);
+            when(seatOccupancyIndex.seatMap(showtimeId)).thenReturn(seatMap);
+
+            assertThat(showtimeService.getSeatMap(showtimeId)).isSameAs(seatMap);
+            verifyNoInteractions(showtimeRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when showtime does not exist")
+        void shouldThrowException_WhenShowtimeDoesNotExist() {
+            Long showtimeId = 999L;
+            when(seatOccupancyIndex.isLoaded(showtimeId)).thenReturn(false);
+            when(showtimeRepository.existsById(showtimeId)).thenReturn(false);
+
+            assertThatThrownBy(() -> showtimeService.getSeatMap(showtimeId))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage("Showtime not found with ID: " + showtimeId);
+            verify(seatOccupancyIndex, never()).seatMap(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Daily Schedule Tests")
+    class GetDailyScheduleTests {
+
+        @Test
+        @DisplayName("Should serve a loaded day without looking up the theater")
+        void shouldServeSnapshot_WhenDayLoaded() {
+            LocalDate date = START_TIME.toLocalDate();
+            ScheduleSnapshot snapshot = mock(ScheduleSnapshot.class);
+            when(dailyScheduleSnapshots.isLoaded(THEATER, date)).thenReturn(true);
+            when(dailyScheduleSnapshots.snapshot(THEATER, date)).thenReturn(snapshot);
+
+            assertThat(showtimeService.getDailySchedule(THEATER, date)).isSameAs(snapshot);
+            verifyNoInteractions(theaterService, showtimeRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject unknown theaters before loading their day")
+        void shouldThrowException_WhenTheaterUnknown() {
+            LocalDate date = START_TIME.toLocalDate();
+            when(dailyScheduleSnapshots.isLoaded("Nowhere", date)).thenReturn(false);
+            when(theaterService.getTheaterByName("Nowhere"))
+                    .thenThrow(new EntityNotFoundException("Theater not found with name: Nowhere"));
+
+            assertThatThrownBy(() -> showtimeService.getDailySchedule("Nowhere", date))
+                    .isInstanceOf(EntityNotFoundException.class);
+            verify(dailyScheduleSnapshots, never()).snapshot(any(), any());
         }
     }
 
@@ -259,6 +603,20 @@ class ShowtimeServiceTest {
         return dto;
     }
 
+    private ShowtimeDTO createShowtimeDTO(String theater, LocalDateTime startTime, LocalDateTime endTime) {
+        ShowtimeDTO dto = createShowtimeDTO();
+        dto.setTheater(theater);
+        dto.setStartTime(startTime);
+        dto.setEndTime(endTime);
+        return dto;
+    }
+
+    private BulkShowtimeDTO createBulk(ShowtimeDTO... showtimes) {
+        BulkShowtimeDTO bulk = new BulkShowtimeDTO();
+        bulk.setShowtimes(List.of(showtimes));
+        return bulk;
+    }
+
     private Showtime createShowtime(Long id) {
         Showtime showtime = new Showtime();
         showtime.setId(id);
@@ -0,0 +1,146 @@
+package com.att.tdp.popcorn_palace.service;
+
+import com.att.tdp.popcorn_palace.dto.TheaterDTO;
+import com.att.tdp.popcorn_palace.model.Theater;
+import com.att.tdp.popcorn_palace.repository.TheaterRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Theater Service Tests")
+class TheaterServiceTest {
+
+    private static final String THEATER_NAME = "Theater 1";
+
+    @Mock
+    private TheaterRepository theaterRepository;
+
+    private TheaterService theaterService;
+
+    @BeforeEach
+    void setUp() {
+        theaterService = new TheaterService(theaterRepository, 10, 20, false);
+    }
+
+    @Nested
+    @DisplayName("Create Theater Tests")
+    class CreateTheaterTests {
+
+        @Test
+        @DisplayName("Should create theater when name is unused")
+        void shouldCreateTheater_WhenNameIsUnused() {
+            when(theaterRepository.existsByName(THEATER_NAME)).thenReturn(false);
+            when(theaterRepository.save(any(Theater.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Theater result = theaterService.createTheater(createTheaterDTO());
+
+            assertThat(result.getName()).isEqualTo(THEATER_NAME);
+            assertThat(result.getCapacity()).isEqualTo(150);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when name is taken")
+        void shouldThrowException_WhenNameIsTaken() {
+            when(theaterRepository.existsByName(THEATER_NAME)).thenReturn(true);
+
+            assertThatThrownBy(() -> theaterService.createTheater(createTheaterDTO()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("A theater with this name already exists");
+            verify(theaterRepository, never()).save(any(Theater.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Theater Tests")
+    class GetTheaterTests {
+
+        @Test
+        @DisplayName("Should read a theater from the database only once")
+        void shouldCacheTheater() {
+            when(theaterRepository.findByName(THEATER_NAME)).thenReturn(Optional.of(createTheater()));
+
+            theaterService.getTheaterByName(THEATER_NAME);
+            Theater result = theaterService.getTheaterByName(THEATER_NAME);
+
+            assertThat(result.getCapacity()).isEqualTo(150);
+            verify(theaterRepository, times(1)).findByName(THEATER_NAME);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when theater does not exist")
+        void shouldThrowException_WhenTheaterDoesNotExist() {
+            when(theaterRepository.findByName("Unknown")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> theaterService.getTheaterByName("Unknown"))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage("Theater not found with name: Unknown");
+        }
+
+        @Test
+        @DisplayName("Should reject a showtime's unknown theater unless auto-registration is enabled")
+        void shouldRejectUnknownTheater_ByDefault() {
+            when(theaterRepository.findByName("New Hall")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> theaterService.getOrRegisterTheater("New Hall"))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage("Theater not found with name: New Hall");
+            verify(theaterRepository, never()).save(any(Theater.class));
+        }
+
+        @Test
+        @DisplayName("Should register an unknown theater with the default layout when enabled")
+        void shouldRegisterUnknownTheater_WhenAutoRegisterEnabled() {
+            theaterService = new TheaterService(theaterRepository, 10, 20, true);
+            when(theaterRepository.findByName("New Hall")).thenReturn(Optional.empty());
+            when(theaterRepository.save(any(Theater.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Theater result = theaterService.getOrRegisterTheater("New Hall");
+
+            assertThat(result.getRowCount()).isEqualTo(10);
+            assertThat(result.getSeatsPerRow()).isEqualTo(20);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validate Seats Tests")
+    class ValidateSeatsTests {
+
+        @Test
+        @DisplayName("Should accept seats within the layout and reject the rest")
+        void shouldRejectSeatsOutsideLayout() {
+            when(theaterRepository.findByName(THEATER_NAME)).thenReturn(Optional.of(createTheater()));
+
+            theaterService.validateSeats(THEATER_NAME, List.of(1, 150));
+
+            assertThatThrownBy(() -> theaterService.validateSeats(THEATER_NAME, List.of(1, 151)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Seat 151 does not exist in Theater 1, which has 150 seats");
+        }
+    }
+
+    private Theater createTheater() {
+        return new Theater(1L, THEATER_NAME, 10, 15);
+    }
+
+    private TheaterDTO createTheaterDTO() {
+        TheaterDTO dto = new TheaterDTO();
+        dto.setName(THEATER_NAME);
+        dto.setRows(10);
+        dto.setSeatsPerRow(15);
+        return dto;
+    }
+}
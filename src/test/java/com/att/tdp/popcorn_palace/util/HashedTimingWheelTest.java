@@ -0,0 +1,72 @@
+package com.att.tdp.popcorn_palace.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Hashed Timing Wheel Tests")
+class HashedTimingWheelTest {
+
+    private HashedTimingWheel timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        // A small wheel, so delays longer than one rotation are exercised too
+        timingWheel = new HashedTimingWheel("test-wheel", Duration.ofMillis(10), 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.close();
+    }
+
+    @Test
+    @DisplayName("Should run tasks after their delay, including delays spanning several rotations")
+    void shouldRunTasksAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        long start = System.nanoTime();
+
+        timingWheel.schedule(latch::countDown, Duration.ofMillis(20));
+        timingWheel.schedule(latch::countDown, Duration.ofMillis(100));
+        timingWheel.schedule(latch::countDown, Duration.ofMillis(250));
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    @DisplayName("Should not run cancelled tasks")
+    void shouldNotRunCancelledTasks() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch marker = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout timeout = timingWheel.schedule(runs::incrementAndGet, Duration.ofMillis(30));
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        timingWheel.schedule(marker::countDown, Duration.ofMillis(60));
+
+        assertThat(marker.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep running when a task throws")
+    void shouldSurviveFailingTasks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timingWheel.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, Duration.ofMillis(10));
+        timingWheel.schedule(latch::countDown, Duration.ofMillis(30));
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,43 @@
+package com.att.tdp.popcorn_palace.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Keyset Cursor Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should decode the keys it encoded")
+    void shouldRoundTripKeys() {
+        LocalDateTime startTime = LocalDateTime.of(2030, 1, 1, 10, 30);
+
+        String cursor = KeysetCursor.encode(startTime, 42L);
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(KeysetCursor.decode(cursor, 2)).containsExactly(startTime.toString(), "42");
+    }
+
+    @Test
+    @DisplayName("Should keep separators inside the last key")
+    void shouldKeepSeparatorsInLastKey() {
+        String cursor = KeysetCursor.encode(7L, "Fast | Furious");
+
+        assertThat(KeysetCursor.decode(cursor, 2)).containsExactly("7", "Fast | Furious");
+    }
+
+    @Test
+    @DisplayName("Should reject cursors that are not base64 or have too few keys")
+    void shouldRejectInvalidCursors() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.encode("only"), 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+}
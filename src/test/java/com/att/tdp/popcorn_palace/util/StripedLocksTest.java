@@ -0,0 +1,34 @@
+package com.att.tdp.popcorn_palace.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Striped Locks Tests")
+class StripedLocksTest {
+
+    @Test
+    @DisplayName("Should round the stripe count up to a power of two")
+    void shouldRoundStripesToPowerOfTwo() {
+        assertThat(new StripedLocks(5).size()).isEqualTo(8);
+        assertThat(new StripedLocks(8).size()).isEqualTo(8);
+        assertThat(new StripedLocks(1).size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should list each stripe once in the same order whatever the key order")
+    void shouldListStripesOnceInFixedOrder() {
+        StripedLocks locks = new StripedLocks(64);
+        List<String> keys = List.of("Theater 1", "Theater 2", "IMAX", "Theater 1");
+
+        List<ReentrantLock> forward = locks.locksFor(keys);
+        List<ReentrantLock> backward = locks.locksFor(keys.reversed());
+
+        assertThat(forward).doesNotHaveDuplicates().containsExactlyElementsOf(backward);
+        assertThat(forward).contains(locks.lockFor("Theater 1"), locks.lockFor("Theater 2"), locks.lockFor("IMAX"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.att.tdp.popcorn_palace.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Time Ordered UUID Generator Tests")
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    @DisplayName("Should produce RFC 4122 version 7 UUIDs carrying the current time")
+    void shouldProduceVersion7Uuids() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuidGenerator.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // The sequence may borrow from the next milliseconds under heavy load from earlier tests
+        assertThat(TimeOrderedUuidGenerator.timestampOf(uuid)).isBetween(before, after + 1000);
+    }
+
+    @Test
+    @DisplayName("Should be strictly increasing within one thread, even inside the same millisecond")
+    void shouldBeStrictlyIncreasing() {
+        UUID previous = TimeOrderedUuidGenerator.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = TimeOrderedUuidGenerator.next();
+            assertThat(current).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("Should never repeat a value across concurrent threads")
+    void shouldBeUniqueAcrossThreads() throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<List<UUID>> results = new ConcurrentLinkedQueue<>();
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                List<UUID> generated = new ArrayList<>(perThread);
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    generated.add(TimeOrderedUuidGenerator.next());
+                }
+                results.add(generated);
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        Set<UUID> all = new HashSet<>();
+        for (List<UUID> generated : results) {
+            // Each thread observes its own values in increasing order
+            List<UUID> sorted = new ArrayList<>(generated);
+            Collections.sort(sorted);
+            assertThat(generated).isEqualTo(sorted);
+            all.addAll(generated);
+        }
+        assertThat(all).hasSize(threads * perThread);
+    }
+}